@@ -0,0 +1,81 @@
+package seedu.address;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * An entry point that runs a script of commands on the address book without the Ui, as the {@code run} command does,
+ * and prints the result. It reads the same config, user prefs and data file as {@link MainApp}, whose components it
+ * uses without launching it. It is not a JavaFX application itself, so that the Java launcher calls its main method.
+ *
+ * Usage: {@code HeadlessApp SCRIPT_FILE [--config=CONFIG_FILE]}
+ */
+public class HeadlessApp {
+
+    public static final String MESSAGE_USAGE = "Usage: HeadlessApp SCRIPT_FILE [--config=CONFIG_FILE]";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    private static final String NAMED_PARAMETER_PREFIX = "--";
+    private static final String NAMED_PARAMETER_SEPARATOR = "=";
+
+    private final MainApp app;
+
+    HeadlessApp(AppParameters appParameters) {
+        app = new MainApp();
+        app.initComponents(appParameters);
+    }
+
+    /**
+     * Runs the script at {@code scriptFilePath}, then waits until its changes are saved and its exports are written.
+     *
+     * @return the exit status, which is 0 if every command of the script succeeded.
+     */
+    int runScript(String scriptFilePath) {
+        logger.info("Running script " + scriptFilePath + " without the Ui");
+        try {
+            CommandResult result = app.logic.execute(RunCommand.COMMAND_WORD + " " + scriptFilePath);
+            System.out.println(result.feedbackToUser);
+            return 0;
+        } catch (CommandException | ParseException e) {
+            System.err.println(e.getMessage());
+            return 1;
+        } finally {
+            app.storage.flushExports();
+            app.storage.flushAddressBook();
+        }
+    }
+
+    /**
+     * Runs the script named by the only unnamed argument, and exits with the status of the script.
+     */
+    public static void main(String[] args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        List<String> unnamedParameters = new ArrayList<>();
+        for (String arg : args) {
+            int separatorIndex = arg.indexOf(NAMED_PARAMETER_SEPARATOR);
+            if (arg.startsWith(NAMED_PARAMETER_PREFIX) && separatorIndex != -1) {
+                namedParameters.put(arg.substring(NAMED_PARAMETER_PREFIX.length(), separatorIndex),
+                        arg.substring(separatorIndex + 1));
+            } else {
+                unnamedParameters.add(arg);
+            }
+        }
+        if (unnamedParameters.size() != 1) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(2);
+        }
+
+        HeadlessApp headlessApp = new HeadlessApp(AppParameters.parse(namedParameters));
+        System.exit(headlessApp.runScript(unnamedParameters.get(0)));
+    }
+}
@@ -17,6 +17,7 @@ import seedu.address.commons.core.Version;
 import seedu.address.commons.events.ui.ExitAppRequestEvent;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
@@ -27,6 +28,8 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournalAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
@@ -58,28 +61,50 @@ public class MainApp extends Application {
         super.init();
 
         AppParameters appParameters = AppParameters.parse(getParameters());
+        initComponents(appParameters);
+
+        ui = new UiManager(logic, config, userPrefs);
+
+        initEventsCenter();
+    }
+
+    /**
+     * Initializes the config, user prefs, storage, model and logic of the application, which do not need the Ui.
+     */
+    protected void initComponents(AppParameters appParameters) {
         config = initConfig(appParameters.getConfigPath());
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new XmlAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
+        storage = new StorageManager(addressBookStorage, userPrefsStorage, userPrefs.getAddressBookSaveDelay());
 
         initLogging(config);
 
         model = initModelManager(storage, userPrefs);
 
         logic = new LogicManager(model, storage);
+    }
 
-        ui = new UiManager(logic, config, userPrefs);
-
-        initEventsCenter();
+    /**
+     * Returns the storage for the address book file in the format chosen in {@code userPrefs}.
+     */
+    private AddressBookStorage initAddressBookStorage(UserPrefs userPrefs) {
+        Path addressBookFilePath = userPrefs.getAddressBookFilePath();
+        switch (userPrefs.getAddressBookFileFormat()) {
+        case BINARY:
+            return new BinaryAddressBookStorage(addressBookFilePath);
+        case JOURNAL:
+            return new JournalAddressBookStorage(addressBookFilePath);
+        default:
+            return new XmlAddressBookStorage(addressBookFilePath);
+        }
     }
 
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * or the last good copy of it will be used instead if errors occur when reading {@code storage}'s address book.
      */
     private Model initModelManager(Storage storage, UserPrefs userPrefs) {
         Optional<ReadOnlyAddressBook> addressBookOptional;
@@ -91,16 +116,35 @@ public class MainApp extends Application {
             }
             initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
         } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. Will be starting with an empty AddressBook");
-            initialData = new AddressBook();
+            logger.warning("Data file not in the correct format. Will be starting with the last good copy of it");
+            initialData = readBackupAddressBook(storage);
         } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will be starting with an empty AddressBook");
-            initialData = new AddressBook();
+            logger.warning("Problem while reading from the file. Will be starting with the last good copy of it");
+            initialData = readBackupAddressBook(storage);
         }
 
         return new ModelManager(initialData, userPrefs);
     }
 
+    /**
+     * Returns the address book in the backup file that {@code storage} keeps of its previous save, or an empty
+     * address book if the backup file is missing or cannot be read either.
+     */
+    private ReadOnlyAddressBook readBackupAddressBook(Storage storage) {
+        Path backupFilePath = FileUtil.getBackupPath(storage.getAddressBookFilePath());
+        try {
+            Optional<ReadOnlyAddressBook> backup = storage.readAddressBook(backupFilePath);
+            if (backup.isPresent()) {
+                logger.info("Loaded the last good copy of the data file from " + backupFilePath);
+                return backup.get();
+            }
+            logger.warning("No copy of the data file found. Will be starting with an empty AddressBook");
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Copy of the data file cannot be read either. Will be starting with an empty AddressBook");
+        }
+        return new AddressBook();
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -187,6 +231,8 @@ public class MainApp extends Application {
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
         ui.stop();
+        storage.cancelExports();
+        storage.flushAddressBook();
         try {
             storage.saveUserPrefs(userPrefs);
         } catch (IOException e) {
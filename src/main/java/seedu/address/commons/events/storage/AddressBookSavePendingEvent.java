@@ -0,0 +1,14 @@
+package seedu.address.commons.events.storage;
+
+import seedu.address.commons.events.BaseEvent;
+
+/**
+ * Indicates that changes to the address book are waiting to be saved to the hard disk.
+ */
+public class AddressBookSavePendingEvent extends BaseEvent {
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName();
+    }
+}
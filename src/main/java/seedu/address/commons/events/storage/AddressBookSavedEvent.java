@@ -0,0 +1,14 @@
+package seedu.address.commons.events.storage;
+
+import seedu.address.commons.events.BaseEvent;
+
+/**
+ * Indicates that all changes to the address book so far have been saved to the hard disk.
+ */
+public class AddressBookSavedEvent extends BaseEvent {
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,34 @@
+package seedu.address.commons.events.storage;
+
+import java.nio.file.Path;
+
+import seedu.address.commons.events.BaseEvent;
+
+/**
+ * Indicates that an export of the address book to a file has finished, was cancelled or failed.
+ */
+public class ExportCompletedEvent extends BaseEvent {
+
+    public final Path file;
+    public final boolean isCancelled;
+    /** The reason the export failed, or null if it did not fail. */
+    public final Exception exception;
+
+    public ExportCompletedEvent(Path file, boolean isCancelled, Exception exception) {
+        this.file = file;
+        this.isCancelled = isCancelled;
+        this.exception = exception;
+    }
+
+    public boolean isSuccessful() {
+        return !isCancelled && exception == null;
+    }
+
+    @Override
+    public String toString() {
+        if (isCancelled) {
+            return "Export to " + file + " cancelled";
+        }
+        return exception == null ? "Exported to " + file : "Export to " + file + " failed: " + exception;
+    }
+}
@@ -0,0 +1,33 @@
+package seedu.address.commons.events.storage;
+
+import java.nio.file.Path;
+
+import seedu.address.commons.events.BaseEvent;
+
+/**
+ * Indicates how much of the address book has been exported to a file so far.
+ */
+public class ExportProgressEvent extends BaseEvent {
+
+    public final Path file;
+    public final int entriesWritten;
+    public final int totalEntries;
+
+    public ExportProgressEvent(Path file, int entriesWritten, int totalEntries) {
+        this.file = file;
+        this.entriesWritten = entriesWritten;
+        this.totalEntries = totalEntries;
+    }
+
+    /**
+     * Returns the percentage of the entries that have been written.
+     */
+    public int getPercentDone() {
+        return totalEntries == 0 ? 100 : (int) (100L * entriesWritten / totalEntries);
+    }
+
+    @Override
+    public String toString() {
+        return "Exported " + entriesWritten + " of " + totalEntries + " entries to " + file;
+    }
+}
@@ -1,6 +1,17 @@
 package seedu.address.commons.util;
 
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
@@ -12,6 +23,8 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_EXTENSION = ".tmp";
+    private static final String BACKUP_FILE_EXTENSION = ".bak";
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -77,7 +90,103 @@ public class FileUtil {
      * Will create the file if it does not exist yet.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        byte[] bytes = content.getBytes(CHARSET);
+        writeAtomically(file, false, out -> out.write(bytes));
+    }
+
+    /**
+     * Returns the path where {@link #writeAtomically(Path, boolean, ContentWriter)} keeps the previous contents of
+     * {@code file}.
+     */
+    public static Path getBackupPath(Path file) {
+        return file.resolveSibling(file.getFileName() + BACKUP_FILE_EXTENSION);
+    }
+
+    /**
+     * Replaces the contents of {@code file} with what {@code writer} writes, creating the file if it does not exist
+     * yet. The contents are written to a temporary file next to {@code file}, forced to the disk and then renamed
+     * over {@code file}, so if the application stops while writing, {@code file} keeps either all of its old
+     * contents or all of the new ones.
+     *
+     * @param keepBackup if true, the old contents are kept in the file at {@link #getBackupPath(Path)}.
+     * @throws E if {@code writer} fails, in which case {@code file} is left unchanged.
+     */
+    public static <E extends Exception> void writeAtomically(Path file, boolean keepBackup, ContentWriter<E> writer)
+            throws IOException, E {
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_EXTENSION);
+        try (FileChannel channel = FileChannel.open(tempFile, CREATE, WRITE, TRUNCATE_EXISTING)) {
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel));
+            writer.writeTo(out);
+            out.flush();
+            channel.force(false);
+        } catch (Exception e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+
+        if (keepBackup && Files.exists(file)) {
+            keepAsBackup(file);
+        }
+        Files.move(tempFile, file, REPLACE_EXISTING, ATOMIC_MOVE);
+        forceDirectoryOf(file);
+    }
+
+    /**
+     * Replaces the contents of {@code file} with what {@code writer} writes, through a buffered channel to
+     * {@code file} itself. Unlike {@link #writeAtomically(Path, boolean, ContentWriter)}, no temporary file is used,
+     * so this suits files that the application does not read back, such as exported files.
+     * The parent directories of {@code file} are not created.
+     *
+     * @throws E if {@code writer} fails, in which case {@code file} is deleted.
+     */
+    public static <E extends Exception> void writeDirectly(Path file, ContentWriter<E> writer) throws IOException, E {
+        boolean isOpened = false;
+        try (FileChannel channel = FileChannel.open(file, CREATE, WRITE, TRUNCATE_EXISTING)) {
+            isOpened = true;
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel));
+            writer.writeTo(out);
+            out.flush();
+        } catch (Exception e) {
+            // A file that could not be opened is left as it is, while a partly written one is closed by now.
+            if (isOpened) {
+                Files.deleteIfExists(file);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Makes the backup file of {@code file} hold the current contents of {@code file}. A hard link is used where
+     * the file system allows it, so that no contents are copied and {@code file} never goes missing.
+     */
+    private static void keepAsBackup(Path file) throws IOException {
+        Path backupFile = getBackupPath(file);
+        Files.deleteIfExists(backupFile);
+        try {
+            Files.createLink(backupFile, file);
+        } catch (IOException | UnsupportedOperationException e) {
+            Files.copy(file, backupFile, REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the renaming of a file in the directory of {@code file} to the disk, where the platform allows it.
+     */
+    private static void forceDirectoryOf(Path file) {
+        Path directory = file.toAbsolutePath().getParent();
+        try (FileChannel channel = FileChannel.open(directory, READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Directories cannot be opened on some platforms, such as Windows, which do not need this either
+        }
+    }
+
+    /**
+     * Writes the contents of a file.
+     */
+    @FunctionalInterface
+    public interface ContentWriter<E extends Exception> {
+        void writeTo(OutputStream out) throws IOException, E;
     }
 
 }
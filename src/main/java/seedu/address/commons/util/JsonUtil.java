@@ -3,6 +3,8 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,10 +13,14 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -39,6 +45,10 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    // Leaves flushing to the caller, so that many small values can be written to one buffered stream
+    private static ObjectWriter jsonLinesWriter = objectMapper.writer()
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
         FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
     }
@@ -110,6 +120,34 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Returns a generator that writes JSON values to {@code out} in UTF-8, with nothing between them.
+     * Closing the generator does not close {@code out}.
+     */
+    public static JsonGenerator createGenerator(OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+        return generator;
+    }
+
+    /**
+     * Writes {@code instance} to {@code generator} as JSON on a line of its own, so that the values written form a
+     * file in the JSON lines format.
+     */
+    public static <T> void writeJsonLine(JsonGenerator generator, T instance) throws IOException {
+        jsonLinesWriter.writeValue(generator, instance);
+        generator.writeRaw('\n');
+    }
+
+    /**
+     * Returns an iterator that reads the JSON values in {@code in} one at a time, as instances of {@code valueClass}.
+     * The values may be separated by any whitespace, so this reads the lines of a file in the JSON lines format.
+     */
+    public static <T> MappingIterator<T> readJsonValues(InputStream in, Class<T> valueClass) throws IOException {
+        return objectMapper.readerFor(valueClass).readValues(in);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -5,7 +5,10 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Helper functions for handling strings.
@@ -29,13 +32,124 @@ public class StringUtil {
 
         String preppedWord = word.trim();
         checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
-        checkArgument(preppedWord.split("\\s+").length == 1, "Word parameter should be a single word");
+        checkArgument(getWordEnd(preppedWord, 0) == preppedWord.length(), "Word parameter should be a single word");
 
-        String preppedSentence = sentence;
-        String[] wordsInPreppedSentence = preppedSentence.split("\\s+");
+        for (int start = getWordStart(sentence, 0); start < sentence.length();) {
+            int end = getWordEnd(sentence, start);
+            if (end - start == preppedWord.length()
+                    && sentence.regionMatches(true, start, preppedWord, 0, preppedWord.length())) {
+                return true;
+            }
+            start = getWordStart(sentence, end);
+        }
+        return false;
+    }
+
+    /**
+     * Returns the words of {@code sentence}, split in the same way as in {@link #containsWordIgnoreCase}, each folded
+     * with {@link #foldCase(String)}. Empty words are left out. The returned list cannot be modified.
+     * @param sentence cannot be null
+     */
+    public static List<String> getFoldedWords(String sentence) {
+        requireNonNull(sentence);
+
+        List<String> foldedWords = new ArrayList<>();
+        for (int start = getWordStart(sentence, 0); start < sentence.length();) {
+            int end = getWordEnd(sentence, start);
+            foldedWords.add(foldCase(sentence.substring(start, end)));
+            start = getWordStart(sentence, end);
+        }
+        return Collections.unmodifiableList(Arrays.asList(foldedWords.toArray(new String[0])));
+    }
+
+    /**
+     * Returns the index of the first character of {@code sentence} from {@code index} on that is not whitespace,
+     * or the length of {@code sentence} if there is none.
+     */
+    private static int getWordStart(String sentence, int index) {
+        int start = index;
+        while (start < sentence.length() && isWhitespace(sentence.charAt(start))) {
+            start++;
+        }
+        return start;
+    }
+
+    /**
+     * Returns the index of the first whitespace character of {@code sentence} from {@code index} on, or the length of
+     * {@code sentence} if there is none.
+     */
+    private static int getWordEnd(String sentence, int index) {
+        int end = index;
+        while (end < sentence.length() && !isWhitespace(sentence.charAt(end))) {
+            end++;
+        }
+        return end;
+    }
 
-        return Arrays.stream(wordsInPreppedSentence)
-                .anyMatch(preppedWord::equalsIgnoreCase);
+    /**
+     * Returns true if {@code c} is one of the whitespace characters that {@code \s} matches in a regular expression.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Returns {@code word} with each of its characters folded to a single case, so that two words are equal ignoring
+     * case, as by {@link String#equalsIgnoreCase(String)}, exactly when their folded forms are equal.
+     * @param word cannot be null
+     */
+    public static String foldCase(String word) {
+        requireNonNull(word);
+
+        char[] folded = word.toCharArray();
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = Character.toLowerCase(Character.toUpperCase(folded[i]));
+        }
+        return new String(folded);
+    }
+
+    /**
+     * Returns the edit distance between {@code first} and {@code second}, which is the least number of characters to
+     * insert, delete or replace to turn one into the other. Stops as soon as the distance is known to be more than
+     * {@code maxDistance}, and then returns {@code maxDistance + 1}.
+     *   <br>examples:<pre>
+     *       getEditDistance("alex", "alx", 2) == 1
+     *       getEditDistance("alex", "bob", 2) == 3
+     *       </pre>
+     * @param first cannot be null
+     * @param second cannot be null
+     * @param maxDistance cannot be negative
+     */
+    public static int getEditDistance(String first, String second, int maxDistance) {
+        requireNonNull(first);
+        requireNonNull(second);
+        checkArgument(maxDistance >= 0, "Maximum distance cannot be negative");
+
+        if (Math.abs(first.length() - second.length()) > maxDistance) {
+            return maxDistance + 1;
+        }
+        int[] previousRow = new int[second.length() + 1];
+        int[] currentRow = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previousRow[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            currentRow[0] = i;
+            int rowMinimum = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int replaceCost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                currentRow[j] = Math.min(previousRow[j - 1] + replaceCost,
+                        Math.min(previousRow[j], currentRow[j - 1]) + 1);
+                rowMinimum = Math.min(rowMinimum, currentRow[j]);
+            }
+            if (rowMinimum > maxDistance) {
+                return maxDistance + 1;
+            }
+            int[] swap = previousRow;
+            previousRow = currentRow;
+            currentRow = swap;
+        }
+        return Math.min(previousRow[second.length()], maxDistance + 1);
     }
 
     /**
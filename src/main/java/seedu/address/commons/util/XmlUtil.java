@@ -3,8 +3,14 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
@@ -13,9 +19,15 @@ import javax.xml.bind.Unmarshaller;
 
 /**
  * Helps with reading from and writing to XML files.
+ * Creating a {@code JAXBContext} inspects the whole class graph of the data, so one context is kept for each class,
+ * together with a pool of the marshallers and unmarshallers created from it, which are not thread-safe.
  */
 public class XmlUtil {
 
+    private static final Map<Class<?>, JAXBContext> contexts = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Queue<Marshaller>> marshallers = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Queue<Unmarshaller>> unmarshallers = new ConcurrentHashMap<>();
+
     /**
      * Returns the xml data in the file as an object of the specified type.
      *
@@ -37,22 +49,30 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(classToConvert);
-        Unmarshaller um = context.createUnmarshaller();
+        Queue<Unmarshaller> pool = unmarshallers.computeIfAbsent(classToConvert,
+                unused -> new ConcurrentLinkedQueue<>());
+        Unmarshaller um = pool.poll();
+        if (um == null) {
+            um = getContext(classToConvert).createUnmarshaller();
+        }
 
-        return ((T) um.unmarshal(file.toFile()));
+        T data = (T) um.unmarshal(file.toFile());
+        pool.offer(um);
+        return data;
     }
 
     /**
      * Saves the data in the file in xml format.
+     * The file is replaced as a whole, so it is left unchanged if the data cannot be written.
      *
      * @param file Points to a valid xml file containing data that match the {@code classToConvert}.
      *             Cannot be null.
      * @throws FileNotFoundException Thrown if the file is missing.
+     * @throws IOException           Thrown if there is an error writing to the file.
      * @throws JAXBException         Thrown if there is an error during converting the data
-     *                               into xml and writing to the file.
+     *                               into xml.
      */
-    public static <T> void saveDataToFile(Path file, T data) throws FileNotFoundException, JAXBException {
+    public static <T> void saveDataToFile(Path file, T data) throws IOException, JAXBException {
 
         requireNonNull(file);
         requireNonNull(data);
@@ -61,11 +81,46 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(data.getClass());
-        Marshaller m = context.createMarshaller();
-        m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        FileUtil.writeAtomically(file, false, out -> writeData(out, data));
+    }
 
-        m.marshal(data, file.toFile());
+    /**
+     * Writes the data to {@code out} in xml format.
+     *
+     * @throws JAXBException Thrown if there is an error during converting the data into xml.
+     */
+    public static <T> void writeData(OutputStream out, T data) throws JAXBException {
+        requireNonNull(out);
+        requireNonNull(data);
+
+        Queue<Marshaller> pool = marshallers.computeIfAbsent(data.getClass(), unused -> new ConcurrentLinkedQueue<>());
+        Marshaller m = pool.poll();
+        if (m == null) {
+            m = getContext(data.getClass()).createMarshaller();
+            m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        }
+
+        m.marshal(data, out);
+        pool.offer(m);
+    }
+
+    /**
+     * Returns the {@code JAXBContext} for {@code classToBeBound}, creating it on first use.
+     *
+     * @throws JAXBException Thrown if the class cannot be bound to xml.
+     */
+    public static JAXBContext getContext(Class<?> classToBeBound) throws JAXBException {
+        requireNonNull(classToBeBound);
+
+        JAXBContext context = contexts.get(classToBeBound);
+        if (context == null) {
+            context = JAXBContext.newInstance(classToBeBound);
+            JAXBContext existing = contexts.putIfAbsent(classToBeBound, context);
+            if (existing != null) {
+                context = existing;
+            }
+        }
+        return context;
     }
 
 }
@@ -0,0 +1,38 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.storage.Storage;
+
+/**
+ * Cancels the exports that are still running, deleting the files they have partly written.
+ */
+public class ExportCancelCommand extends Command {
+
+    public static final String COMMAND_WORD = "exportcancel";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Cancels the exports that are still running "
+            + "and deletes the files they have partly written.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Cancelled %1$d unfinished export(s).";
+    public static final String MESSAGE_NO_UNFINISHED_EXPORTS = "There are no unfinished exports to cancel.";
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(storage);
+        int cancelledExports = storage.cancelExports();
+
+        if (cancelledExports == 0) {
+            return new CommandResult(MESSAGE_NO_UNFINISHED_EXPORTS);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, cancelledExports));
+    }
+
+    @Override
+    public void setStorage(Storage storage) {
+        this.storage = storage;
+    }
+}
@@ -1,5 +1,11 @@
 package seedu.address.logic.commands;
 
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.storage.Storage;
 
 /**
@@ -13,23 +19,30 @@ public abstract class ExportCommand extends Command {
             + "Parameters: [--[FILE_EXTENSION]] [FILE_PATH] \n"
             + "Example: \n " + COMMAND_WORD + " --xml "
             + "/Users/Anna/Desktop/exported.xml (macOS, Linux) \n"
-            + COMMAND_WORD + " --txt C:\\Users\\Anna\\desktop\\exported.txt (Windows)";
+            + COMMAND_WORD + " --txt C:\\Users\\Anna\\desktop\\exported.txt (Windows) \n"
+            + COMMAND_WORD + " --csv /Users/Anna/Desktop/exported.csv (macOS, Linux) \n"
+            + COMMAND_WORD + " --ndjson /Users/Anna/Desktop/exported.ndjson (macOS, Linux)";
 
-    public static final String MESSAGE_SUCCESS = "Export successfully to file path: %1$s";
+    public static final String MESSAGE_EXPORT_STARTED = "Exporting to file path: %1$s \n"
+            + "The status bar shows when the export is done.";
     public static final String MESSAGE_FAIL_READ_FILE = "Failed to read or write to file path. Please recheck "
             + "the validity of the file path and the permission to the file.";
     public static final String MESSAGE_FILE_TYPE_NOT_SUPPORTED = "The file type you want to export as is "
             + "currently not supported; or the parameter format is wrong. \n"
-            + "Current supported file type: XML and TXT \n"
-            + "Parameter: \"--xml\" or \"--txt\"";
-    public static final String MESSAGE_FAIL_XML_TXT_CONVERSION = "Failed to export the user data as a txt file. "
-            + "It could be due to access denied. Please recheck the permission to the file. ";
+            + "Current supported file type: XML, TXT, CSV and NDJSON \n"
+            + "Parameter: \"--xml\", \"--txt\", \"--csv\" or \"--ndjson\"";
     public static final String MESSAGE_INVALID_TXT_FILE_PATH =
             "File name should only contain alphanumeric and underscore and end with extension \'.txt\'."
                     + " Please recheck.";
     public static final String MESSAGE_INVALID_XML_FILE_PATH =
             "File name should only contain alphanumeric and underscore and end with extension \'.xml\'."
                     + " Please recheck.";
+    public static final String MESSAGE_INVALID_CSV_FILE_PATH =
+            "File name should only contain alphanumeric and underscore and end with extension \'.csv\'."
+                    + " Please recheck.";
+    public static final String MESSAGE_INVALID_NDJSON_FILE_PATH =
+            "File name should only contain alphanumeric and underscore and end with extension \'.ndjson\'"
+                    + " or \'.jsonl\'. Please recheck.";
     public static final String WIN_FILE_PATH_REGEX =
             "^(?:[a-zA-Z]\\:|\\\\[\\w\\.]+\\\\[\\w.$]+)*(\\\\)*(?:[\\w]+\\\\)*\\w([\\w.])+$";
     public static final String MACOS_LINUX_FILE_PATH_REGEX =
@@ -50,7 +63,27 @@ public abstract class ExportCommand extends Command {
      */
     public enum FileType {
         XML,
-        TXT
+        TXT,
+        CSV,
+        NDJSON
+    }
+
+    /**
+     * Returns the file to export to.
+     *
+     * @throws CommandException if the file path is not a valid path, or its folder does not exist.
+     */
+    protected Path getExportedFile() throws CommandException {
+        try {
+            Path file = Paths.get(exportedFilePath);
+            Path folder = file.toAbsolutePath().getParent();
+            if (folder == null || !Files.isDirectory(folder)) {
+                throw new CommandException(MESSAGE_FAIL_READ_FILE);
+            }
+            return file;
+        } catch (InvalidPathException e) {
+            throw new CommandException(MESSAGE_FAIL_READ_FILE);
+        }
     }
 
     protected boolean isValidFilePath() {
@@ -0,0 +1,46 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.storage.CsvFileStorage;
+
+/**
+ * Export data to a csv file, with one row for each person, module and occasion and for each link between them.
+ */
+public class ExportCsvCommand extends ExportCommand {
+
+    private final FileType fileType;
+
+    public ExportCsvCommand(String filePath, FileType fileType) {
+        super(filePath);
+        this.fileType = fileType;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+        requireNonNull(storage);
+
+        if (!isValidCsvFile()) {
+            throw new CommandException(MESSAGE_INVALID_CSV_FILE_PATH);
+        }
+
+        storage.exportAddressBook(model.getAddressBook(), getExportedFile(), CsvFileStorage::exportDataToFile);
+        return new CommandResult(String.format(MESSAGE_EXPORT_STARTED, exportedFilePath));
+    }
+
+    private boolean isValidCsvFile() {
+        return isValidFilePath() && exportedFilePath.endsWith(".csv");
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || (other instanceof ExportCsvCommand)
+                && exportedFilePath.equals(((ExportCsvCommand) other).exportedFilePath)
+                && fileType == ((ExportCsvCommand) other).fileType;
+    }
+}
@@ -0,0 +1,47 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.storage.JsonLinesFileStorage;
+
+/**
+ * Export data to a JSON lines (NDJSON) file, with one line for each person, module and occasion and for each link
+ * between them.
+ */
+public class ExportJsonLinesCommand extends ExportCommand {
+
+    private final FileType fileType;
+
+    public ExportJsonLinesCommand(String filePath, FileType fileType) {
+        super(filePath);
+        this.fileType = fileType;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+        requireNonNull(storage);
+
+        if (!isValidJsonLinesFile()) {
+            throw new CommandException(MESSAGE_INVALID_NDJSON_FILE_PATH);
+        }
+
+        storage.exportAddressBook(model.getAddressBook(), getExportedFile(), JsonLinesFileStorage::exportDataToFile);
+        return new CommandResult(String.format(MESSAGE_EXPORT_STARTED, exportedFilePath));
+    }
+
+    private boolean isValidJsonLinesFile() {
+        return isValidFilePath() && (exportedFilePath.endsWith(".ndjson") || exportedFilePath.endsWith(".jsonl"));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || (other instanceof ExportJsonLinesCommand)
+                && exportedFilePath.equals(((ExportJsonLinesCommand) other).exportedFilePath)
+                && fileType == ((ExportJsonLinesCommand) other).fileType;
+    }
+}
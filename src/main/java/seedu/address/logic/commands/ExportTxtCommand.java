@@ -2,17 +2,13 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.io.IOException;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-
 import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.events.ui.ExportTxtRequestEvent;
-import seedu.address.commons.util.XmlToTxtUtil;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.storage.Storage;
+import seedu.address.storage.TxtFileStorage;
 
 /**
  * Export data to txt file.
@@ -39,18 +35,8 @@ public class ExportTxtCommand extends ExportCommand {
             throw new CommandException(String.format(MESSAGE_INVALID_TXT_FILE_PATH));
         }
 
-        try {
-            Path tempPath = Paths.get("temp.xml");
-            storage.saveAddressBook(model.getAddressBook(), tempPath);
-            XmlToTxtUtil.parse(tempPath.toFile(), exportedFilePath);
-            tempPath.toFile().delete();
-        } catch (IOException e) {
-            return new CommandResult(String.format(MESSAGE_FAIL_READ_FILE));
-        } catch (Exception e) {
-            return new CommandResult(String.format(MESSAGE_FAIL_XML_TXT_CONVERSION));
-        }
-
-        return new CommandResult(String.format(MESSAGE_SUCCESS, exportedFilePath));
+        storage.exportAddressBook(model.getAddressBook(), getExportedFile(), TxtFileStorage::exportDataToFile);
+        return new CommandResult(String.format(MESSAGE_EXPORT_STARTED, exportedFilePath));
     }
 
     public void setStorage(Storage storage) {
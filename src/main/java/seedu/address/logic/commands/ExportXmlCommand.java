@@ -2,18 +2,13 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.io.IOException;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-
-import com.google.common.io.Files;
-
 import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.events.ui.ExportXmlRequestEvent;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.storage.Storage;
+import seedu.address.storage.XmlFileStorage;
 
 /**
  * Export data to a xml file.
@@ -39,15 +34,8 @@ public class ExportXmlCommand extends ExportCommand {
             throw new CommandException(String.format(MESSAGE_INVALID_XML_FILE_PATH));
         }
 
-        try {
-            Path tempPath = Paths.get("temp.xml");
-            storage.saveAddressBook(model.getAddressBook(), tempPath);
-            Files.copy(tempPath.toFile(), Paths.get(exportedFilePath).toFile());
-            tempPath.toFile().delete();
-        } catch (IOException e) {
-            throw new CommandException(String.format(MESSAGE_FAIL_READ_FILE));
-        }
-        return new CommandResult(String.format(MESSAGE_SUCCESS, exportedFilePath));
+        storage.exportAddressBook(model.getAddressBook(), getExportedFile(), XmlFileStorage::exportDataToFile);
+        return new CommandResult(String.format(MESSAGE_EXPORT_STARTED, exportedFilePath));
     }
 
     public void setStorage(Storage storage) {
@@ -24,11 +24,14 @@ public class FindModuleCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all modules whose module code, module title, "
             + "academic year, semester contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Parameters: PREFIX/KEYWORD [MORE_KEYWORDS]... [[AND|OR|NOT] PREFIX/KEYWORD [MORE_KEYWORDS]...]...\n"
+            + "A keyword ending with * matches the words that start with it, "
+            + "and one ending with ~ matches similar words.\n"
             + "Example: " + COMMAND_WORD + " mc/cs2103 cs2103t"
             + "Example: " + COMMAND_WORD + " mt/software engineering"
             + "Example: " + COMMAND_WORD + " ay/0102"
-            + "Example: " + COMMAND_WORD + " sem/2";
+            + "Example: " + COMMAND_WORD + " sem/2"
+            + "Example: " + COMMAND_WORD + " mc/cs2103 OR mt/software NOT sem/2";
 
     private final Predicate<Module> predicate;
 
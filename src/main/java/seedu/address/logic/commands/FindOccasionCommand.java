@@ -24,10 +24,13 @@ public class FindOccasionCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all occasions whose occasion name, "
             + "occasion date, occasion location contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Parameters: PREFIX/KEYWORD [MORE_KEYWORDS]... [[AND|OR|NOT] PREFIX/KEYWORD [MORE_KEYWORDS]...]...\n"
+            + "A keyword ending with * matches the words that start with it, "
+            + "and one ending with ~ matches similar words.\n"
             + "Example: " + COMMAND_WORD + " on/meeting party"
             + "Example: " + COMMAND_WORD + " od/2018-01-01"
-            + "Example: " + COMMAND_WORD + " loc/soc utown";
+            + "Example: " + COMMAND_WORD + " loc/soc utown"
+            + "Example: " + COMMAND_WORD + " on/meeting loc/utown OR od/2018-01-01";
 
     private final Predicate<Occasion> predicate;
 
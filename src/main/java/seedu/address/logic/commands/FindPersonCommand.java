@@ -24,12 +24,15 @@ public class FindPersonCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose name, phone, email, address "
             + "contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Parameters: PREFIX/KEYWORD [MORE_KEYWORDS]... [[AND|OR|NOT] PREFIX/KEYWORD [MORE_KEYWORDS]...]...\n"
+            + "A keyword ending with * matches the words that start with it, "
+            + "and one ending with ~ matches similar words.\n"
             + "Example: " + COMMAND_WORD + " n/alice bob charles \n"
             + "Example: " + COMMAND_WORD + " p/123 2333 6666 \n"
             + "Example: " + COMMAND_WORD + " e/abc@de.fg \n"
             + "Example: " + COMMAND_WORD + " a/qwer 123 \n"
-            + "Example: " + COMMAND_WORD + " mc/CS2103 \n";
+            + "Example: " + COMMAND_WORD + " mc/CS2103 \n"
+            + "Example: " + COMMAND_WORD + " mc/CS2103 NOT on/party OR n/alice \n";
 
     private final Predicate<Person> predicate;
 
@@ -0,0 +1,124 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.ExportCommand.FileType;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.storage.CsvFileStorage;
+import seedu.address.storage.JsonLinesFileStorage;
+import seedu.address.storage.XmlFileStorage;
+
+/**
+ * Imports the persons, modules and occasions in a file, as exported by {@code ExportCommand}, into TheTracker.
+ * The whole file is read and checked before TheTracker is changed, and the import is undone as a single command.
+ */
+public class ImportCommand extends Command {
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + " --[FILE_EXTENSION]: Import user data into TheTracker "
+            + "from a file of the specified file type. \n"
+            + "Parameters: [--[FILE_EXTENSION]] [FILE_PATH] \n"
+            + "Example: \n " + COMMAND_WORD + " --xml "
+            + "/Users/Anna/Desktop/exported.xml (macOS, Linux) \n"
+            + COMMAND_WORD + " --csv C:\\Users\\Anna\\desktop\\students.csv (Windows) \n"
+            + COMMAND_WORD + " --ndjson /Users/Anna/Desktop/students.ndjson (macOS, Linux)";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d persons, %2$d modules and %3$d occasions "
+            + "from file path: %4$s";
+    public static final String MESSAGE_FILE_NOT_FOUND = "There is no file at file path: %1$s";
+    public static final String MESSAGE_FAIL_READ_FILE = "Failed to read the file. Please recheck "
+            + "the validity of the file path and the permission to the file.";
+    public static final String MESSAGE_INVALID_FILE = "Nothing was imported, as the file is not valid: %1$s";
+    public static final String MESSAGE_FILE_TYPE_NOT_SUPPORTED = "The file type you want to import from is "
+            + "currently not supported; or the parameter format is wrong. \n"
+            + "Current supported file type: XML, CSV and NDJSON \n"
+            + "Parameter: \"--xml\", \"--csv\" or \"--ndjson\"";
+
+    private final String importedFilePath;
+    private final FileType fileType;
+
+    public ImportCommand(String filePath, FileType fileType) {
+        requireNonNull(filePath);
+        requireNonNull(fileType);
+        this.importedFilePath = filePath;
+        this.fileType = fileType;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+
+        AddressBook imported = readImportedFile(getImportedFile());
+        model.importData(imported);
+        model.commitAddressBook();
+        return new CommandResult(String.format(MESSAGE_SUCCESS, imported.getPersonList().size(),
+                imported.getModuleList().size(), imported.getOccasionList().size(), importedFilePath));
+    }
+
+    private Path getImportedFile() throws CommandException {
+        try {
+            Path file = Paths.get(importedFilePath);
+            if (!FileUtil.isFileExists(file)) {
+                throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, importedFilePath));
+            }
+            return file;
+        } catch (InvalidPathException e) {
+            throw new CommandException(MESSAGE_FAIL_READ_FILE);
+        }
+    }
+
+    /**
+     * Returns the address book in {@code file}, every entry of which is valid.
+     */
+    private AddressBook readImportedFile(Path file) throws CommandException {
+        try {
+            switch (fileType) {
+            case XML:
+                return XmlFileStorage.loadAddressBookFromSaveFile(file);
+            case CSV:
+                return CsvFileStorage.importDataFromFile(file);
+            case NDJSON:
+                return JsonLinesFileStorage.importDataFromFile(file);
+            default:
+                throw new CommandException(MESSAGE_FILE_TYPE_NOT_SUPPORTED);
+            }
+        } catch (DataConversionException e) {
+            throw new CommandException(String.format(MESSAGE_INVALID_FILE, getReason(e)));
+        } catch (IllegalValueException | IllegalArgumentException e) {
+            throw new CommandException(String.format(MESSAGE_INVALID_FILE, e.getMessage()));
+        } catch (IOException e) {
+            throw new CommandException(MESSAGE_FAIL_READ_FILE);
+        }
+    }
+
+    /**
+     * Returns the reason {@code e} gives for the file not being valid, which is the message of its cause
+     * when there is one.
+     */
+    private static String getReason(DataConversionException e) {
+        Throwable cause = e.getCause();
+        if (cause == null || cause.getMessage() == null) {
+            return e.getMessage();
+        }
+        return cause.getMessage();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || (other instanceof ImportCommand)
+                && importedFilePath.equals(((ImportCommand) other).importedFilePath)
+                && fileType == ((ImportCommand) other).fileType;
+    }
+}
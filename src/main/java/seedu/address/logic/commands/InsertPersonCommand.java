@@ -72,11 +72,7 @@ public class InsertPersonCommand extends Command {
                 throw new CommandException(MESSAGE_FAILURE_PERSON_ALREADY_IN_MODULE);
             }
 
-            model.insertPerson(personToReplace.makeDeepDuplicate(),
-                                moduleToReplace.makeDeepDuplicate(),
-                                personToReplace.makeShallowDuplicate(),
-                                moduleToReplace.makeShallowDuplicate(),
-                                personToReplace, moduleToReplace);
+            model.insertPerson(personToReplace, moduleToReplace);
             model.commitAddressBook();
             AttendanceListUtil.postRefreshEvent(model);
             return new CommandResult(MESSAGE_SUCCESS_INSERT_INTO_MODULE);
@@ -98,11 +94,7 @@ public class InsertPersonCommand extends Command {
                 throw new CommandException(MESSAGE_FAILURE_PERSON_ALREADY_IN_OCCASION);
             }
 
-            model.insertPerson(personToReplace.makeDeepDuplicate(),
-                                occasionToReplace.makeDeepDuplicate(),
-                                personToReplace.makeShallowDuplicate(),
-                                occasionToReplace.makeShallowDuplicate(),
-                                personToReplace, occasionToReplace);
+            model.insertPerson(personToReplace, occasionToReplace);
             model.commitAddressBook();
             AttendanceListUtil.postRefreshEvent(model);
             return new CommandResult(MESSAGE_SUCCESS_INSERT_INTO_OCCASION);
@@ -0,0 +1,177 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.storage.Storage;
+
+/**
+ * Runs the commands in a script file, one command per line, as a single change to TheTracker.
+ * Every line is parsed before any command runs. The changes of the script are saved once and undone together, and
+ * if a command fails, none of the changes of the script are kept.
+ */
+public class RunCommand extends Command {
+    public static final String COMMAND_WORD = "run";
+    public static final String COMMENT_PREFIX = "#";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands in a script file, one command "
+            + "per line, as a single change to TheTracker. Empty lines and lines starting with "
+            + COMMENT_PREFIX + " are skipped.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " /Users/Anna/Desktop/enrol.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d commands from file path: %2$s in %3$d ms "
+            + "(%4$.0f commands per second)";
+    public static final String MESSAGE_FILE_NOT_FOUND = "There is no file at file path: %1$s";
+    public static final String MESSAGE_FAIL_READ_FILE = "Failed to read the file. Please recheck "
+            + "the validity of the file path and the permission to the file.";
+    public static final String MESSAGE_INVALID_LINE = "Line %1$d: %2$s\nNo command in the script was run.";
+    public static final String MESSAGE_FAILED_LINE = "Line %1$d: %2$s\nThe changes of the script were undone.";
+    public static final String MESSAGE_COMMAND_NOT_ALLOWED = "%1$s cannot be used in a script.";
+
+    private static final Logger logger = LogsCenter.getLogger(RunCommand.class);
+
+    private final String scriptFilePath;
+
+    public RunCommand(String scriptFilePath) {
+        requireNonNull(scriptFilePath);
+        this.scriptFilePath = scriptFilePath;
+    }
+
+    @Override
+    public void setStorage(Storage storage) {
+        this.storage = storage;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+
+        List<ScriptLine> script = parseScript(readScript(getScriptFile()));
+        logger.info("Running " + script.size() + " commands from " + scriptFilePath);
+
+        long startTime = System.nanoTime();
+        model.startBatch();
+        for (ScriptLine line : script) {
+            logger.fine("----------------[SCRIPT COMMAND][" + line.text + "]");
+            try {
+                line.command.setStorage(storage);
+                line.command.execute(model, history);
+            } catch (CommandException e) {
+                model.cancelBatch();
+                logger.info("Script stopped at line " + line.number + ": " + e.getMessage());
+                throw new CommandException(String.format(MESSAGE_FAILED_LINE, line.number, e.getMessage()));
+            } catch (RuntimeException e) {
+                model.cancelBatch();
+                throw e;
+            }
+        }
+        model.endBatch();
+        long elapsedNanos = Math.max(System.nanoTime() - startTime, 1);
+
+        double commandsPerSecond = script.size() * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+        logger.info("Ran " + script.size() + " commands in " + elapsedNanos + " ns");
+        return new CommandResult(String.format(MESSAGE_SUCCESS, script.size(), scriptFilePath,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), commandsPerSecond));
+    }
+
+    private Path getScriptFile() throws CommandException {
+        try {
+            Path file = Paths.get(scriptFilePath);
+            if (!FileUtil.isFileExists(file)) {
+                throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, scriptFilePath));
+            }
+            return file;
+        } catch (InvalidPathException e) {
+            throw new CommandException(MESSAGE_FAIL_READ_FILE);
+        }
+    }
+
+    private static List<String> readScript(Path file) throws CommandException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            List<String> lines = new ArrayList<>();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line);
+            }
+            return lines;
+        } catch (IOException e) {
+            throw new CommandException(MESSAGE_FAIL_READ_FILE);
+        }
+    }
+
+    /**
+     * Parses each command of the script, skipping empty lines and comments.
+     *
+     * @throws CommandException if a line is not a valid command, or is a command that cannot be used in a script.
+     */
+    private static List<ScriptLine> parseScript(List<String> lines) throws CommandException {
+        AddressBookParser parser = new AddressBookParser();
+        List<ScriptLine> script = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String text = lines.get(i).trim();
+            if (text.isEmpty() || text.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+            try {
+                Command command = parser.parseCommand(text);
+                if (!isAllowedInScript(command)) {
+                    throw new ParseException(String.format(MESSAGE_COMMAND_NOT_ALLOWED, text.split("\\s+")[0]));
+                }
+                script.add(new ScriptLine(i + 1, text, command));
+            } catch (ParseException e) {
+                throw new CommandException(String.format(MESSAGE_INVALID_LINE, i + 1, e.getMessage()));
+            }
+        }
+        return script;
+    }
+
+    /**
+     * Returns true if {@code command} can run within the single change of a script. Undo and redo move between
+     * committed states, which the script does not make until it ends, and exit would stop the script half way.
+     */
+    private static boolean isAllowedInScript(Command command) {
+        return !(command instanceof UndoCommand || command instanceof RedoCommand
+                || command instanceof ExitCommand || command instanceof RunCommand);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RunCommand // instanceof handles nulls
+                && scriptFilePath.equals(((RunCommand) other).scriptFilePath));
+    }
+
+    /**
+     * A parsed command of the script, with the line it is on.
+     */
+    private static class ScriptLine {
+        private final int number;
+        private final String text;
+        private final Command command;
+
+        ScriptLine(int number, String text, Command command) {
+            this.number = number;
+            this.text = text;
+            this.command = command;
+        }
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.logic.parser;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
 import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.ExportCsvCommand;
+import seedu.address.logic.commands.ExportJsonLinesCommand;
 import seedu.address.logic.commands.ExportTxtCommand;
 import seedu.address.logic.commands.ExportXmlCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -27,6 +29,14 @@ public class ExportCommandParser implements Parser<ExportCommand> {
         if (tokens[0].equals("--txt")) {
             return new ExportTxtCommand(exportedFilePath, ExportCommand.FileType.TXT);
         }
+
+        if (tokens[0].equals("--csv")) {
+            return new ExportCsvCommand(exportedFilePath, ExportCommand.FileType.CSV);
+        }
+
+        if (tokens[0].equals("--ndjson")) {
+            return new ExportJsonLinesCommand(exportedFilePath, ExportCommand.FileType.NDJSON);
+        }
         throw new ParseException(String.format(ExportCommand.MESSAGE_FILE_TYPE_NOT_SUPPORTED,
                 exportedFilePath));
     }
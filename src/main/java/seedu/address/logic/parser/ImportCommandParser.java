@@ -0,0 +1,35 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.ExportCommand.FileType;
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parse arguments in import command.
+ */
+public class ImportCommandParser implements Parser<ImportCommand> {
+
+    @Override
+    public ImportCommand parse(String args) throws ParseException {
+        String [] tokens = args.trim().split(" ");
+        if (tokens.length != 2) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+        }
+
+        String importedFilePath = ParserUtil.parseFilePath(tokens[1]);
+        if (tokens[0].equals("--xml")) {
+            return new ImportCommand(importedFilePath, FileType.XML);
+        }
+
+        if (tokens[0].equals("--csv")) {
+            return new ImportCommand(importedFilePath, FileType.CSV);
+        }
+
+        if (tokens[0].equals("--ndjson")) {
+            return new ImportCommand(importedFilePath, FileType.NDJSON);
+        }
+        throw new ParseException(ImportCommand.MESSAGE_FILE_TYPE_NOT_SUPPORTED);
+    }
+}
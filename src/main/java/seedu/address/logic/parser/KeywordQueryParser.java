@@ -0,0 +1,131 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.KeywordQuery;
+
+/**
+ * Parses the arguments of a find command into a {@code KeywordQuery}.
+ * The arguments are terms of the form {@code <prefix>KEYWORD [MORE_KEYWORDS]...}, each of which matches the entities
+ * whose field of that prefix contains any of the keywords. Terms are combined with the operators {@code NOT},
+ * {@code AND} and {@code OR}, which bind in that order. Terms that follow each other without an operator are combined
+ * with {@code AND}, e.g. {@code n/alice bob mc/CS2103 OR NOT p/91234567}.
+ */
+public class KeywordQueryParser<T> {
+
+    public static final String OPERATOR_AND = "AND";
+    public static final String OPERATOR_OR = "OR";
+    public static final String OPERATOR_NOT = "NOT";
+
+    private final String messageUsage;
+    private final Map<Prefix, Function<List<String>, KeywordQuery<T>>> termParsers = new LinkedHashMap<>();
+
+    /**
+     * Creates a parser whose parse errors show {@code messageUsage}.
+     */
+    public KeywordQueryParser(String messageUsage) {
+        this.messageUsage = messageUsage;
+    }
+
+    /**
+     * Adds {@code prefix} as the start of a term, whose keywords are turned into a query by {@code termParser}.
+     */
+    public KeywordQueryParser<T> addTerm(Prefix prefix, Function<List<String>, KeywordQuery<T>> termParser) {
+        termParsers.put(prefix, termParser);
+        return this;
+    }
+
+    /**
+     * Parses {@code args} into a {@code KeywordQuery}. A single term is returned as the query of the term itself.
+     * @throws ParseException if {@code args} is not a query of the terms added
+     */
+    public KeywordQuery<T> parse(String args) throws ParseException {
+        Deque<String> words = new ArrayDeque<>();
+        Arrays.stream(args.trim().split("\\s+")).filter(word -> !word.isEmpty()).forEach(words::add);
+
+        KeywordQuery<T> query = parseAnyOf(words);
+        if (!words.isEmpty()) {
+            throw newParseException();
+        }
+        return query;
+    }
+
+    private KeywordQuery<T> parseAnyOf(Deque<String> words) throws ParseException {
+        List<KeywordQuery<T>> queries = new ArrayList<>();
+        queries.add(parseAllOf(words));
+        while (OPERATOR_OR.equals(words.peek())) {
+            words.remove();
+            queries.add(parseAllOf(words));
+        }
+        return queries.size() == 1 ? queries.get(0) : KeywordQuery.anyOf(queries);
+    }
+
+    private KeywordQuery<T> parseAllOf(Deque<String> words) throws ParseException {
+        List<KeywordQuery<T>> queries = new ArrayList<>();
+        queries.add(parseNot(words));
+        while (!words.isEmpty() && !OPERATOR_OR.equals(words.peek())) {
+            if (OPERATOR_AND.equals(words.peek())) {
+                words.remove();
+            }
+            queries.add(parseNot(words));
+        }
+        return queries.size() == 1 ? queries.get(0) : KeywordQuery.allOf(queries);
+    }
+
+    private KeywordQuery<T> parseNot(Deque<String> words) throws ParseException {
+        if (OPERATOR_NOT.equals(words.peek())) {
+            words.remove();
+            return KeywordQuery.not(parseNot(words));
+        }
+        return parseTerm(words);
+    }
+
+    private KeywordQuery<T> parseTerm(Deque<String> words) throws ParseException {
+        String firstWord = words.poll();
+        Prefix prefix = firstWord == null ? null : getPrefix(firstWord);
+        if (prefix == null) {
+            throw newParseException();
+        }
+
+        List<String> keywords = new ArrayList<>();
+        String firstKeyword = firstWord.substring(prefix.getPrefix().length());
+        if (!firstKeyword.isEmpty()) {
+            keywords.add(firstKeyword);
+        }
+        while (!words.isEmpty() && !isOperator(words.peek()) && getPrefix(words.peek()) == null) {
+            keywords.add(words.remove());
+        }
+        if (keywords.isEmpty()) {
+            throw newParseException();
+        }
+        return termParsers.get(prefix).apply(keywords);
+    }
+
+    /**
+     * Returns the prefix that starts {@code word}, or null if {@code word} does not start a term.
+     */
+    private Prefix getPrefix(String word) {
+        return termParsers.keySet().stream()
+                .filter(prefix -> word.startsWith(prefix.getPrefix()))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static boolean isOperator(String word) {
+        return OPERATOR_AND.equals(word) || OPERATOR_OR.equals(word) || OPERATOR_NOT.equals(word);
+    }
+
+    private ParseException newParseException() {
+        return new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, messageUsage));
+    }
+}
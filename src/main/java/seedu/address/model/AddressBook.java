@@ -1,17 +1,25 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.module.Module;
+import seedu.address.model.module.ModuleDescriptor;
 import seedu.address.model.module.UniqueModuleList;
 import seedu.address.model.occasion.Occasion;
+import seedu.address.model.occasion.OccasionDescriptor;
 import seedu.address.model.occasion.UniqueOccasionList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonDescriptor;
 import seedu.address.model.person.UniquePersonList;
 
 /**
@@ -23,6 +31,10 @@ public class AddressBook implements ReadOnlyAddressBook {
     private final UniquePersonList persons;
     private final UniqueModuleList modules;
     private final UniqueOccasionList occasions;
+    private final RelationshipIndex relationships;
+    private final KeywordIndex<Person> personKeywords;
+    private final KeywordIndex<Module> moduleKeywords;
+    private final KeywordIndex<Occasion> occasionKeywords;
 
     /*
      * The 'unusual' code block below is an non-static initialization block, sometimes used to avoid duplication
@@ -35,6 +47,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons = new UniquePersonList(new ArrayList<>());
         modules = new UniqueModuleList();
         occasions = new UniqueOccasionList();
+        relationships = new RelationshipIndex();
+        personKeywords = new KeywordIndex<>(SearchField.PERSON_FIELDS);
+        personKeywords.addJoin(SearchField.PERSON_MODULE_CODE, relationships::findPersonsWithModuleCode,
+                relationships::countPersonsWithModuleCode);
+        personKeywords.addJoin(SearchField.PERSON_OCCASION_NAME, relationships::findPersonsWithOccasionName,
+                relationships::countPersonsWithOccasionName);
+        moduleKeywords = new KeywordIndex<>(SearchField.MODULE_FIELDS);
+        occasionKeywords = new KeywordIndex<>(SearchField.OCCASION_FIELDS);
     }
 
     public AddressBook() {}
@@ -53,6 +73,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        relationships.setPersons(persons);
+        personKeywords.setEntities(persons);
     }
 
     /**
@@ -61,6 +83,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setModules(List<Module> modules) {
         this.modules.setModules(modules);
+        relationships.setModules(modules);
+        moduleKeywords.setEntities(modules);
     }
 
     /**
@@ -69,6 +93,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setOccasions(List<Occasion> occasions) {
         this.occasions.setOccasions(occasions);
+        relationships.setOccasions(occasions);
+        occasionKeywords.setEntities(occasions);
     }
 
     /**
@@ -112,7 +138,17 @@ public class AddressBook implements ReadOnlyAddressBook {
      * The person must not already exist in the address book.
      */
     public void addPerson(Person person) {
-        persons.add(person);
+        addPerson(persons.asUnmodifiableObservableList().size(), person);
+    }
+
+    /**
+     * Adds a person to the address book at position {@code index} of the person list.
+     * The person must not already exist in the address book.
+     */
+    void addPerson(int index, Person person) {
+        persons.add(index, person);
+        relationships.addPerson(person);
+        personKeywords.addEntity(person);
     }
 
     /**
@@ -125,6 +161,11 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        Person stored = relationships.getStoredPerson(target);
+        relationships.removePerson(target);
+        relationships.addPerson(editedPerson);
+        personKeywords.removeEntity(stored);
+        personKeywords.addEntity(editedPerson);
     }
 
     /**
@@ -133,6 +174,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        personKeywords.removeEntity(relationships.getStoredPerson(key));
+        relationships.removePerson(key);
     }
 
     /**
@@ -140,7 +183,17 @@ public class AddressBook implements ReadOnlyAddressBook {
      * The person must not already exist in the address book.
      */
     public void addOccasion(Occasion occasion) {
-        occasions.add(occasion);
+        addOccasion(occasions.asUnmodifiableObservableList().size(), occasion);
+    }
+
+    /**
+     * Adds an occasion to the address book at position {@code index} of the occasion list.
+     * The occasion must not already exist in the address book.
+     */
+    void addOccasion(int index, Occasion occasion) {
+        occasions.add(index, occasion);
+        relationships.addOccasion(occasion);
+        occasionKeywords.addEntity(occasion);
     }
 
     /**
@@ -153,6 +206,11 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedOccasion);
 
         occasions.setOccasion(target, editedOccasion);
+        Occasion stored = relationships.getStoredOccasion(target);
+        relationships.removeOccasion(target);
+        relationships.addOccasion(editedOccasion);
+        occasionKeywords.removeEntity(stored);
+        occasionKeywords.addEntity(editedOccasion);
     }
 
     /**
@@ -161,6 +219,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeOccasion(Occasion key) {
         occasions.remove(key);
+        occasionKeywords.removeEntity(relationships.getStoredOccasion(key));
+        relationships.removeOccasion(key);
     }
 
     /**
@@ -168,7 +228,17 @@ public class AddressBook implements ReadOnlyAddressBook {
      * The module must not already exist in the address book.
      */
     public void addModule(Module module) {
-        modules.add(module);
+        addModule(modules.asUnmodifiableObservableList().size(), module);
+    }
+
+    /**
+     * Adds a module to the address book at position {@code index} of the module list.
+     * The module must not already exist in the address book.
+     */
+    void addModule(int index, Module module) {
+        modules.add(index, module);
+        relationships.addModule(module);
+        moduleKeywords.addEntity(module);
     }
 
     /**
@@ -181,6 +251,11 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedModule);
 
         modules.setModule(target, editedModule);
+        Module stored = relationships.getStoredModule(target);
+        relationships.removeModule(target);
+        relationships.addModule(editedModule);
+        moduleKeywords.removeEntity(stored);
+        moduleKeywords.addEntity(editedModule);
     }
 
     /**
@@ -189,32 +264,241 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeModule(Module key) {
         modules.remove(key);
+        moduleKeywords.removeEntity(relationships.getStoredModule(key));
+        relationships.removeModule(key);
+    }
+
+    /**
+     * Links {@code person} and {@code module} to each other.
+     * Both must exist in the address book. Each side refers to the other through a shallow duplicate, and the
+     * existing links of both are carried over by reference. The link lists themselves are copied once, in O(k) for
+     * k existing links, as the person and module being replaced may still be restored by undo.
+     */
+    public void insertPerson(Person person, Module module) {
+        requireAllNonNull(person, module);
+
+        UniqueModuleList updatedModules = new UniqueModuleList();
+        updatedModules.setModules(person.getModuleList());
+        if (!updatedModules.contains(module)) {
+            updatedModules.add(module.makeShallowDuplicate());
+        }
+        PersonDescriptor updatedPersonDescriptor = new PersonDescriptor();
+        updatedPersonDescriptor.setUniqueModuleList(updatedModules);
+
+        UniquePersonList updatedStudents = new UniquePersonList();
+        updatedStudents.setPersons(module.getStudents());
+        if (!updatedStudents.contains(person)) {
+            updatedStudents.add(person.makeShallowDuplicate());
+        }
+        ModuleDescriptor updatedModuleDescriptor = new ModuleDescriptor();
+        updatedModuleDescriptor.setStudents(updatedStudents);
+
+        updatePerson(person, Person.createEditedPerson(person, updatedPersonDescriptor));
+        updateModule(module, Module.createEditedModule(module, updatedModuleDescriptor));
+    }
+
+    /**
+     * Links {@code person} and {@code occasion} to each other.
+     * Both must exist in the address book, and their link lists are copied as in
+     * {@link #insertPerson(Person, Module)}.
+     */
+    public void insertPerson(Person person, Occasion occasion) {
+        requireAllNonNull(person, occasion);
+
+        UniqueOccasionList updatedOccasions = new UniqueOccasionList();
+        updatedOccasions.setOccasions(person.getOccasionList());
+        if (!updatedOccasions.contains(occasion)) {
+            updatedOccasions.add(occasion.makeShallowDuplicate());
+        }
+        PersonDescriptor updatedPersonDescriptor = new PersonDescriptor();
+        updatedPersonDescriptor.setUniqueOccasionList(updatedOccasions);
+
+        UniquePersonList updatedAttendees = new UniquePersonList();
+        updatedAttendees.setPersons(occasion.getAttendanceList());
+        if (!updatedAttendees.contains(person)) {
+            updatedAttendees.add(person.makeShallowDuplicate());
+        }
+        OccasionDescriptor updatedOccasionDescriptor = new OccasionDescriptor();
+        updatedOccasionDescriptor.setAttendanceList(updatedAttendees);
+
+        updatePerson(person, Person.createEditedPerson(person, updatedPersonDescriptor));
+        updateOccasion(occasion, Occasion.createEditedOccasion(occasion, updatedOccasionDescriptor));
+    }
+
+    //// bulk import
+
+    /**
+     * Adds the persons, modules and occasions of {@code imported} to the address book, together with the links
+     * between them. An imported entity with the same identity as a stored one is not added again: the stored entity
+     * keeps its details and gains the links of the imported one. Links are made to shallow duplicates of the entities
+     * that end up in the address book.
+     * Unlike linking with {@link #insertPerson(Person, Module)} one link at a time, each entity list is replaced once
+     * with all of its new and linked entities, so the cost grows with the size of the lists rather than with the
+     * number of links times the size of the lists.
+     */
+    public void importData(ReadOnlyAddressBook imported) {
+        requireNonNull(imported);
+
+        Map<Person, Person> linkedPersons = new IdentityHashMap<>();
+        List<Person> addedPersons = new ArrayList<>();
+        for (Person person : imported.getPersonList()) {
+            Person stored = relationships.getStoredPerson(person);
+            UniqueModuleList modules = stored == null ? new UniqueModuleList() : stored.getModuleList();
+            UniqueOccasionList occasions = stored == null ? new UniqueOccasionList() : stored.getOccasionList();
+            List<Module> storedModules = modules.asNormalList();
+            List<Occasion> storedOccasions = occasions.asNormalList();
+            List<Module> linkedModules = addLinks(storedModules, modules::contains,
+                    person.getModuleList(), relationships::getStoredModule, Module::makeShallowDuplicate);
+            List<Occasion> linkedOccasions = addLinks(storedOccasions, occasions::contains,
+                    person.getOccasionList(), relationships::getStoredOccasion, Occasion::makeShallowDuplicate);
+
+            PersonDescriptor descriptor = new PersonDescriptor();
+            descriptor.setUniqueModuleList(new UniqueModuleList(linkedModules));
+            descriptor.setUniqueOccasionList(new UniqueOccasionList(linkedOccasions));
+            if (stored == null) {
+                addedPersons.add(Person.createEditedPerson(person, descriptor));
+            } else if (linkedModules.size() > storedModules.size()
+                    || linkedOccasions.size() > storedOccasions.size()) {
+                linkedPersons.put(stored, Person.createEditedPerson(stored, descriptor));
+            }
+        }
+
+        Map<Module, Module> linkedModules = new IdentityHashMap<>();
+        List<Module> addedModules = new ArrayList<>();
+        for (Module module : imported.getModuleList()) {
+            Module stored = relationships.getStoredModule(module);
+            UniquePersonList students = stored == null ? new UniquePersonList() : stored.getStudents();
+            List<Person> linkedStudents = addLinks(students.asNormalList(), students::contains,
+                    module.getStudents(), relationships::getStoredPerson, Person::makeShallowDuplicate);
+
+            ModuleDescriptor descriptor = new ModuleDescriptor();
+            descriptor.setStudents(new UniquePersonList(linkedStudents));
+            if (stored == null) {
+                addedModules.add(Module.createEditedModule(module, descriptor));
+            } else if (linkedStudents.size() > students.getSize()) {
+                linkedModules.put(stored, Module.createEditedModule(stored, descriptor));
+            }
+        }
+
+        Map<Occasion, Occasion> linkedOccasions = new IdentityHashMap<>();
+        List<Occasion> addedOccasions = new ArrayList<>();
+        for (Occasion occasion : imported.getOccasionList()) {
+            Occasion stored = relationships.getStoredOccasion(occasion);
+            UniquePersonList attendees = stored == null ? new UniquePersonList() : stored.getAttendanceList();
+            List<Person> linkedAttendees = addLinks(attendees.asNormalList(), attendees::contains,
+                    occasion.getAttendanceList(), relationships::getStoredPerson, Person::makeShallowDuplicate);
+
+            OccasionDescriptor descriptor = new OccasionDescriptor();
+            descriptor.setAttendanceList(new UniquePersonList(linkedAttendees));
+            if (stored == null) {
+                addedOccasions.add(Occasion.createEditedOccasion(occasion, descriptor));
+            } else if (linkedAttendees.size() > attendees.getSize()) {
+                linkedOccasions.put(stored, Occasion.createEditedOccasion(stored, descriptor));
+            }
+        }
+
+        // Each list is replaced once, with its linked entities in place and the added entities at the end
+        if (!linkedPersons.isEmpty() || !addedPersons.isEmpty()) {
+            setPersons(replaceAndAdd(getPersonList(), linkedPersons, addedPersons));
+        }
+        if (!linkedModules.isEmpty() || !addedModules.isEmpty()) {
+            setModules(replaceAndAdd(getModuleList(), linkedModules, addedModules));
+        }
+        if (!linkedOccasions.isEmpty() || !addedOccasions.isEmpty()) {
+            setOccasions(replaceAndAdd(getOccasionList(), linkedOccasions, addedOccasions));
+        }
+    }
+
+    /**
+     * Returns {@code entities} with each entity replaced by its replacement in {@code replacements}, if it has one,
+     * followed by {@code addedEntities}.
+     */
+    private static <T> List<T> replaceAndAdd(List<T> entities, Map<T, T> replacements, List<T> addedEntities) {
+        List<T> result = new ArrayList<>(entities.size() + addedEntities.size());
+        entities.forEach(entity -> result.add(replacements.getOrDefault(entity, entity)));
+        result.addAll(addedEntities);
+        return result;
+    }
+
+    /**
+     * Returns {@code links} followed by a link to each of {@code addedLinks} that is not linked yet. Each added link
+     * is a shallow duplicate of the stored entity with the same identity, or of the added entity if none is stored.
+     */
+    private static <T> List<T> addLinks(List<T> links, Predicate<T> isLinked, Iterable<T> addedLinks,
+                                        UnaryOperator<T> getStored, UnaryOperator<T> makeShallowDuplicate) {
+        List<T> linked = new ArrayList<>(links);
+        for (T added : addedLinks) {
+            if (!isLinked.test(added)) {
+                T stored = getStored.apply(added);
+                linked.add(makeShallowDuplicate.apply(stored == null ? added : stored));
+            }
+        }
+        return linked;
+    }
+
+    //// relationship lookups
+
+    /**
+     * Returns the persons in the address book that have {@code module} in their module list.
+     */
+    public List<Person> getPersonsWithModule(Module module) {
+        return relationships.getPersonsWithModule(module);
+    }
+
+    /**
+     * Returns the persons in the address book that have {@code occasion} in their occasion list.
+     */
+    public List<Person> getPersonsWithOccasion(Occasion occasion) {
+        return relationships.getPersonsWithOccasion(occasion);
     }
 
     /**
-     * Replaces {@code personToInsert} and {@code moduleToInsert} with
-     * {@code personToReplace} and {@code moduleToReplace} respectively.
+     * Returns the modules in the address book that have {@code person} in their student list.
      */
-    public void insertPerson(Person personToInsertDeep, Module moduleToInsertDeep, Person personToInsertShallow,
-                             Module moduleToInsertShallow, Person personToReplace, Module moduleToReplace) {
-        personToInsertDeep.getModuleList().add(moduleToInsertShallow);
-        moduleToInsertDeep.getStudents().add(personToInsertShallow);
-        updatePerson(personToReplace, personToInsertDeep);
-        updateModule(moduleToReplace, moduleToInsertDeep);
+    public List<Module> getModulesWithStudent(Person person) {
+        return relationships.getModulesWithStudent(person);
     }
 
     /**
-     * Replaces {@code personToInsert} and {@code occasionToInsert} with
-     * {@code personToReplace} and {@code occasionToReplace} respectively.
+     * Returns the occasions in the address book that have {@code person} in their attendance list.
      */
-    public void insertPerson(Person personToInsertDeep, Occasion occasionToInsertDeep, Person personToInsertShallow,
-                             Occasion occasionToInsertShallow, Person personToReplace, Occasion occasionToReplace) {
-        personToInsertDeep.getOccasionList().add(occasionToInsertShallow);
-        occasionToInsertDeep.getAttendanceList().add(personToInsertShallow);
-        updatePerson(personToReplace, personToInsertDeep);
-        updateOccasion(occasionToReplace, occasionToInsertDeep);
+    public List<Occasion> getOccasionsWithAttendee(Person person) {
+        return relationships.getOccasionsWithAttendee(person);
     }
 
+    //// keyword search
+
+    /**
+     * Returns a predicate that matches the same persons of the address book as {@code predicate}. A keyword
+     * query is answered from the keyword indexes of its fields, and any other predicate is returned as it is.
+     */
+    Predicate<Person> toIndexedPersonPredicate(Predicate<Person> predicate) {
+        return toIndexedPredicate(personKeywords, predicate);
+    }
+
+    /**
+     * Returns a predicate that matches the same modules of the address book as {@code predicate}.
+     * @see #toIndexedPersonPredicate(Predicate)
+     */
+    Predicate<Module> toIndexedModulePredicate(Predicate<Module> predicate) {
+        return toIndexedPredicate(moduleKeywords, predicate);
+    }
+
+    /**
+     * Returns a predicate that matches the same occasions of the address book as {@code predicate}.
+     * @see #toIndexedPersonPredicate(Predicate)
+     */
+    Predicate<Occasion> toIndexedOccasionPredicate(Predicate<Occasion> predicate) {
+        return toIndexedPredicate(occasionKeywords, predicate);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Predicate<T> toIndexedPredicate(KeywordIndex<T> index, Predicate<T> predicate) {
+        if (predicate instanceof KeywordQuery) {
+            return index.toIndexedPredicate((KeywordQuery<T>) predicate);
+        }
+        return predicate;
+    }
 
     @Override
     public String toString() {
@@ -0,0 +1,92 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Tests that a {@code SearchField} of an entity matches any of the keywords given.
+ * A keyword matches the field if it matches a word of any value of the field, as a {@link SearchKeyword} does.
+ *
+ * The {@code Model} resolves these predicates through the keyword index of the field instead of testing each entity.
+ */
+public class FieldContainsKeywordsPredicate<T> extends KeywordQuery<T> {
+    private final SearchField<T> field;
+    private final List<String> keywords;
+    private final List<SearchKeyword> searchKeywords;
+
+    public FieldContainsKeywordsPredicate(SearchField<T> field, List<String> keywords) {
+        requireAllNonNull(field, keywords);
+        this.field = field;
+        this.keywords = keywords;
+        this.searchKeywords = keywords.stream().map(SearchKeyword::new).collect(Collectors.toList());
+    }
+
+    public SearchField<T> getField() {
+        return field;
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    @Override
+    public boolean test(T entity) {
+        return getRank(entity) != SearchKeyword.NO_MATCH;
+    }
+
+    @Override
+    int getRank(T entity) {
+        // Indexed loops over the cached words of each value, so that testing an entity does not allocate.
+        int rank = SearchKeyword.NO_MATCH;
+        int valueCount = field.getValueCount(entity);
+        for (int v = 0; v < valueCount; v++) {
+            List<String> words = field.getFoldedWords(entity, v);
+            for (int i = 0; i < words.size(); i++) {
+                for (int j = 0; j < searchKeywords.size(); j++) {
+                    rank = minRank(rank, searchKeywords.get(j).getRank(words.get(i)));
+                    if (rank == 0) {
+                        return rank;
+                    }
+                }
+            }
+        }
+        return rank;
+    }
+
+    @Override
+    public boolean isRanked() {
+        return searchKeywords.stream().anyMatch(keyword -> keyword.getMatchType() != SearchKeyword.MatchType.EXACT);
+    }
+
+    @Override
+    int estimateMatches(KeywordIndex<T> index) {
+        return index.countEntries(field, searchKeywords);
+    }
+
+    @Override
+    Set<T> findMatches(KeywordIndex<T> index) {
+        return index.find(field, searchKeywords);
+    }
+
+    @Override
+    boolean isMatch(KeywordIndex<T> index, T entity) {
+        return index.contains(field, searchKeywords, entity);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other != null && other.getClass() == getClass() // same kind of predicate, which handles nulls
+                && field == ((FieldContainsKeywordsPredicate<?>) other).field
+                && keywords.equals(((FieldContainsKeywordsPredicate<?>) other).keywords)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(field, keywords);
+    }
+}
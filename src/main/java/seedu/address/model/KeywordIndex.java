@@ -0,0 +1,349 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Indexes the entities of one list of an {@code AddressBook} by the words of their {@code SearchField}s, so that a
+ * keyword query looks each keyword up instead of splitting every field of every entity.
+ * There is one sorted map per field, from each word, folded with {@link StringUtil#foldCase(String)}, to the entities
+ * that have the word in that field, so that the words with a given prefix are next to each other. Fields that are
+ * {@link SearchField#isFuzzyIndexed() fuzzy indexed} also map each trigram to the words that contain it, so that a
+ * fuzzy keyword only compares itself with the words that share enough of its trigrams. As most words are never looked
+ * up fuzzily, the trigrams of a field are only indexed on its first fuzzy lookup, and kept up to date from then on.
+ * Entities are held by identity, as they are the same objects as in the list.
+ *
+ * A field that links an entity to entities of another list, such as the module codes of a person, can instead be
+ * {@link #addJoin(SearchField, Function, ToIntFunction) joined}: its keywords are looked up by a join from the other
+ * side of the link, so that the field does not have to be indexed a second time here. A join is estimated without
+ * running it, so that planning a query does not cost as much as answering it.
+ */
+class KeywordIndex<T> {
+
+    private static final int TRIGRAM_LENGTH = 3;
+    // Pads a word before it is split into trigrams, so that its first and last characters are in as many trigrams as
+    // the others. Words never contain whitespace.
+    private static final String TRIGRAM_PADDING = "  ";
+
+    private final Map<SearchField<T>, NavigableMap<String, Set<T>>> entitiesByWord = new HashMap<>();
+    private final Map<SearchField<T>, Function<Collection<SearchKeyword>, Set<T>>> joins = new HashMap<>();
+    private final Map<SearchField<T>, ToIntFunction<Collection<SearchKeyword>>> joinEstimates = new HashMap<>();
+    private final Map<SearchField<T>, Map<String, Set<String>>> wordsByTrigram = new HashMap<>();
+    private final Set<T> indexedEntities = newIdentitySet();
+    // Counts the changes to the index, so that a predicate knows when to look its keywords up again.
+    private int modCount;
+
+    KeywordIndex(List<SearchField<T>> fields) {
+        fields.forEach(field -> entitiesByWord.put(field, new TreeMap<>()));
+    }
+
+    /**
+     * Looks the keywords of {@code field} up with {@code join} instead of indexing the words of the field.
+     * {@code join} must return a new set, which compares entities by identity, of the indexed entities whose
+     * {@code field} has a word that matches any of the given keywords, and {@code joinEstimate} an upper bound of the
+     * size of that set, without finding the entities. Must be called before any entity is indexed.
+     */
+    void addJoin(SearchField<T> field, Function<Collection<SearchKeyword>, Set<T>> join,
+                 ToIntFunction<Collection<SearchKeyword>> joinEstimate) {
+        requireNonNull(join);
+        requireNonNull(joinEstimate);
+        if (!indexedEntities.isEmpty()) {
+            throw new IllegalStateException("Joins must be added before any entity is indexed.");
+        }
+        if (entitiesByWord.remove(field) == null) {
+            throw new IllegalArgumentException("Field " + field + " is not indexed.");
+        }
+        joins.put(field, join);
+        joinEstimates.put(field, joinEstimate);
+    }
+
+    /**
+     * Replaces all indexed entities with {@code entities}.
+     */
+    void setEntities(Collection<T> entities) {
+        entitiesByWord.values().forEach(Map::clear);
+        wordsByTrigram.clear();
+        indexedEntities.clear();
+        entities.forEach(this::addEntity);
+        modCount++;
+    }
+
+    /**
+     * Indexes {@code entity} under the words of each of its fields.
+     */
+    void addEntity(T entity) {
+        requireNonNull(entity);
+        for (SearchField<T> field : entitiesByWord.keySet()) {
+            Map<String, Set<T>> entitiesOfField = entitiesByWord.get(field);
+            for (String word : field.getFoldedWords(entity)) {
+                Set<T> entities = entitiesOfField.get(word);
+                if (entities == null) {
+                    entities = newIdentitySet();
+                    entitiesOfField.put(word, entities);
+                    addTrigrams(field, word);
+                }
+                entities.add(entity);
+            }
+        }
+        indexedEntities.add(entity);
+        modCount++;
+    }
+
+    /**
+     * Drops {@code entity}, which must be the indexed object itself, from the index.
+     * Does nothing if {@code entity} is null or not indexed.
+     */
+    void removeEntity(T entity) {
+        if (entity == null || !indexedEntities.remove(entity)) {
+            return;
+        }
+        for (SearchField<T> field : entitiesByWord.keySet()) {
+            Map<String, Set<T>> entitiesOfField = entitiesByWord.get(field);
+            for (String word : field.getFoldedWords(entity)) {
+                Set<T> entities = entitiesOfField.get(word);
+                if (entities != null && entities.remove(entity) && entities.isEmpty()) {
+                    entitiesOfField.remove(word);
+                    removeTrigrams(field, word);
+                }
+            }
+        }
+        modCount++;
+    }
+
+    /**
+     * Returns the number of indexed entities.
+     */
+    int size() {
+        return indexedEntities.size();
+    }
+
+    /**
+     * Returns a new set of all indexed entities, which compares them by identity.
+     */
+    Set<T> getEntities() {
+        Set<T> entities = newIdentitySet();
+        entities.addAll(indexedEntities);
+        return entities;
+    }
+
+    /**
+     * Returns a new set of the indexed entities whose {@code field} has a word that matches any of {@code keywords}.
+     * The returned set compares entities by identity.
+     */
+    Set<T> find(SearchField<T> field, Collection<SearchKeyword> keywords) {
+        if (joins.containsKey(field)) {
+            return joins.get(field).apply(keywords);
+        }
+        Map<String, Set<T>> entitiesOfField = getEntitiesOfField(field);
+        Set<T> matches = newIdentitySet();
+        for (SearchKeyword keyword : keywords) {
+            for (String word : getMatchingWords(field, keyword)) {
+                matches.addAll(entitiesOfField.get(word));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the total number of entries of the words that match {@code keywords} in the index of {@code field},
+     * which is at least the number of entities that {@link #find(SearchField, Collection)} returns.
+     * A joined field has no entries of its own, so the estimate of its join is returned instead.
+     */
+    int countEntries(SearchField<T> field, Collection<SearchKeyword> keywords) {
+        if (joins.containsKey(field)) {
+            return joinEstimates.get(field).applyAsInt(keywords);
+        }
+        Map<String, Set<T>> entitiesOfField = getEntitiesOfField(field);
+        int count = 0;
+        for (SearchKeyword keyword : keywords) {
+            for (String word : getMatchingWords(field, keyword)) {
+                count += entitiesOfField.get(word).size();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns true if {@code field} of the indexed {@code entity} has a word that matches any of {@code keywords}.
+     */
+    boolean contains(SearchField<T> field, Collection<SearchKeyword> keywords, T entity) {
+        Map<String, Set<T>> entitiesOfField = joins.containsKey(field) ? null : getEntitiesOfField(field);
+        List<String> wordsOfEntity = null;
+        for (SearchKeyword keyword : keywords) {
+            if (entitiesOfField != null && keyword.getMatchType() == SearchKeyword.MatchType.EXACT) {
+                Set<T> entities = entitiesOfField.get(keyword.getText());
+                if (entities != null && entities.contains(entity)) {
+                    return true;
+                }
+                continue;
+            }
+            // The few words of the entity are faster to check than the many words that may match the keyword, or than
+            // all the entities that the join of the field finds.
+            if (wordsOfEntity == null) {
+                wordsOfEntity = field.getFoldedWords(entity);
+            }
+            if (wordsOfEntity.stream().anyMatch(keyword::matches)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns a predicate that gives the same result as {@code query} for the indexed entities, by answering
+     * {@code query} from the index.
+     */
+    Predicate<T> toIndexedPredicate(KeywordQuery<T> query) {
+        requireNonNull(query);
+        return new IndexedPredicate(query);
+    }
+
+    /**
+     * Returns the indexed words of {@code field} that match {@code keyword}.
+     */
+    private Collection<String> getMatchingWords(SearchField<T> field, SearchKeyword keyword) {
+        NavigableMap<String, Set<T>> entitiesOfField = getEntitiesOfField(field);
+        String text = keyword.getText();
+        switch (keyword.getMatchType()) {
+        case PREFIX:
+            List<String> wordsWithPrefix = new ArrayList<>();
+            for (String word : entitiesOfField.tailMap(text, true).keySet()) {
+                if (!word.startsWith(text)) {
+                    break;
+                }
+                wordsWithPrefix.add(word);
+            }
+            return wordsWithPrefix;
+        case FUZZY:
+            List<String> similarWords = new ArrayList<>();
+            for (String word : getFuzzyCandidates(field, keyword)) {
+                if (keyword.matches(word)) {
+                    similarWords.add(word);
+                }
+            }
+            return similarWords;
+        default:
+            return entitiesOfField.containsKey(text) ? Collections.singletonList(text) : Collections.emptyList();
+        }
+    }
+
+    /**
+     * Returns the indexed words of {@code field} that may be within the edit distance of the fuzzy {@code keyword}.
+     * Each edit changes at most {@value #TRIGRAM_LENGTH} trigrams of a word, so a matching word shares all but that
+     * many trigrams for each edit with the keyword. If {@code field} is not fuzzy indexed, or the keyword is too short
+     * to rule any word out, returns all words of {@code field}.
+     */
+    private Collection<String> getFuzzyCandidates(SearchField<T> field, SearchKeyword keyword) {
+        if (field.isFuzzyIndexed() && !wordsByTrigram.containsKey(field)) {
+            wordsByTrigram.put(field, new HashMap<>());
+            entitiesByWord.get(field).keySet().forEach(word -> addTrigrams(field, word));
+        }
+        Map<String, Set<String>> wordsOfField = wordsByTrigram.get(field);
+        Set<String> trigrams = getTrigrams(keyword.getText());
+        int minSharedTrigrams = trigrams.size() - TRIGRAM_LENGTH * keyword.getMaxEditDistance();
+        if (wordsOfField == null || minSharedTrigrams <= 0) {
+            return entitiesByWord.get(field).keySet();
+        }
+
+        Map<String, Integer> sharedTrigramCounts = new HashMap<>();
+        for (String trigram : trigrams) {
+            for (String word : wordsOfField.getOrDefault(trigram, Collections.emptySet())) {
+                sharedTrigramCounts.merge(word, 1, Integer::sum);
+            }
+        }
+        List<String> candidates = new ArrayList<>();
+        sharedTrigramCounts.forEach((word, count) -> {
+            if (count >= minSharedTrigrams) {
+                candidates.add(word);
+            }
+        });
+        return candidates;
+    }
+
+    private void addTrigrams(SearchField<T> field, String word) {
+        Map<String, Set<String>> wordsOfField = wordsByTrigram.get(field);
+        if (wordsOfField == null) {
+            return;
+        }
+        for (String trigram : getTrigrams(word)) {
+            wordsOfField.computeIfAbsent(trigram, unused -> new HashSet<>()).add(word);
+        }
+    }
+
+    private void removeTrigrams(SearchField<T> field, String word) {
+        Map<String, Set<String>> wordsOfField = wordsByTrigram.get(field);
+        if (wordsOfField == null) {
+            return;
+        }
+        for (String trigram : getTrigrams(word)) {
+            Set<String> words = wordsOfField.get(trigram);
+            if (words != null && words.remove(word) && words.isEmpty()) {
+                wordsOfField.remove(trigram);
+            }
+        }
+    }
+
+    private NavigableMap<String, Set<T>> getEntitiesOfField(SearchField<T> field) {
+        NavigableMap<String, Set<T>> entitiesOfField = entitiesByWord.get(field);
+        if (entitiesOfField == null) {
+            throw new IllegalArgumentException("Field " + field + " is not indexed.");
+        }
+        return entitiesOfField;
+    }
+
+    private static Set<String> getTrigrams(String word) {
+        String paddedWord = TRIGRAM_PADDING + word + TRIGRAM_PADDING;
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + TRIGRAM_LENGTH <= paddedWord.length(); i++) {
+            trigrams.add(paddedWord.substring(i, i + TRIGRAM_LENGTH));
+        }
+        return trigrams;
+    }
+
+    private static <T> Set<T> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * Matches the entities found in the index for a {@code KeywordQuery}.
+     * The matches are found again on the first test after the index changes. An entity that is not indexed,
+     * such as one that is being added to its list before the index, is tested by the query itself.
+     */
+    private class IndexedPredicate implements Predicate<T> {
+        private final KeywordQuery<T> query;
+        private Set<T> matches;
+        private int matchesModCount;
+
+        IndexedPredicate(KeywordQuery<T> query) {
+            this.query = query;
+        }
+
+        @Override
+        public boolean test(T entity) {
+            if (!indexedEntities.contains(entity)) {
+                return query.test(entity);
+            }
+            if (matches == null || matchesModCount != modCount) {
+                matches = query.findMatches(KeywordIndex.this);
+                matchesModCount = modCount;
+            }
+            return matches.contains(entity);
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * A query on the searchable fields of an entity. It is either a {@code FieldContainsKeywordsPredicate} on one field,
+ * or a combination of other queries with {@link #allOf(List)}, {@link #anyOf(List)} or {@link #not(KeywordQuery)}.
+ *
+ * A query can be tested on any entity by itself. The {@code Model} answers it from the {@code KeywordIndex} of the
+ * entities instead, as a plan that looks up the most selective part of each {@code allOf} query first, then only
+ * checks the few entities found against the other parts.
+ *
+ * A query that has prefix or fuzzy keywords also ranks the entities it matches, from the closest match to the
+ * loosest, by the {@link SearchKeyword#getRank(String) ranks} of the keywords that match them.
+ */
+public abstract class KeywordQuery<T> implements Predicate<T> {
+
+    /**
+     * Returns a query that matches the entities that match all of {@code queries}.
+     */
+    public static <T> KeywordQuery<T> allOf(List<KeywordQuery<T>> queries) {
+        return new AllOf<>(queries);
+    }
+
+    /**
+     * Returns a query that matches the entities that match any of {@code queries}.
+     */
+    public static <T> KeywordQuery<T> anyOf(List<KeywordQuery<T>> queries) {
+        return new AnyOf<>(queries);
+    }
+
+    /**
+     * Returns a query that matches the entities that do not match {@code query}.
+     */
+    public static <T> KeywordQuery<T> not(KeywordQuery<T> query) {
+        return new Not<>(query);
+    }
+
+    /**
+     * Returns true if the entities that this query matches may have different ranks, so that they should be sorted
+     * by {@link #toRankComparator()}.
+     */
+    public boolean isRanked() {
+        return false;
+    }
+
+    /**
+     * Returns a comparator that orders the entities that this query matches from the closest match to the loosest.
+     * The comparator remembers the rank of each entity it is given, so it should only be used while the entities do
+     * not change.
+     */
+    public Comparator<T> toRankComparator() {
+        Map<T, Integer> ranks = new IdentityHashMap<>();
+        return Comparator.comparingInt(entity -> ranks.computeIfAbsent(entity, this::getRank));
+    }
+
+    /**
+     * Returns how closely {@code entity} matches this query, 0 being the closest, or {@link SearchKeyword#NO_MATCH}
+     * if it does not match.
+     */
+    abstract int getRank(T entity);
+
+    /**
+     * Returns the rank of matching either of two parts of a query, given the rank of matching each part.
+     */
+    static int minRank(int firstRank, int secondRank) {
+        if (firstRank == SearchKeyword.NO_MATCH) {
+            return secondRank;
+        }
+        return secondRank == SearchKeyword.NO_MATCH ? firstRank : Math.min(firstRank, secondRank);
+    }
+
+    /**
+     * Returns an upper bound of the number of entities in {@code index} that match this query, without finding them.
+     */
+    abstract int estimateMatches(KeywordIndex<T> index);
+
+    /**
+     * Returns a new set of the entities in {@code index} that match this query, which compares them by identity.
+     */
+    abstract Set<T> findMatches(KeywordIndex<T> index);
+
+    /**
+     * Returns true if {@code entity}, which must be in {@code index}, matches this query.
+     */
+    abstract boolean isMatch(KeywordIndex<T> index, T entity);
+
+    /**
+     * A query that combines a list of other queries.
+     */
+    private abstract static class Combination<T> extends KeywordQuery<T> {
+        protected final List<KeywordQuery<T>> queries;
+
+        Combination(List<KeywordQuery<T>> queries) {
+            requireNonNull(queries);
+            if (queries.isEmpty()) {
+                throw new IllegalArgumentException("A combination of queries needs at least one query.");
+            }
+            this.queries = Collections.unmodifiableList(new ArrayList<>(queries));
+        }
+
+        @Override
+        public boolean isRanked() {
+            return queries.stream().anyMatch(KeywordQuery::isRanked);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other != null && other.getClass() == getClass() // same kind of combination
+                    && queries.equals(((Combination<?>) other).queries)); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return queries.hashCode();
+        }
+    }
+
+    /**
+     * Matches the entities that match all of its queries.
+     */
+    private static class AllOf<T> extends Combination<T> {
+        AllOf(List<KeywordQuery<T>> queries) {
+            super(queries);
+        }
+
+        @Override
+        public boolean test(T entity) {
+            return queries.stream().allMatch(query -> query.test(entity));
+        }
+
+        @Override
+        int getRank(T entity) {
+            int rank = 0;
+            for (KeywordQuery<T> query : queries) {
+                int queryRank = query.getRank(entity);
+                if (queryRank == SearchKeyword.NO_MATCH) {
+                    return SearchKeyword.NO_MATCH;
+                }
+                rank += queryRank;
+            }
+            return rank;
+        }
+
+        @Override
+        int estimateMatches(KeywordIndex<T> index) {
+            return queries.stream().mapToInt(query -> query.estimateMatches(index)).min().getAsInt();
+        }
+
+        @Override
+        Set<T> findMatches(KeywordIndex<T> index) {
+            // Each part is estimated once, as an estimate may cost as much as a lookup.
+            Map<KeywordQuery<T>, Integer> estimates = new IdentityHashMap<>();
+            queries.forEach(query -> estimates.put(query, query.estimateMatches(index)));
+            List<KeywordQuery<T>> plan = new ArrayList<>(queries);
+            plan.sort(Comparator.comparingInt(estimates::get));
+
+            Set<T> matches = plan.get(0).findMatches(index);
+            for (KeywordQuery<T> query : plan.subList(1, plan.size())) {
+                if (matches.isEmpty()) {
+                    break;
+                }
+                matches.removeIf(entity -> !query.isMatch(index, entity));
+            }
+            return matches;
+        }
+
+        @Override
+        boolean isMatch(KeywordIndex<T> index, T entity) {
+            return queries.stream().allMatch(query -> query.isMatch(index, entity));
+        }
+    }
+
+    /**
+     * Matches the entities that match any of its queries.
+     */
+    private static class AnyOf<T> extends Combination<T> {
+        AnyOf(List<KeywordQuery<T>> queries) {
+            super(queries);
+        }
+
+        @Override
+        public boolean test(T entity) {
+            return queries.stream().anyMatch(query -> query.test(entity));
+        }
+
+        @Override
+        int getRank(T entity) {
+            int rank = SearchKeyword.NO_MATCH;
+            for (KeywordQuery<T> query : queries) {
+                rank = minRank(rank, query.getRank(entity));
+            }
+            return rank;
+        }
+
+        @Override
+        int estimateMatches(KeywordIndex<T> index) {
+            return Math.min(index.size(), queries.stream().mapToInt(query -> query.estimateMatches(index)).sum());
+        }
+
+        @Override
+        Set<T> findMatches(KeywordIndex<T> index) {
+            Set<T> matches = queries.get(0).findMatches(index);
+            for (KeywordQuery<T> query : queries.subList(1, queries.size())) {
+                matches.addAll(query.findMatches(index));
+            }
+            return matches;
+        }
+
+        @Override
+        boolean isMatch(KeywordIndex<T> index, T entity) {
+            return queries.stream().anyMatch(query -> query.isMatch(index, entity));
+        }
+    }
+
+    /**
+     * Matches the entities that do not match its query.
+     */
+    private static class Not<T> extends KeywordQuery<T> {
+        private final KeywordQuery<T> query;
+
+        Not(KeywordQuery<T> query) {
+            this.query = requireNonNull(query);
+        }
+
+        @Override
+        public boolean test(T entity) {
+            return !query.test(entity);
+        }
+
+        @Override
+        int getRank(T entity) {
+            return query.test(entity) ? SearchKeyword.NO_MATCH : 0;
+        }
+
+        @Override
+        int estimateMatches(KeywordIndex<T> index) {
+            return index.size();
+        }
+
+        @Override
+        Set<T> findMatches(KeywordIndex<T> index) {
+            Set<T> matches = index.getEntities();
+            matches.removeAll(query.findMatches(index));
+            return matches;
+        }
+
+        @Override
+        boolean isMatch(KeywordIndex<T> index, T entity) {
+            return !query.isMatch(index, entity);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Not // instanceof handles nulls
+                    && query.equals(((Not<?>) other).query)); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return ~query.hashCode();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.model;
 
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -135,17 +136,43 @@ public interface Model {
      */
     void updateFilteredOccasionList(Predicate<Occasion> predicate);
 
+    /**
+     * Returns the persons in the address book whose module list holds {@code module}.
+     */
+    List<Person> getPersonsWithModule(Module module);
+
+    /**
+     * Returns the persons in the address book whose occasion list holds {@code occasion}.
+     */
+    List<Person> getPersonsWithOccasion(Occasion occasion);
+
+    /**
+     * Returns the modules in the address book whose student list holds {@code person}.
+     */
+    List<Module> getModulesWithStudent(Person person);
+
+    /**
+     * Returns the occasions in the address book whose attendance list holds {@code person}.
+     */
+    List<Occasion> getOccasionsWithAttendee(Person person);
+
     /**
      * Inserts the person into the module bidirectionally.
+     * {@code person} and {@code module} must exist in the address book.
      */
-    void insertPerson(Person personDeep, Module moduleDeep, Person personShallow, Module moduleShallow,
-                        Person personToReplace, Module moduleToReplace);
+    void insertPerson(Person person, Module module);
 
     /**
      * Inserts the person into an occasion bidirectionally.
+     * {@code person} and {@code occasion} must exist in the address book.
+     */
+    void insertPerson(Person person, Occasion occasion);
+
+    /**
+     * Adds the persons, modules and occasions of {@code imported}, with the links between them, as a single change.
+     * Entities that already exist in the address book are not added again, but gain the links of the imported ones.
      */
-    void insertPerson(Person personDeep, Occasion occasionDeep, Person personShallow, Occasion occasionShallow,
-                      Person personToReplace, Occasion occasionToReplace);
+    void importData(ReadOnlyAddressBook imported);
 
     /**
      * Returns true if the model has previous address book states to restore.
@@ -171,4 +198,30 @@ public interface Model {
      * Saves the current address book state for undo/redo.
      */
     void commitAddressBook();
+
+    /**
+     * Returns the number of address book states in the undo/redo history.
+     */
+    int getUndoHistoryStateCount();
+
+    /**
+     * Returns the estimated number of bytes held by the undo/redo history.
+     */
+    long getUndoHistoryEstimatedBytes();
+
+    /**
+     * Starts a batch of changes. Until the batch ends, commits are held back and changes to the address book are
+     * not announced, so the whole batch is saved once and undone as a single state.
+     */
+    void startBatch();
+
+    /**
+     * Ends the current batch, committing the address book once if any change in the batch was committed.
+     */
+    void endBatch();
+
+    /**
+     * Ends the current batch, reverting the address book to its state before the batch.
+     */
+    void cancelBatch();
 }
@@ -4,12 +4,15 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.commons.util.TypeUtil.PERSON;
 
+import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
@@ -28,7 +31,14 @@ public class ModelManager extends ComponentManager implements Model {
     private final FilteredList<Person> filteredPersons;
     private final FilteredList<Occasion> filteredOccasions;
     private final FilteredList<Module> filteredModules;
+    // Order the filtered lists by rank while they are filtered by a ranked keyword query.
+    private final SortedList<Person> sortedPersons;
+    private final SortedList<Occasion> sortedOccasions;
+    private final SortedList<Module> sortedModules;
     private TypeUtil activeType;
+    private boolean inBatch;
+    private boolean isChangedInBatch;
+    private boolean isCommittedInBatch;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -39,10 +49,14 @@ public class ModelManager extends ComponentManager implements Model {
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
-        versionedAddressBook = new VersionedAddressBook(addressBook);
+        versionedAddressBook = new VersionedAddressBook(addressBook, userPrefs.getMaxUndoStates(),
+                userPrefs.getMaxUndoHistoryBytes());
         filteredPersons = new FilteredList<>(versionedAddressBook.getPersonList());
         filteredModules = new FilteredList<>(versionedAddressBook.getModuleList());
         filteredOccasions = new FilteredList<>(versionedAddressBook.getOccasionList());
+        sortedPersons = new SortedList<>(filteredPersons);
+        sortedModules = new SortedList<>(filteredModules);
+        sortedOccasions = new SortedList<>(filteredOccasions);
         activeType = PERSON;
     }
 
@@ -61,8 +75,12 @@ public class ModelManager extends ComponentManager implements Model {
         return versionedAddressBook;
     }
 
-    /** Raises an event to indicate the model has changed */
+    /** Raises an event to indicate the model has changed, or once at the end of the current batch */
     private void indicateAddressBookChanged() {
+        if (inBatch) {
+            isChangedInBatch = true;
+            return;
+        }
         raise(new AddressBookChangedEvent(versionedAddressBook));
     }
 
@@ -163,36 +181,71 @@ public class ModelManager extends ComponentManager implements Model {
 
     //@@author
     @Override
-    public void insertPerson(Person personToInsertDeep, Module moduleToInsertDeep, Person personToInsertShallow,
-                                    Module moduleToInsertShallow, Person personToReplace, Module moduleToReplace) {
-        versionedAddressBook.insertPerson(personToInsertDeep, moduleToInsertDeep,
-                                            personToInsertShallow, moduleToInsertShallow,
-                                            personToReplace, moduleToReplace);
+    public void insertPerson(Person person, Module module) {
+        requireAllNonNull(person, module);
+
+        versionedAddressBook.insertPerson(person, module);
+        indicateAddressBookChanged();
+    }
+
+    @Override
+    public void insertPerson(Person person, Occasion occasion) {
+        requireAllNonNull(person, occasion);
+
+        versionedAddressBook.insertPerson(person, occasion);
         indicateAddressBookChanged();
     }
 
     @Override
-    public void insertPerson(Person personToInsertDeep, Occasion occasionToInsertDeep, Person personToInsertShallow,
-                                    Occasion occasionToInsertShallow, Person personToReplace,
-                                            Occasion occasionToReplace) {
-        versionedAddressBook.insertPerson(personToInsertDeep, occasionToInsertDeep, personToInsertShallow,
-                                            occasionToInsertShallow, personToReplace, occasionToReplace);
+    public void importData(ReadOnlyAddressBook imported) {
+        requireNonNull(imported);
+
+        versionedAddressBook.importData(imported);
         indicateAddressBookChanged();
     }
 
+    //=========== Relationship Lookups ======================================================================
+
+    @Override
+    public List<Person> getPersonsWithModule(Module module) {
+        requireNonNull(module);
+        return versionedAddressBook.getPersonsWithModule(module);
+    }
+
+    @Override
+    public List<Person> getPersonsWithOccasion(Occasion occasion) {
+        requireNonNull(occasion);
+        return versionedAddressBook.getPersonsWithOccasion(occasion);
+    }
+
+    @Override
+    public List<Module> getModulesWithStudent(Person person) {
+        requireNonNull(person);
+        return versionedAddressBook.getModulesWithStudent(person);
+    }
+
+    @Override
+    public List<Occasion> getOccasionsWithAttendee(Person person) {
+        requireNonNull(person);
+        return versionedAddressBook.getOccasionsWithAttendee(person);
+    }
+
+    //=========== Filtered Person List Accessors =============================================================
+
     /**
      * Returns an unmodifiable view of the list of {@code Person} backed by the internal list of
      * {@code versionedAddressBook}
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return FXCollections.unmodifiableObservableList(filteredPersons);
+        return FXCollections.unmodifiableObservableList(sortedPersons);
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        filteredPersons.setPredicate(versionedAddressBook.toIndexedPersonPredicate(predicate));
+        sortedPersons.setComparator(getRankComparator(predicate));
     }
 
     //=========== Filtered Module List Accessors =============================================================
@@ -204,14 +257,15 @@ public class ModelManager extends ComponentManager implements Model {
      */
     @Override
     public ObservableList<Module> getFilteredModuleList() {
-        return FXCollections.unmodifiableObservableList(filteredModules);
+        return FXCollections.unmodifiableObservableList(sortedModules);
     }
 
     //@@author
     @Override
     public void updateFilteredModuleList(Predicate<Module> predicate) {
         requireNonNull(predicate);
-        filteredModules.setPredicate(predicate);
+        filteredModules.setPredicate(versionedAddressBook.toIndexedModulePredicate(predicate));
+        sortedModules.setComparator(getRankComparator(predicate));
     }
 
     //=========== Filtered Occasion List Accessors =============================================================
@@ -223,14 +277,27 @@ public class ModelManager extends ComponentManager implements Model {
      */
     @Override
     public ObservableList<Occasion> getFilteredOccasionList() {
-        return FXCollections.unmodifiableObservableList(filteredOccasions);
+        return FXCollections.unmodifiableObservableList(sortedOccasions);
     }
 
     //@@author
     @Override
     public void updateFilteredOccasionList(Predicate<Occasion> predicate) {
         requireNonNull(predicate);
-        filteredOccasions.setPredicate(predicate);
+        filteredOccasions.setPredicate(versionedAddressBook.toIndexedOccasionPredicate(predicate));
+        sortedOccasions.setComparator(getRankComparator(predicate));
+    }
+
+    /**
+     * Returns the comparator that ranks the matches of {@code predicate} if it is a ranked keyword query, or null to
+     * keep the order of the list.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> Comparator<T> getRankComparator(Predicate<T> predicate) {
+        if (predicate instanceof KeywordQuery && ((KeywordQuery<T>) predicate).isRanked()) {
+            return ((KeywordQuery<T>) predicate).toRankComparator();
+        }
+        return null;
     }
 
     //=========== Undo/Redo =================================================================================
@@ -259,7 +326,61 @@ public class ModelManager extends ComponentManager implements Model {
 
     @Override
     public void commitAddressBook() {
+        if (inBatch) {
+            isCommittedInBatch = true;
+            return;
+        }
+        int evictedBefore = versionedAddressBook.getEvictedStateCount();
         versionedAddressBook.commit();
+        if (versionedAddressBook.getEvictedStateCount() > evictedBefore) {
+            logger.info("Undo history over its limits, dropped "
+                    + (versionedAddressBook.getEvictedStateCount() - evictedBefore) + " oldest state(s)");
+        }
+        logger.fine("Undo history: " + getUndoHistoryStateCount() + " states, about "
+                + getUndoHistoryEstimatedBytes() + " bytes, "
+                + versionedAddressBook.getEvictedStateCount() + " dropped");
+    }
+
+    @Override
+    public int getUndoHistoryStateCount() {
+        return versionedAddressBook.getHistoryStateCount();
+    }
+
+    @Override
+    public long getUndoHistoryEstimatedBytes() {
+        return versionedAddressBook.getHistoryEstimatedBytes();
+    }
+
+    //=========== Batches ===================================================================================
+
+    @Override
+    public void startBatch() {
+        assert !inBatch : "Batches cannot be nested";
+        inBatch = true;
+        isChangedInBatch = false;
+        isCommittedInBatch = false;
+    }
+
+    @Override
+    public void endBatch() {
+        assert inBatch;
+        inBatch = false;
+        if (isCommittedInBatch) {
+            commitAddressBook();
+        }
+        if (isChangedInBatch) {
+            indicateAddressBookChanged();
+        }
+    }
+
+    @Override
+    public void cancelBatch() {
+        assert inBatch;
+        inBatch = false;
+        versionedAddressBook.rollback();
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        updateFilteredModuleList(PREDICATE_SHOW_ALL_MODULES);
+        updateFilteredOccasionList(PREDICATE_SHOW_ALL_OCCASIONS);
     }
 
 
@@ -0,0 +1,358 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.module.Module;
+import seedu.address.model.occasion.Occasion;
+import seedu.address.model.person.Person;
+
+/**
+ * Indexes the links between the persons, modules and occasions of an {@code AddressBook} in both directions.
+ * Links are read off the embedded lists of each stored entity: a person's module and occasion lists give the
+ * module and occasion to person direction, while the student list of a module and the attendance list of an
+ * occasion give the person to module and person to occasion direction.
+ *
+ * Entities are keyed by their identity fields, so a lookup matches in the same way as
+ * {@code Person#isSamePerson(Person)}, {@code Module#isSameModule(Module)} and
+ * {@code Occasion#isSameOccasion(Occasion)}.
+ *
+ * The modules and occasions that persons are linked to are also indexed by the words of their codes and names, so
+ * that the persons in a module or occasion are found by keyword from the module or occasion side, in time that
+ * grows with the number of persons found rather than with the number of persons stored.
+ */
+class RelationshipIndex {
+
+    // Stored persons keyed by name and phone, and by name and email, and the persons linked to each module or occasion.
+    private final Map<List<Object>, Person> personsByKey = new HashMap<>();
+    private final Map<List<Object>, Person> personsByEmailKey = new HashMap<>();
+    private final Map<List<Object>, Map<List<Object>, Person>> personsByModule = new HashMap<>();
+    private final Map<List<Object>, Map<List<Object>, Person>> personsByOccasion = new HashMap<>();
+
+    // Stored modules and occasions keyed by identity, and those linked to each person key.
+    private final Map<List<Object>, Module> modulesByKey = new HashMap<>();
+    private final Map<List<Object>, Map<List<Object>, Module>> modulesByStudent = new HashMap<>();
+    private final Map<List<Object>, Occasion> occasionsByKey = new HashMap<>();
+    private final Map<List<Object>, Map<List<Object>, Occasion>> occasionsByAttendee = new HashMap<>();
+
+    // One of the embedded copies of each module and occasion that persons are linked to, indexed by code and name.
+    private final Map<List<Object>, Module> linkedModules = new HashMap<>();
+    private final Map<List<Object>, Occasion> linkedOccasions = new HashMap<>();
+    private final KeywordIndex<Module> linkedModuleCodes =
+            new KeywordIndex<>(Collections.singletonList(SearchField.MODULE_CODE));
+    private final KeywordIndex<Occasion> linkedOccasionNames =
+            new KeywordIndex<>(Collections.singletonList(SearchField.OCCASION_NAME));
+
+    /**
+     * Replaces all indexed persons with {@code persons}.
+     */
+    void setPersons(Collection<Person> persons) {
+        personsByKey.clear();
+        personsByEmailKey.clear();
+        personsByModule.clear();
+        personsByOccasion.clear();
+        linkedModules.clear();
+        linkedOccasions.clear();
+        linkedModuleCodes.setEntities(Collections.emptyList());
+        linkedOccasionNames.setEntities(Collections.emptyList());
+        persons.forEach(this::addPerson);
+    }
+
+    /**
+     * Replaces all indexed modules with {@code modules}.
+     */
+    void setModules(Collection<Module> modules) {
+        modulesByKey.clear();
+        modulesByStudent.clear();
+        modules.forEach(this::addModule);
+    }
+
+    /**
+     * Replaces all indexed occasions with {@code occasions}.
+     */
+    void setOccasions(Collection<Occasion> occasions) {
+        occasionsByKey.clear();
+        occasionsByAttendee.clear();
+        occasions.forEach(this::addOccasion);
+    }
+
+    /**
+     * Indexes {@code person} and the modules and occasions in its lists.
+     */
+    void addPerson(Person person) {
+        List<Object> personKey = personKey(person);
+        personsByKey.put(personKey, person);
+        personsByEmailKey.put(personEmailKey(person), person);
+        if (person.getModuleList() != null) {
+            person.getModuleList().forEach(module -> {
+                List<Object> moduleKey = moduleKey(module);
+                if (!personsByModule.containsKey(moduleKey)) {
+                    linkedModules.put(moduleKey, module);
+                    linkedModuleCodes.addEntity(module);
+                }
+                link(personsByModule, moduleKey, personKey, person);
+            });
+        }
+        if (person.getOccasionList() != null) {
+            person.getOccasionList().forEach(occasion -> {
+                List<Object> occasionKey = occasionKey(occasion);
+                if (!personsByOccasion.containsKey(occasionKey)) {
+                    linkedOccasions.put(occasionKey, occasion);
+                    linkedOccasionNames.addEntity(occasion);
+                }
+                link(personsByOccasion, occasionKey, personKey, person);
+            });
+        }
+    }
+
+    /**
+     * Drops the stored person with the same identity as {@code person} from the index.
+     */
+    void removePerson(Person person) {
+        Person stored = personsByKey.remove(personKey(person));
+        if (stored == null) {
+            return;
+        }
+        personsByEmailKey.remove(personEmailKey(stored), stored);
+        List<Object> personKey = personKey(stored);
+        if (stored.getModuleList() != null) {
+            stored.getModuleList().forEach(module -> {
+                List<Object> moduleKey = moduleKey(module);
+                unlink(personsByModule, moduleKey, personKey);
+                if (!personsByModule.containsKey(moduleKey)) {
+                    linkedModuleCodes.removeEntity(linkedModules.remove(moduleKey));
+                }
+            });
+        }
+        if (stored.getOccasionList() != null) {
+            stored.getOccasionList().forEach(occasion -> {
+                List<Object> occasionKey = occasionKey(occasion);
+                unlink(personsByOccasion, occasionKey, personKey);
+                if (!personsByOccasion.containsKey(occasionKey)) {
+                    linkedOccasionNames.removeEntity(linkedOccasions.remove(occasionKey));
+                }
+            });
+        }
+    }
+
+    /**
+     * Indexes {@code module} under every student in its student list.
+     */
+    void addModule(Module module) {
+        List<Object> moduleKey = moduleKey(module);
+        modulesByKey.put(moduleKey, module);
+        if (module.getStudents() != null) {
+            module.getStudents().forEach(student -> {
+                link(modulesByStudent, personKey(student), moduleKey, module);
+                link(modulesByStudent, personEmailKey(student), moduleKey, module);
+            });
+        }
+    }
+
+    /**
+     * Drops the stored module with the same identity as {@code module} from the index.
+     */
+    void removeModule(Module module) {
+        Module stored = modulesByKey.remove(moduleKey(module));
+        if (stored == null || stored.getStudents() == null) {
+            return;
+        }
+        List<Object> moduleKey = moduleKey(stored);
+        stored.getStudents().forEach(student -> {
+            unlink(modulesByStudent, personKey(student), moduleKey);
+            unlink(modulesByStudent, personEmailKey(student), moduleKey);
+        });
+    }
+
+    /**
+     * Indexes {@code occasion} under every attendee in its attendance list.
+     */
+    void addOccasion(Occasion occasion) {
+        List<Object> occasionKey = occasionKey(occasion);
+        occasionsByKey.put(occasionKey, occasion);
+        if (occasion.getAttendanceList() != null) {
+            occasion.getAttendanceList().forEach(attendee -> {
+                link(occasionsByAttendee, personKey(attendee), occasionKey, occasion);
+                link(occasionsByAttendee, personEmailKey(attendee), occasionKey, occasion);
+            });
+        }
+    }
+
+    /**
+     * Drops the stored occasion with the same identity as {@code occasion} from the index.
+     */
+    void removeOccasion(Occasion occasion) {
+        Occasion stored = occasionsByKey.remove(occasionKey(occasion));
+        if (stored == null || stored.getAttendanceList() == null) {
+            return;
+        }
+        List<Object> occasionKey = occasionKey(stored);
+        stored.getAttendanceList().forEach(attendee -> {
+            unlink(occasionsByAttendee, personKey(attendee), occasionKey);
+            unlink(occasionsByAttendee, personEmailKey(attendee), occasionKey);
+        });
+    }
+
+    /**
+     * Returns the stored person with the same identity as {@code person}, or null if there is none.
+     */
+    Person getStoredPerson(Person person) {
+        requireNonNull(person);
+        Person stored = personsByKey.get(personKey(person));
+        return stored != null ? stored : personsByEmailKey.get(personEmailKey(person));
+    }
+
+    /**
+     * Returns the stored module with the same identity as {@code module}, or null if there is none.
+     */
+    Module getStoredModule(Module module) {
+        requireNonNull(module);
+        return modulesByKey.get(moduleKey(module));
+    }
+
+    /**
+     * Returns the stored occasion with the same identity as {@code occasion}, or null if there is none.
+     */
+    Occasion getStoredOccasion(Occasion occasion) {
+        requireNonNull(occasion);
+        return occasionsByKey.get(occasionKey(occasion));
+    }
+
+    /**
+     * Returns the stored persons whose module list holds a module with the same identity as {@code module}.
+     */
+    List<Person> getPersonsWithModule(Module module) {
+        requireNonNull(module);
+        return linked(personsByModule, moduleKey(module));
+    }
+
+    /**
+     * Returns the stored persons whose occasion list holds an occasion with the same identity as {@code occasion}.
+     */
+    List<Person> getPersonsWithOccasion(Occasion occasion) {
+        requireNonNull(occasion);
+        return linked(personsByOccasion, occasionKey(occasion));
+    }
+
+    /**
+     * Returns the stored modules whose student list holds a person with the same identity as {@code person}.
+     */
+    List<Module> getModulesWithStudent(Person person) {
+        requireNonNull(person);
+        return linked(modulesByStudent, personKey(person), personEmailKey(person));
+    }
+
+    /**
+     * Returns the stored occasions whose attendance list holds a person with the same identity as {@code person}.
+     */
+    List<Occasion> getOccasionsWithAttendee(Person person) {
+        requireNonNull(person);
+        return linked(occasionsByAttendee, personKey(person), personEmailKey(person));
+    }
+
+    /**
+     * Returns a new set of the stored persons whose module list holds a module with a code that matches any of
+     * {@code keywords}. The returned set compares persons by identity.
+     */
+    Set<Person> findPersonsWithModuleCode(Collection<SearchKeyword> keywords) {
+        Set<Person> persons = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Module module : linkedModuleCodes.find(SearchField.MODULE_CODE, keywords)) {
+            persons.addAll(personsByModule.get(moduleKey(module)).values());
+        }
+        return persons;
+    }
+
+    /**
+     * Returns a new set of the stored persons whose occasion list holds an occasion with a name that matches any of
+     * {@code keywords}. The returned set compares persons by identity.
+     */
+    Set<Person> findPersonsWithOccasionName(Collection<SearchKeyword> keywords) {
+        Set<Person> persons = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Occasion occasion : linkedOccasionNames.find(SearchField.OCCASION_NAME, keywords)) {
+            persons.addAll(personsByOccasion.get(occasionKey(occasion)).values());
+        }
+        return persons;
+    }
+
+    /**
+     * Returns an upper bound of the number of persons that {@link #findPersonsWithModuleCode(Collection)} returns,
+     * by adding up the number of persons linked to each matching module instead of collecting the persons.
+     */
+    int countPersonsWithModuleCode(Collection<SearchKeyword> keywords) {
+        int count = 0;
+        for (Module module : linkedModuleCodes.find(SearchField.MODULE_CODE, keywords)) {
+            count += personsByModule.get(moduleKey(module)).size();
+        }
+        return count;
+    }
+
+    /**
+     * Returns an upper bound of the number of persons that {@link #findPersonsWithOccasionName(Collection)} returns,
+     * by adding up the number of persons linked to each matching occasion instead of collecting the persons.
+     */
+    int countPersonsWithOccasionName(Collection<SearchKeyword> keywords) {
+        int count = 0;
+        for (Occasion occasion : linkedOccasionNames.find(SearchField.OCCASION_NAME, keywords)) {
+            count += personsByOccasion.get(occasionKey(occasion)).size();
+        }
+        return count;
+    }
+
+    private static <T> void link(Map<List<Object>, Map<List<Object>, T>> links, List<Object> from,
+                                 List<Object> toKey, T to) {
+        links.computeIfAbsent(from, unused -> new LinkedHashMap<>()).put(toKey, to);
+    }
+
+    private static <T> void unlink(Map<List<Object>, Map<List<Object>, T>> links, List<Object> from,
+                                   List<Object> toKey) {
+        Map<List<Object>, T> linked = links.get(from);
+        if (linked == null) {
+            return;
+        }
+        linked.remove(toKey);
+        if (linked.isEmpty()) {
+            links.remove(from);
+        }
+    }
+
+    /**
+     * Returns the entities linked from any of {@code fromKeys}, without duplicates.
+     */
+    @SafeVarargs
+    private static <T> List<T> linked(Map<List<Object>, Map<List<Object>, T>> links, List<Object>... fromKeys) {
+        if (fromKeys.length == 1) {
+            return new ArrayList<>(links.getOrDefault(fromKeys[0], Collections.emptyMap()).values());
+        }
+        Map<List<Object>, T> union = new LinkedHashMap<>();
+        for (List<Object> from : fromKeys) {
+            union.putAll(links.getOrDefault(from, Collections.emptyMap()));
+        }
+        return new ArrayList<>(union.values());
+    }
+
+    private static List<Object> personKey(Person person) {
+        return Arrays.asList(person.getName(), person.getPhone());
+    }
+
+    private static List<Object> personEmailKey(Person person) {
+        return Arrays.asList(person.getName(), person.getEmail());
+    }
+
+    private static List<Object> moduleKey(Module module) {
+        return Arrays.asList(module.getModuleCode(), module.getAcademicYear(), module.getSemester());
+    }
+
+    private static List<Object> occasionKey(Occasion occasion) {
+        return Arrays.asList(occasion.getOccasionName(), occasion.getOccasionDate());
+    }
+}
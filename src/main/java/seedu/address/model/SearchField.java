@@ -0,0 +1,151 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.module.Module;
+import seedu.address.model.occasion.Occasion;
+import seedu.address.model.person.Person;
+
+/**
+ * A field of a person, module or occasion that can be searched by keyword, together with the text it holds.
+ * A field may hold several values, such as the codes of the modules of a person, and a keyword matches a field if it
+ * is one of the words of any of its values.
+ *
+ * The {@code AddressBook} keeps a separate {@link KeywordIndex} for each field in {@link #PERSON_FIELDS},
+ * {@link #MODULE_FIELDS} and {@link #OCCASION_FIELDS}. Only the free text fields of names, emails and titles are
+ * {@link #isFuzzyIndexed() fuzzy indexed}, as fuzzy keywords are rarely useful on numbers and codes.
+ *
+ * The words of a field are taken from its value objects, such as {@code Name}, which split and fold their text once
+ * and keep the words, as they are immutable. A field with several values, such as the module codes of a person, is
+ * read one value at a time through {@link #getFoldedWords(Object, int)}, so testing a keyword predicate on the same
+ * entity again neither splits nor allocates.
+ */
+public final class SearchField<T> {
+
+    public static final SearchField<Person> PERSON_NAME =
+            new SearchField<>("name", true, person -> person.getName().getFoldedWords());
+    public static final SearchField<Person> PERSON_PHONE =
+            new SearchField<>("phone", false, person -> person.getPhone().getFoldedWords());
+    public static final SearchField<Person> PERSON_EMAIL =
+            new SearchField<>("email", true, person -> person.getEmail().getFoldedWords());
+    public static final SearchField<Person> PERSON_ADDRESS =
+            new SearchField<>("address", false, person -> person.getAddress().getFoldedWords());
+    public static final SearchField<Person> PERSON_MODULE_CODE =
+            new SearchField<>("module code", false, SearchField::countModules, (person, index) ->
+                    person.getModuleList().get(index).getModuleCode().getFoldedWords());
+    public static final SearchField<Person> PERSON_OCCASION_NAME =
+            new SearchField<>("occasion name", false, SearchField::countOccasions, (person, index) ->
+                    person.getOccasionList().get(index).getOccasionName().getFoldedWords());
+
+    public static final SearchField<Module> MODULE_CODE =
+            new SearchField<>("module code", false, module -> module.getModuleCode().getFoldedWords());
+    public static final SearchField<Module> MODULE_TITLE =
+            new SearchField<>("module title", true, module -> module.getModuleTitle().getFoldedWords());
+    public static final SearchField<Module> MODULE_ACADEMIC_YEAR =
+            new SearchField<>("academic year", false, module -> module.getAcademicYear().getFoldedWords());
+    public static final SearchField<Module> MODULE_SEMESTER =
+            new SearchField<>("semester", false, module -> module.getSemester().getFoldedWords());
+
+    public static final SearchField<Occasion> OCCASION_NAME = new SearchField<>("occasion name", true,
+            occasion -> occasion.getOccasionName().getFoldedWords());
+    public static final SearchField<Occasion> OCCASION_DATE =
+            new SearchField<>("occasion date", false, occasion -> occasion.getOccasionDate().getFoldedWords());
+    public static final SearchField<Occasion> OCCASION_LOCATION = new SearchField<>("location", false,
+            occasion -> occasion.getOccasionLocation().getFoldedWords());
+
+    public static final List<SearchField<Person>> PERSON_FIELDS = Collections.unmodifiableList(Arrays.asList(
+            PERSON_NAME, PERSON_PHONE, PERSON_EMAIL, PERSON_ADDRESS, PERSON_MODULE_CODE, PERSON_OCCASION_NAME));
+    public static final List<SearchField<Module>> MODULE_FIELDS = Collections.unmodifiableList(Arrays.asList(
+            MODULE_CODE, MODULE_TITLE, MODULE_ACADEMIC_YEAR, MODULE_SEMESTER));
+    public static final List<SearchField<Occasion>> OCCASION_FIELDS = Collections.unmodifiableList(Arrays.asList(
+            OCCASION_NAME, OCCASION_DATE, OCCASION_LOCATION));
+
+    private final String name;
+    private final boolean isFuzzyIndexed;
+    private final ToIntFunction<T> valueCounter;
+    private final ValueWordsGetter<T> valueWordsGetter;
+
+    /**
+     * Creates a field that holds a single value, whose words {@code wordsGetter} returns.
+     */
+    private SearchField(String name, boolean isFuzzyIndexed, Function<T, List<String>> wordsGetter) {
+        this(name, isFuzzyIndexed, entity -> 1, (entity, index) -> wordsGetter.apply(entity));
+    }
+
+    /**
+     * Creates a field that holds as many values as {@code valueCounter} counts, the words of each of which
+     * {@code valueWordsGetter} returns.
+     */
+    private SearchField(String name, boolean isFuzzyIndexed, ToIntFunction<T> valueCounter,
+                        ValueWordsGetter<T> valueWordsGetter) {
+        this.name = name;
+        this.isFuzzyIndexed = isFuzzyIndexed;
+        this.valueCounter = valueCounter;
+        this.valueWordsGetter = valueWordsGetter;
+    }
+
+    /**
+     * Returns true if the keyword index of this field can look fuzzy keywords up by their trigrams.
+     */
+    public boolean isFuzzyIndexed() {
+        return isFuzzyIndexed;
+    }
+
+    /**
+     * Returns the number of values of this field in {@code entity}.
+     */
+    public int getValueCount(T entity) {
+        return valueCounter.applyAsInt(entity);
+    }
+
+    /**
+     * Returns the words of the value at {@code index} of this field in {@code entity}, each folded with
+     * {@link StringUtil#foldCase(String)}. The returned list must not be modified.
+     */
+    public List<String> getFoldedWords(T entity, int index) {
+        return valueWordsGetter.getWords(entity, index);
+    }
+
+    /**
+     * Returns the words of all values of this field in {@code entity}, each folded with
+     * {@link StringUtil#foldCase(String)}. The returned list must not be modified.
+     */
+    public List<String> getFoldedWords(T entity) {
+        int valueCount = getValueCount(entity);
+        if (valueCount == 1) {
+            return getFoldedWords(entity, 0);
+        }
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < valueCount; i++) {
+            words.addAll(getFoldedWords(entity, i));
+        }
+        return words;
+    }
+
+    private static int countModules(Person person) {
+        return person.getModuleList() == null ? 0 : person.getModuleList().size();
+    }
+
+    private static int countOccasions(Person person) {
+        return person.getOccasionList() == null ? 0 : person.getOccasionList().size();
+    }
+
+    /**
+     * Returns the words of one value of a field of an entity.
+     */
+    @FunctionalInterface
+    private interface ValueWordsGetter<T> {
+        List<String> getWords(T entity, int index);
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
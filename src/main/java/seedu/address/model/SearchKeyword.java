@@ -0,0 +1,123 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * A keyword of a find command, which matches the words of a {@code SearchField} ignoring case.
+ * A keyword that ends with {@value #PREFIX_MARKER} matches the words that start with it, e.g. {@code ale*} matches
+ * "Alex". A keyword that ends with {@value #FUZZY_MARKER} matches the words within a small edit distance of it, e.g.
+ * {@code alx~} matches "Alex". Any other keyword, or a marker on its own, must match a whole word.
+ */
+public final class SearchKeyword {
+
+    public static final char PREFIX_MARKER = '*';
+    public static final char FUZZY_MARKER = '~';
+
+    /** The rank of a word that the keyword does not match. */
+    public static final int NO_MATCH = -1;
+
+    /** Fuzzy keywords of up to this length must still match exactly, as any other word is a single edit away. */
+    private static final int MAX_EXACT_FUZZY_LENGTH = 2;
+    /** Fuzzy keywords of up to this length may be one edit away from a word, and longer ones two edits away. */
+    private static final int MAX_ONE_EDIT_FUZZY_LENGTH = 5;
+
+    /**
+     * The ways in which a keyword can match a word.
+     */
+    public enum MatchType { EXACT, PREFIX, FUZZY }
+
+    private final String text;
+    private final MatchType matchType;
+
+    public SearchKeyword(String keyword) {
+        requireNonNull(keyword);
+        String trimmedKeyword = keyword.trim();
+        char lastChar = trimmedKeyword.isEmpty() ? ' ' : trimmedKeyword.charAt(trimmedKeyword.length() - 1);
+        if (trimmedKeyword.length() > 1 && lastChar == PREFIX_MARKER) {
+            matchType = MatchType.PREFIX;
+        } else if (trimmedKeyword.length() > 1 && lastChar == FUZZY_MARKER) {
+            matchType = MatchType.FUZZY;
+        } else {
+            matchType = MatchType.EXACT;
+        }
+        String unmarkedKeyword = matchType == MatchType.EXACT
+                ? trimmedKeyword : trimmedKeyword.substring(0, trimmedKeyword.length() - 1);
+        text = StringUtil.foldCase(unmarkedKeyword);
+    }
+
+    /**
+     * Returns the keyword without its marker, folded with {@link StringUtil#foldCase(String)}.
+     */
+    public String getText() {
+        return text;
+    }
+
+    public MatchType getMatchType() {
+        return matchType;
+    }
+
+    /**
+     * Returns the largest edit distance of a word that this keyword matches.
+     */
+    public int getMaxEditDistance() {
+        if (matchType != MatchType.FUZZY || text.length() <= MAX_EXACT_FUZZY_LENGTH) {
+            return 0;
+        }
+        return text.length() <= MAX_ONE_EDIT_FUZZY_LENGTH ? 1 : 2;
+    }
+
+    /**
+     * Returns how closely this keyword matches {@code foldedWord}, which is folded with
+     * {@link StringUtil#foldCase(String)}: 0 for the same word, a larger number for a looser match, or
+     * {@link #NO_MATCH} if it does not match the word.
+     */
+    public int getRank(String foldedWord) {
+        switch (matchType) {
+        case PREFIX:
+            if (!foldedWord.startsWith(text)) {
+                return NO_MATCH;
+            }
+            return foldedWord.length() == text.length() ? 0 : 1;
+        case FUZZY:
+            int editDistance = StringUtil.getEditDistance(text, foldedWord, getMaxEditDistance());
+            return editDistance > getMaxEditDistance() ? NO_MATCH : editDistance;
+        default:
+            return text.equals(foldedWord) ? 0 : NO_MATCH;
+        }
+    }
+
+    /**
+     * Returns true if this keyword matches {@code foldedWord}, which is folded with
+     * {@link StringUtil#foldCase(String)}.
+     */
+    public boolean matches(String foldedWord) {
+        return getRank(foldedWord) != NO_MATCH;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SearchKeyword // instanceof handles nulls
+                && text.equals(((SearchKeyword) other).text)
+                && matchType == ((SearchKeyword) other).matchType); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return text.hashCode() * 31 + matchType.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        switch (matchType) {
+        case PREFIX:
+            return text + PREFIX_MARKER;
+        case FUZZY:
+            return text + FUZZY_MARKER;
+        default:
+            return text;
+        }
+    }
+}
@@ -11,8 +11,23 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs {
 
+    /**
+     * The formats the address book can be saved in.
+     * {@code JOURNAL} keeps the XML file as a snapshot and appends each save's changes to a journal beside it.
+     */
+    public enum AddressBookFileFormat {
+        XML, BINARY, JOURNAL
+    }
+
+    public static final int DEFAULT_MAX_UNDO_STATES = 1000;
+    public static final long DEFAULT_MAX_UNDO_HISTORY_BYTES = 64L * 1024 * 1024;
+
     private GuiSettings guiSettings;
     private Path addressBookFilePath = Paths.get("data" , "addressbook.xml");
+    private int maxUndoStates = DEFAULT_MAX_UNDO_STATES;
+    private long maxUndoHistoryBytes = DEFAULT_MAX_UNDO_HISTORY_BYTES;
+    private long addressBookSaveDelay = 300;
+    private AddressBookFileFormat addressBookFileFormat = AddressBookFileFormat.XML;
 
     public UserPrefs() {
         setGuiSettings(500, 500, 0, 0);
@@ -38,6 +53,50 @@ public class UserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    /**
+     * Returns the maximum number of states the undo history keeps.
+     */
+    public int getMaxUndoStates() {
+        return maxUndoStates;
+    }
+
+    public void setMaxUndoStates(int maxUndoStates) {
+        this.maxUndoStates = maxUndoStates;
+    }
+
+    /**
+     * Returns the estimated number of bytes the undo history may hold before its oldest states are dropped.
+     */
+    public long getMaxUndoHistoryBytes() {
+        return maxUndoHistoryBytes;
+    }
+
+    public void setMaxUndoHistoryBytes(long maxUndoHistoryBytes) {
+        this.maxUndoHistoryBytes = maxUndoHistoryBytes;
+    }
+
+    /**
+     * Returns how many milliseconds changes to the address book are collected before they are saved together.
+     */
+    public long getAddressBookSaveDelay() {
+        return addressBookSaveDelay;
+    }
+
+    public void setAddressBookSaveDelay(long addressBookSaveDelay) {
+        this.addressBookSaveDelay = addressBookSaveDelay;
+    }
+
+    /**
+     * Returns the format the address book file is read and saved in.
+     */
+    public AddressBookFileFormat getAddressBookFileFormat() {
+        return addressBookFileFormat;
+    }
+
+    public void setAddressBookFileFormat(AddressBookFileFormat addressBookFileFormat) {
+        this.addressBookFileFormat = addressBookFileFormat;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -50,12 +109,17 @@ public class UserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return Objects.equals(guiSettings, o.guiSettings)
-                && Objects.equals(addressBookFilePath, o.addressBookFilePath);
+                && Objects.equals(addressBookFilePath, o.addressBookFilePath)
+                && maxUndoStates == o.maxUndoStates
+                && maxUndoHistoryBytes == o.maxUndoHistoryBytes
+                && addressBookSaveDelay == o.addressBookSaveDelay
+                && addressBookFileFormat == o.addressBookFileFormat;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, maxUndoStates, maxUndoHistoryBytes,
+                addressBookSaveDelay, addressBookFileFormat);
     }
 
     @Override
@@ -63,6 +127,9 @@ public class UserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings.toString());
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nUndo history limits : " + maxUndoStates + " states, " + maxUndoHistoryBytes + " bytes");
+        sb.append("\nAddress book save delay : " + addressBookSaveDelay + "ms");
+        sb.append("\nAddress book file format : " + addressBookFileFormat);
         return sb.toString();
     }
 
@@ -1,39 +1,156 @@
 package seedu.address.model;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.Objects;
+
+import seedu.address.commons.util.TypeUtil;
+import seedu.address.model.module.Module;
+import seedu.address.model.occasion.Occasion;
+import seedu.address.model.person.Person;
 
 /**
  * {@code AddressBook} that keeps track of its own history.
+ * Instead of a full copy of the address book per state, the history keeps the list of changes made between
+ * each pair of consecutive states, so committing, undoing and redoing cost time and memory proportional to the
+ * number of entities changed rather than to the size of the address book.
+ *
+ * The history is bounded by a maximum number of undoable states and a maximum estimated footprint in bytes.
+ * When a commit goes over either limit, the oldest states are dropped.
  */
 public class VersionedAddressBook extends AddressBook {
 
-    private final List<ReadOnlyAddressBook> addressBookStateList;
+    // Changes that turn state i into state i + 1 are stored at index i.
+    private final List<List<Change>> committedChanges = new ArrayList<>();
+    private final List<Change> uncommittedChanges = new ArrayList<>();
+    private final int maxStates;
+    private final long maxHistoryBytes;
     private int currentStatePointer;
+    private long committedBytes;
+    private int evictedStateCount;
 
     public VersionedAddressBook(ReadOnlyAddressBook initialState) {
-        super(initialState);
+        this(initialState, Integer.MAX_VALUE, Long.MAX_VALUE);
+    }
 
-        addressBookStateList = new ArrayList<>();
-        addressBookStateList.add(new AddressBook(initialState));
+    /**
+     * Creates a {@code VersionedAddressBook} starting at {@code initialState} whose history keeps at most
+     * {@code maxStates} undoable states and about {@code maxHistoryBytes} bytes of changes.
+     */
+    public VersionedAddressBook(ReadOnlyAddressBook initialState, int maxStates, long maxHistoryBytes) {
+        super();
+        if (maxStates < 0 || maxHistoryBytes < 0) {
+            throw new IllegalArgumentException("Undo history limits must not be negative.");
+        }
+        this.maxStates = maxStates;
+        this.maxHistoryBytes = maxHistoryBytes;
+        resetData(initialState);
+        uncommittedChanges.clear();
         currentStatePointer = 0;
     }
 
     /**
-     * Saves a copy of the current {@code AddressBook} state at the end of the state list.
-     * Undone states are removed from the state list.
+     * Saves the changes made since the current state as a new state at the end of the state list.
+     * Undone states are removed from the state list, and the oldest states are dropped if the history
+     * is over its limits.
      */
     public void commit() {
         removeStatesAfterCurrentPointer();
-        addressBookStateList.add(new AddressBook(this));
+        List<Change> netChanges = compact(uncommittedChanges);
+        committedChanges.add(netChanges);
+        committedBytes += estimateBytes(netChanges);
+        uncommittedChanges.clear();
         currentStatePointer++;
+        evictOldestStatesOverLimits();
     }
 
-
     private void removeStatesAfterCurrentPointer() {
-        addressBookStateList.subList(currentStatePointer + 1, addressBookStateList.size()).clear();
+        List<List<Change>> undoneChanges = committedChanges.subList(currentStatePointer, committedChanges.size());
+        undoneChanges.forEach(changes -> committedBytes -= estimateBytes(changes));
+        undoneChanges.clear();
+    }
+
+    /**
+     * Drops the oldest states until the history is within both of its limits.
+     */
+    private void evictOldestStatesOverLimits() {
+        while (!committedChanges.isEmpty()
+                && (committedChanges.size() > maxStates || committedBytes > maxHistoryBytes)) {
+            committedBytes -= estimateBytes(committedChanges.remove(0));
+            currentStatePointer--;
+            evictedStateCount++;
+        }
+    }
+
+    /**
+     * Returns the net changes of {@code changes}. A command usually edits the same entity several times, for
+     * example once per cascaded link, so later changes to an entity are folded into the change that produced it.
+     * Changes are only folded across updates to the same list, since additions and removals shift positions.
+     */
+    private static List<Change> compact(List<Change> changes) {
+        List<Change> netChanges = new ArrayList<>();
+        // Position in netChanges of the change that produced each entity, by list type and entity instance.
+        Map<TypeUtil, Map<Object, Integer>> producers = new EnumMap<>(TypeUtil.class);
+        for (TypeUtil type : TypeUtil.values()) {
+            producers.put(type, new IdentityHashMap<>());
+        }
+
+        for (Change change : changes) {
+            if (change.kind == Change.Kind.UPDATE && change.before == change.after) {
+                continue;
+            }
+            Map<Object, Integer> producersOfType = producers.get(change.type);
+
+            Integer producer = change.before == null ? null : producersOfType.remove(change.before);
+            if (producer != null && change.kind != Change.Kind.REPLACE) {
+                Change merged = netChanges.get(producer).followedBy(change);
+                netChanges.set(producer, merged);
+                if (merged != null && merged.after != null) {
+                    producersOfType.put(merged.after, producer);
+                }
+            } else {
+                netChanges.add(change);
+            }
+
+            if (change.kind != Change.Kind.UPDATE) {
+                producersOfType.clear();
+            }
+            if (producer == null && change.after != null && change.kind != Change.Kind.REPLACE) {
+                producersOfType.put(change.after, netChanges.size() - 1);
+            }
+        }
+        netChanges.removeIf(Objects::isNull);
+        return netChanges;
+    }
+
+    private static long estimateBytes(List<Change> changes) {
+        return changes.stream().mapToLong(Change::estimateBytes).sum();
+    }
+
+    /**
+     * Returns the number of states that can currently be undone or redone.
+     */
+    public int getHistoryStateCount() {
+        return committedChanges.size();
+    }
+
+    /**
+     * Returns the estimated number of bytes held by the committed history.
+     */
+    public long getHistoryEstimatedBytes() {
+        return committedBytes;
     }
 
+    /**
+     * Returns the number of states dropped from the history to keep it within its limits.
+     */
+    public int getEvictedStateCount() {
+        return evictedStateCount;
+    }
 
     /**
      * Restores the address book to its previous state.
@@ -42,11 +159,11 @@ public class VersionedAddressBook extends AddressBook {
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
+        revertUncommittedChanges();
         currentStatePointer--;
-        resetData(addressBookStateList.get(currentStatePointer));
+        revert(committedChanges.get(currentStatePointer));
     }
 
-
     /**
      * Restores the address book to its previously undone state.
      */
@@ -54,8 +171,16 @@ public class VersionedAddressBook extends AddressBook {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
+        revertUncommittedChanges();
+        committedChanges.get(currentStatePointer).forEach(this::apply);
         currentStatePointer++;
-        resetData(addressBookStateList.get(currentStatePointer));
+    }
+
+    /**
+     * Reverts the changes made since the current state, without changing the history.
+     */
+    public void rollback() {
+        revertUncommittedChanges();
     }
 
     /**
@@ -69,7 +194,183 @@ public class VersionedAddressBook extends AddressBook {
      * Returns true if {@code redo()} has address book states to redo.
      */
     public boolean canRedo() {
-        return currentStatePointer < addressBookStateList.size() - 1;
+        return currentStatePointer < committedChanges.size();
+    }
+
+    //// change recording
+
+    @Override
+    public void setPersons(List<Person> persons) {
+        List<Person> before = new ArrayList<>(getPersonList());
+        super.setPersons(persons);
+        uncommittedChanges.add(Change.replacement(TypeUtil.PERSON, before, new ArrayList<>(persons)));
+    }
+
+    @Override
+    public void setModules(List<Module> modules) {
+        List<Module> before = new ArrayList<>(getModuleList());
+        super.setModules(modules);
+        uncommittedChanges.add(Change.replacement(TypeUtil.MODULE, before, new ArrayList<>(modules)));
+    }
+
+    @Override
+    public void setOccasions(List<Occasion> occasions) {
+        List<Occasion> before = new ArrayList<>(getOccasionList());
+        super.setOccasions(occasions);
+        uncommittedChanges.add(Change.replacement(TypeUtil.OCCASION, before, new ArrayList<>(occasions)));
+    }
+
+    @Override
+    public void addPerson(Person person) {
+        int index = getPersonList().size();
+        super.addPerson(person);
+        uncommittedChanges.add(Change.addition(TypeUtil.PERSON, index, person));
+    }
+
+    @Override
+    public void addModule(Module module) {
+        int index = getModuleList().size();
+        super.addModule(module);
+        uncommittedChanges.add(Change.addition(TypeUtil.MODULE, index, module));
+    }
+
+    @Override
+    public void addOccasion(Occasion occasion) {
+        int index = getOccasionList().size();
+        super.addOccasion(occasion);
+        uncommittedChanges.add(Change.addition(TypeUtil.OCCASION, index, occasion));
+    }
+
+    @Override
+    public void updatePerson(Person target, Person editedPerson) {
+        int index = getPersonList().indexOf(target);
+        Person before = index == -1 ? target : getPersonList().get(index);
+        super.updatePerson(target, editedPerson);
+        uncommittedChanges.add(Change.update(TypeUtil.PERSON, index, before, editedPerson));
+    }
+
+    @Override
+    public void updateModule(Module target, Module editedModule) {
+        int index = getModuleList().indexOf(target);
+        Module before = index == -1 ? target : getModuleList().get(index);
+        super.updateModule(target, editedModule);
+        uncommittedChanges.add(Change.update(TypeUtil.MODULE, index, before, editedModule));
+    }
+
+    @Override
+    public void updateOccasion(Occasion target, Occasion editedOccasion) {
+        int index = getOccasionList().indexOf(target);
+        Occasion before = index == -1 ? target : getOccasionList().get(index);
+        super.updateOccasion(target, editedOccasion);
+        uncommittedChanges.add(Change.update(TypeUtil.OCCASION, index, before, editedOccasion));
+    }
+
+    @Override
+    public void removePerson(Person key) {
+        int index = getPersonList().indexOf(key);
+        Person removed = index == -1 ? key : getPersonList().get(index);
+        super.removePerson(key);
+        uncommittedChanges.add(Change.removal(TypeUtil.PERSON, index, removed));
+    }
+
+    @Override
+    public void removeModule(Module key) {
+        int index = getModuleList().indexOf(key);
+        Module removed = index == -1 ? key : getModuleList().get(index);
+        super.removeModule(key);
+        uncommittedChanges.add(Change.removal(TypeUtil.MODULE, index, removed));
+    }
+
+    @Override
+    public void removeOccasion(Occasion key) {
+        int index = getOccasionList().indexOf(key);
+        Occasion removed = index == -1 ? key : getOccasionList().get(index);
+        super.removeOccasion(key);
+        uncommittedChanges.add(Change.removal(TypeUtil.OCCASION, index, removed));
+    }
+
+    //// change replay
+
+    private void revertUncommittedChanges() {
+        revert(uncommittedChanges);
+        uncommittedChanges.clear();
+    }
+
+    /**
+     * Reverts {@code changes}, most recent first.
+     */
+    private void revert(List<Change> changes) {
+        ListIterator<Change> iterator = changes.listIterator(changes.size());
+        while (iterator.hasPrevious()) {
+            apply(iterator.previous().inverse());
+        }
+    }
+
+    /**
+     * Applies {@code change} to the address book without recording it.
+     */
+    private void apply(Change change) {
+        switch (change.type) {
+        case PERSON:
+            applyToPersons(change);
+            break;
+        case MODULE:
+            applyToModules(change);
+            break;
+        default:
+            applyToOccasions(change);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void applyToPersons(Change change) {
+        switch (change.kind) {
+        case ADD:
+            super.addPerson(change.index, (Person) change.after);
+            break;
+        case REMOVE:
+            super.removePerson((Person) change.before);
+            break;
+        case UPDATE:
+            super.updatePerson((Person) change.before, (Person) change.after);
+            break;
+        default:
+            super.setPersons((List<Person>) change.after);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void applyToModules(Change change) {
+        switch (change.kind) {
+        case ADD:
+            super.addModule(change.index, (Module) change.after);
+            break;
+        case REMOVE:
+            super.removeModule((Module) change.before);
+            break;
+        case UPDATE:
+            super.updateModule((Module) change.before, (Module) change.after);
+            break;
+        default:
+            super.setModules((List<Module>) change.after);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void applyToOccasions(Change change) {
+        switch (change.kind) {
+        case ADD:
+            super.addOccasion(change.index, (Occasion) change.after);
+            break;
+        case REMOVE:
+            super.removeOccasion((Occasion) change.before);
+            break;
+        case UPDATE:
+            super.updateOccasion((Occasion) change.before, (Occasion) change.after);
+            break;
+        default:
+            super.setOccasions((List<Occasion>) change.after);
+        }
     }
 
     @Override
@@ -87,11 +388,99 @@ public class VersionedAddressBook extends AddressBook {
         VersionedAddressBook otherVersionedAddressBook = (VersionedAddressBook) other;
 
         // state check
+        // Histories are compared by length only, as the same states can be reached through different changes.
         return super.equals(otherVersionedAddressBook)
-                && addressBookStateList.equals(otherVersionedAddressBook.addressBookStateList)
+                && committedChanges.size() == otherVersionedAddressBook.committedChanges.size()
                 && currentStatePointer == otherVersionedAddressBook.currentStatePointer;
     }
 
+    /**
+     * A single change to one of the entity lists of the address book.
+     * {@code before} and {@code after} hold the entity (or, for a replacement, the whole list) on either side
+     * of the change, and {@code index} is the position of the entity in its list.
+     */
+    private static class Change {
+        // Rough footprints used to bound the history, not exact measurements.
+        private static final long CHANGE_BYTES = 48;
+        private static final long ENTITY_BYTES = 256;
+
+        private final Kind kind;
+        private final TypeUtil type;
+        private final int index;
+        private final Object before;
+        private final Object after;
+
+        private Change(Kind kind, TypeUtil type, int index, Object before, Object after) {
+            this.kind = kind;
+            this.type = type;
+            this.index = index;
+            this.before = before;
+            this.after = after;
+        }
+
+        static Change addition(TypeUtil type, int index, Object added) {
+            return new Change(Kind.ADD, type, index, null, added);
+        }
+
+        static Change removal(TypeUtil type, int index, Object removed) {
+            return new Change(Kind.REMOVE, type, index, removed, null);
+        }
+
+        static Change update(TypeUtil type, int index, Object before, Object after) {
+            return new Change(Kind.UPDATE, type, index, before, after);
+        }
+
+        static Change replacement(TypeUtil type, List<?> before, List<?> after) {
+            return new Change(Kind.REPLACE, type, -1, before, after);
+        }
+
+        /**
+         * Returns a rough estimate of the memory held by this change, counting every entity it refers to.
+         */
+        long estimateBytes() {
+            if (kind == Kind.REPLACE) {
+                return CHANGE_BYTES + ENTITY_BYTES * (((List<?>) before).size() + ((List<?>) after).size());
+            }
+            return CHANGE_BYTES + ENTITY_BYTES * (kind == Kind.UPDATE ? 2 : 1);
+        }
+
+        /**
+         * Returns the single change with the effect of this change followed by {@code next}, where {@code next}
+         * changes the entity this change produced, or null if the two changes cancel out.
+         */
+        Change followedBy(Change next) {
+            assert next.before == after && next.type == type;
+            if (next.kind == Kind.REMOVE) {
+                return kind == Kind.ADD ? null : removal(type, index, before);
+            }
+            return new Change(kind, type, index, before, next.after);
+        }
+
+        /**
+         * Returns the change that undoes this change.
+         */
+        Change inverse() {
+            switch (kind) {
+            case ADD:
+                return removal(type, index, after);
+            case REMOVE:
+                return addition(type, index, before);
+            default:
+                return new Change(kind, type, index, after, before);
+            }
+        }
+
+        /**
+         * The kinds of change that can be made to an entity list.
+         */
+        private enum Kind {
+            ADD,
+            REMOVE,
+            UPDATE,
+            REPLACE
+        }
+    }
+
     /**
      * Thrown when trying to {@code undo()} but can't.
      */
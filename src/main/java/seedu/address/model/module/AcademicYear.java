@@ -3,6 +3,10 @@ package seedu.address.model.module;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.List;
+
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Module's academic year in the address book.
  * Guarantees: immutable, is valid as declared in {@link #isValidYear(String)} (String)}
@@ -20,6 +24,7 @@ public class AcademicYear {
     // TODO: Should it be change to string?
 
     private boolean isEmptyYear = false;
+    private List<String> foldedWords;
 
     /**
      * Empty constructor.
@@ -78,6 +83,16 @@ public class AcademicYear {
         return "AY" + firstYear() + "/" + secondYear();
     }
 
+    /**
+     * Returns the words of this academic year, each folded with {@link StringUtil#foldCase(String)}.
+     */
+    public List<String> getFoldedWords() {
+        if (foldedWords == null) {
+            foldedWords = StringUtil.getFoldedWords(toString());
+        }
+        return foldedWords;
+    }
+
     @Override
     public String toString() {
         if (isEmptyYear) {
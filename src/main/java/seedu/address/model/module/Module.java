@@ -113,15 +113,11 @@ public class Module {
     //@@author waytan
     /**
      * Makes an identical copy of this module with an empty person list.
+     * The copy is what persons hold to refer to this module, so the immutable fields are
+     * shared with this module instead of being copied.
      */
     public Module makeShallowDuplicate() {
-        ModuleCode newCode = this.moduleCode.makeCopy();
-        ModuleTitle newTitle = this.moduleTitle.makeCopy();
-        AcademicYear newYear = this.academicYear.makeCopy();
-        Semester newSem = this.semester.makeCopy();
-        UniquePersonList newList = new UniquePersonList();
-        Set<Tag> newTag = this.tags.stream().map(value -> value.makeCopy()).collect(Collectors.toSet());
-        return new Module(newCode, newTitle, newYear, newSem, newList, newTag);
+        return new Module(moduleCode, moduleTitle, academicYear, semester, new UniquePersonList(), tags);
     }
 
     /**
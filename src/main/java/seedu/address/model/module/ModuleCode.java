@@ -3,6 +3,10 @@ package seedu.address.model.module;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.List;
+
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Module's code in the address book.
  * Guarantees: immutable, is valid as declared in {@link #isValidCode(String)}
@@ -19,6 +23,7 @@ public class ModuleCode {
             "[a-zA-Z]{2,}[0-9]{4}[a-zA-Z]*";
 
     public final String fullModuleCode;
+    private List<String> foldedWords;
 
     /**
      * Empty constructor.
@@ -54,6 +59,16 @@ public class ModuleCode {
         return test.matches(MODULECODE_VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the words of this module code, each folded with {@link StringUtil#foldCase(String)}.
+     */
+    public List<String> getFoldedWords() {
+        if (foldedWords == null) {
+            foldedWords = StringUtil.getFoldedWords(fullModuleCode);
+        }
+        return foldedWords;
+    }
+
     @Override
     public String toString() {
         return fullModuleCode;
@@ -1,31 +1,16 @@
 package seedu.address.model.module;
 
 import java.util.List;
-import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
+import seedu.address.model.FieldContainsKeywordsPredicate;
+import seedu.address.model.SearchField;
 
 /**
  * Tests that a {@code Module}'s {@code ModuleCode} matches any of the keywords given.
  */
-public class ModuleCodeContainsKeywordsPredicate implements Predicate<Module> {
-    private final List<String> keywords;
+public class ModuleCodeContainsKeywordsPredicate extends FieldContainsKeywordsPredicate<Module> {
 
     public ModuleCodeContainsKeywordsPredicate(List<String> keywords) {
-        this.keywords = keywords;
+        super(SearchField.MODULE_CODE, keywords);
     }
-
-    @Override
-    public boolean test(Module module) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(module.getModuleCode().toString(), keyword));
-    }
-
-    @Override
-    public boolean equals(Object other) {
-        return other == this // short circuit if same object
-                || (other instanceof ModuleCodeContainsKeywordsPredicate // instanceof handles nulls
-                && keywords.equals(((ModuleCodeContainsKeywordsPredicate) other).keywords)); // state check
-    }
-
 }
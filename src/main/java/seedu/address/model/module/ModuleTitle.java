@@ -3,6 +3,10 @@ package seedu.address.model.module;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.List;
+
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Module's Title in the address book.
  * Guarantees: immutable, is valid as declared in {@link #isValidTitle(String)}
@@ -19,6 +23,7 @@ public class ModuleTitle {
     public static final String MODULETITLE_VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
     public final String fullModuleTitle;
+    private List<String> foldedWords;
 
     /**
      * Empty constructor.
@@ -58,6 +63,16 @@ public class ModuleTitle {
     }
 
     //@@author waytan
+    /**
+     * Returns the words of this module title, each folded with {@link StringUtil#foldCase(String)}.
+     */
+    public List<String> getFoldedWords() {
+        if (foldedWords == null) {
+            foldedWords = StringUtil.getFoldedWords(fullModuleTitle);
+        }
+        return foldedWords;
+    }
+
     @Override
     public String toString() {
         return fullModuleTitle;
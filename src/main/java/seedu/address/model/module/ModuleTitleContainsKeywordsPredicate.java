@@ -1,32 +1,16 @@
 package seedu.address.model.module;
 
 import java.util.List;
-import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
+import seedu.address.model.FieldContainsKeywordsPredicate;
+import seedu.address.model.SearchField;
 
 /**
  * Tests that a {@code Module}'s {@code ModuleCode} matches any of the keywords given.
  */
-public class ModuleTitleContainsKeywordsPredicate implements Predicate<Module> {
-    private final List<String> keywords;
+public class ModuleTitleContainsKeywordsPredicate extends FieldContainsKeywordsPredicate<Module> {
 
     public ModuleTitleContainsKeywordsPredicate(List<String> keywords) {
-        this.keywords = keywords;
+        super(SearchField.MODULE_TITLE, keywords);
     }
-
-    @Override
-    public boolean test(Module module) {
-        return keywords.stream()
-                .anyMatch(keyword ->
-                        StringUtil.containsWordIgnoreCase(module.getModuleTitle().fullModuleTitle, keyword));
-    }
-
-    @Override
-    public boolean equals(Object other) {
-        return other == this // short circuit if same object
-                || (other instanceof ModuleTitleContainsKeywordsPredicate // instanceof handles nulls
-                && keywords.equals(((ModuleTitleContainsKeywordsPredicate) other).keywords)); // state check
-    }
-
 }
@@ -3,6 +3,10 @@ package seedu.address.model.module;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.List;
+
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Module's semester in the address book.
  * Guarantees: immutable, is valid as declared in {@link #isValidSemester(String)} (String)}
@@ -16,6 +20,7 @@ public class Semester {
     public static final String SEMESTER_VALIDATION_REGEX = "[1-4]{1}";
 
     public final String semesterNumber;
+    private List<String> foldedWords;
 
     /**
      * Empty constructor.
@@ -59,6 +64,16 @@ public class Semester {
         return 1 <= semester && semester <= 4;
     }
 
+    /**
+     * Returns the words of this semester, each folded with {@link StringUtil#foldCase(String)}.
+     */
+    public List<String> getFoldedWords() {
+        if (foldedWords == null) {
+            foldedWords = StringUtil.getFoldedWords(semesterNumber);
+        }
+        return foldedWords;
+    }
+
     @Override
     public String toString() {
         return semesterNumber;
@@ -1,31 +1,16 @@
 package seedu.address.model.module;
 
 import java.util.List;
-import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
+import seedu.address.model.FieldContainsKeywordsPredicate;
+import seedu.address.model.SearchField;
 
 /**
  * Tests that a {@code Module}'s {@code Semester} matches any of the keywords given.
  */
-public class SemesterContainsKeywordsPredicate implements Predicate<Module> {
-    private final List<String> keywords;
+public class SemesterContainsKeywordsPredicate extends FieldContainsKeywordsPredicate<Module> {
 
     public SemesterContainsKeywordsPredicate(List<String> keywords) {
-        this.keywords = keywords;
+        super(SearchField.MODULE_SEMESTER, keywords);
     }
-
-    @Override
-    public boolean test(Module module) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(module.getSemester().toString(), keyword));
-    }
-
-    @Override
-    public boolean equals(Object other) {
-        return other == this // short circuit if same object
-                || (other instanceof SemesterContainsKeywordsPredicate // instanceof handles nulls
-                && keywords.equals(((SemesterContainsKeywordsPredicate) other).keywords)); // state check
-    }
-
 }
@@ -3,8 +3,13 @@ package seedu.address.model.module;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
@@ -14,20 +19,26 @@ import seedu.address.model.module.exceptions.ModuleNotFoundException;
 
 /**
  * A list of modules that enforces uniqueness between its elements and does not allow nulls.
- * A module is considered unique by comparing using {@code Module#equals(Module)}. As such, adding and updating of
- * modules uses Module#equals(Module) for equality so as to ensure that the module being added or updated is
- * unique in terms of identity in the UniqueModuleList.
+ * A module is considered unique by comparing using {@code Module#isSameModule(Module)}. As such, adding and updating
+ * of modules uses Module#isSameModule(Module) for equality so as to ensure that the module being added or updated is
+ * unique in terms of identity in the UniqueModuleList. Identity checks are answered from a hash index keyed on
+ * module code, academic year and semester that is kept next to the internal list.
  *
  * Supports a minimal set of list operations.
  *
+ * @see Module#isSameModule(Module)
  */
 public class UniqueModuleList implements Iterable<Module> {
 
     private final ObservableList<Module> internalList = FXCollections.observableArrayList();
 
+    // Number of modules in internalList holding each identity key.
+    private final Map<List<Object>, Integer> identityIndex = new HashMap<>();
+
     public UniqueModuleList(List<Module> moduleList) {
         for (Module module : moduleList) {
             internalList.add(module);
+            addToIndex(module);
         }
     }
 
@@ -40,7 +51,7 @@ public class UniqueModuleList implements Iterable<Module> {
      */
     public boolean contains(Module moduleToCheck) {
         requireNonNull(moduleToCheck);
-        return internalList.stream().anyMatch(moduleToCheck::equals);
+        return identityIndex.containsKey(identityKey(moduleToCheck));
     }
 
     /**
@@ -48,11 +59,20 @@ public class UniqueModuleList implements Iterable<Module> {
      * within it.
      */
     public void add(Module moduleToAdd) {
+        add(internalList.size(), moduleToAdd);
+    }
+
+    /**
+     * Adds the specified module to the list at position {@code index} iff it is not originally contained
+     * within it.
+     */
+    public void add(int index, Module moduleToAdd) {
         requireNonNull(moduleToAdd);
         if (contains(moduleToAdd)) {
             throw new DuplicateModuleException();
         }
-        internalList.add(moduleToAdd);
+        internalList.add(index, moduleToAdd);
+        addToIndex(moduleToAdd);
     }
 
     /**
@@ -92,6 +112,8 @@ public class UniqueModuleList implements Iterable<Module> {
         }
 
         internalList.set(index, editedModule);
+        removeFromIndex(target);
+        addToIndex(editedModule);
     }
 
     //@@author
@@ -103,13 +125,20 @@ public class UniqueModuleList implements Iterable<Module> {
         if (!internalList.remove(moduleToRemove)) {
             throw new ModuleNotFoundException();
         }
+        removeFromIndex(moduleToRemove);
     }
 
     public void setModules(UniqueModuleList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        identityIndex.clear();
+        identityIndex.putAll(replacement.identityIndex);
     }
 
+    /**
+     * Replaces the contents of this list with {@code modules}.
+     * {@code modules} must not contain duplicate modules.
+     */
     public void setModules(List<Module> modules) {
         requireNonNull(modules);
         if (!modulesAreUnique(modules)) {
@@ -117,6 +146,22 @@ public class UniqueModuleList implements Iterable<Module> {
         }
 
         internalList.setAll(modules);
+        identityIndex.clear();
+        modules.forEach(this::addToIndex);
+    }
+
+    /**
+     * Returns the number of modules in the list.
+     */
+    public int size() {
+        return internalList.size();
+    }
+
+    /**
+     * Returns the module at {@code index} in the list.
+     */
+    public Module get(int index) {
+        return internalList.get(index);
     }
 
     /**
@@ -154,15 +199,30 @@ public class UniqueModuleList implements Iterable<Module> {
      * Returns true if {@code modules} contains only unique modules.
      */
     private boolean modulesAreUnique(List<Module> modules) {
-        for (int i = 0; i < modules.size(); i++) {
-            for (int j = 0; j < modules.size(); j++) {
-                if (i != j) {
-                    if (modules.get(i).equals(modules.get(j))) {
-                        return false;
-                    }
-                }
+        Set<List<Object>> seenIdentities = new HashSet<>();
+        for (Module module : modules) {
+            if (!seenIdentities.add(identityKey(module))) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * Adds the identity key of {@code module} to the index.
+     */
+    private void addToIndex(Module module) {
+        identityIndex.merge(identityKey(module), 1, Integer::sum);
+    }
+
+    /**
+     * Removes one occurrence of the identity key of {@code module} from the index.
+     */
+    private void removeFromIndex(Module module) {
+        identityIndex.computeIfPresent(identityKey(module), (key, count) -> count == 1 ? null : count - 1);
+    }
+
+    private static List<Object> identityKey(Module module) {
+        return Arrays.asList(module.getModuleCode(), module.getAcademicYear(), module.getSemester());
+    }
 }
@@ -119,14 +119,11 @@ public class Occasion {
 
     /**
      * Make an identical copy of this occasion with an empty person list.
+     * The copy is what persons hold to refer to this occasion, so the immutable fields are
+     * shared with this occasion instead of being copied.
      */
     public Occasion makeShallowDuplicate() {
-        OccasionName newName = this.occasionName.makeCopy();
-        OccasionDate newDate = this.occasionDate.makeCopy();
-        OccasionLocation newLocation = this.location.makeCopy();
-        UniquePersonList newList = new UniquePersonList();
-        Set<Tag> newTags = this.tags.stream().map(value -> value.makeCopy()).collect(Collectors.toSet());
-        return new Occasion(newName, newDate, newLocation, newTags, TypeUtil.OCCASION, newList.asNormalList());
+        return new Occasion(occasionName, occasionDate, location, tags, TypeUtil.OCCASION, new UniquePersonList());
     }
 
     /**
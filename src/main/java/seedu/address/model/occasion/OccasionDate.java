@@ -3,6 +3,10 @@ package seedu.address.model.occasion;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.List;
+
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents an Occasions date in the address book.
  * Guarantees: immutable, is valid as declared in {@link #isValidDate(String)}
@@ -21,6 +25,7 @@ public class OccasionDate {
     public static final String OCCASIONDATE_VALIDATION_REGEX = "\\d{4}-\\d{2}-\\d{2}";
 
     public final String fullOccasionDate;
+    private List<String> foldedWords;
 
     /**
      * Empty Constructor.
@@ -103,6 +108,16 @@ public class OccasionDate {
         return (((year % 4 == 0) && (year % 100 != 0)) || (year % 400 == 0));
     }
 
+    /**
+     * Returns the words of this occasion date, each folded with {@link StringUtil#foldCase(String)}.
+     */
+    public List<String> getFoldedWords() {
+        if (foldedWords == null) {
+            foldedWords = StringUtil.getFoldedWords(fullOccasionDate);
+        }
+        return foldedWords;
+    }
+
     @Override
     public String toString() {
         return fullOccasionDate;
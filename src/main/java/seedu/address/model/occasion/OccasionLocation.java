@@ -3,6 +3,10 @@ package seedu.address.model.occasion;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.List;
+
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents an Occasion's location in the address book.
  * Guarantees: immutable, is valid as declared in {@link #isValidLocation(String)}
@@ -20,6 +24,7 @@ public class OccasionLocation {
     public static final String OCCASIONLOCATION_VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
     public final String fullOccasionLocation;
+    private List<String> foldedWords;
 
     /**
      * Empty Constructor.
@@ -60,6 +65,16 @@ public class OccasionLocation {
         return test.matches(OCCASIONLOCATION_VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the words of this occasion location, each folded with {@link StringUtil#foldCase(String)}.
+     */
+    public List<String> getFoldedWords() {
+        if (foldedWords == null) {
+            foldedWords = StringUtil.getFoldedWords(fullOccasionLocation);
+        }
+        return foldedWords;
+    }
+
     @Override
     public String toString() {
         return fullOccasionLocation;
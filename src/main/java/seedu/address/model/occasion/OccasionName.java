@@ -3,6 +3,10 @@ package seedu.address.model.occasion;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.List;
+
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents an Occasion's name in the address book.
  * Guarantees: immutable, is valid as declared in {@link #isValidName(String)}
@@ -21,6 +25,7 @@ public class OccasionName {
     public static final String OCCASIONNAME_VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
     public final String fullOccasionName;
+    private List<String> foldedWords;
 
     /**
      * Empty Constructor.
@@ -57,6 +62,16 @@ public class OccasionName {
         return test.matches(OCCASIONNAME_VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the words of this occasion name, each folded with {@link StringUtil#foldCase(String)}.
+     */
+    public List<String> getFoldedWords() {
+        if (foldedWords == null) {
+            foldedWords = StringUtil.getFoldedWords(fullOccasionName);
+        }
+        return foldedWords;
+    }
+
     @Override
     public String toString() {
         return fullOccasionName;
@@ -3,8 +3,13 @@ package seedu.address.model.occasion;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
@@ -14,19 +19,25 @@ import seedu.address.model.occasion.exceptions.OccasionNotFoundException;
 
 /**
  * A list of occasions that enforces uniqueness between its elements and does not allow nulls.
- * An occasion is considered unique by comparing using {@code Occasion#equals(Occasion)}. As such, adding and updating
- * of occasions uses Occasion#equals(Occasion) for equality so as to ensure that the occasion being added or updated
- * is unique in terms of identity in the UniqueOccasionList.
+ * An occasion is considered unique by comparing using {@code Occasion#isSameOccasion(Occasion)}. As such, adding and
+ * updating of occasions uses Occasion#isSameOccasion(Occasion) for equality so as to ensure that the occasion being
+ * added or updated is unique in terms of identity in the UniqueOccasionList. Identity checks are answered from a hash
+ * index keyed on occasion name and date that is kept next to the internal list.
  *
  * Supports a minimal set of list operations.
  *
+ * @see Occasion#isSameOccasion(Occasion)
  */
 public class UniqueOccasionList implements Iterable<Occasion> {
     private final ObservableList<Occasion> internalList = FXCollections.observableArrayList();
 
+    // Number of occasions in internalList holding each identity key.
+    private final Map<List<Object>, Integer> identityIndex = new HashMap<>();
+
     public UniqueOccasionList(List<Occasion> occasionList) {
         for (Occasion occasion : occasionList) {
             internalList.add(occasion);
+            addToIndex(occasion);
         }
     }
 
@@ -39,7 +50,7 @@ public class UniqueOccasionList implements Iterable<Occasion> {
      */
     public boolean contains(Occasion occasionToCheck) {
         requireNonNull(occasionToCheck);
-        return internalList.stream().anyMatch(occasionToCheck::isSameOccasion);
+        return identityIndex.containsKey(identityKey(occasionToCheck));
     }
 
     /**
@@ -67,11 +78,20 @@ public class UniqueOccasionList implements Iterable<Occasion> {
      * within it.
      */
     public void add(Occasion occasionToAdd) {
+        add(internalList.size(), occasionToAdd);
+    }
+
+    /**
+     * Adds the specified occasion to the list at position {@code index} iff it is not originally contained
+     * within it.
+     */
+    public void add(int index, Occasion occasionToAdd) {
         requireNonNull(occasionToAdd);
         if (contains(occasionToAdd)) {
             throw new DuplicateOccasionException();
         }
-        internalList.add(occasionToAdd);
+        internalList.add(index, occasionToAdd);
+        addToIndex(occasionToAdd);
     }
 
     /**
@@ -92,6 +112,8 @@ public class UniqueOccasionList implements Iterable<Occasion> {
         }
 
         internalList.set(index, editedOccasion);
+        removeFromIndex(target);
+        addToIndex(editedOccasion);
     }
 
     /**
@@ -102,13 +124,20 @@ public class UniqueOccasionList implements Iterable<Occasion> {
         if (!internalList.remove(occasionToRemove)) {
             throw new OccasionNotFoundException();
         }
+        removeFromIndex(occasionToRemove);
     }
 
     public void setOccasions(UniqueOccasionList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        identityIndex.clear();
+        identityIndex.putAll(replacement.identityIndex);
     }
 
+    /**
+     * Replaces the contents of this list with {@code occasions}.
+     * {@code occasions} must not contain duplicate occasions.
+     */
     public void setOccasions(List<Occasion> occasions) {
         requireNonNull(occasions);
         if (!occasionsAreUnique(occasions)) {
@@ -116,6 +145,22 @@ public class UniqueOccasionList implements Iterable<Occasion> {
         }
 
         internalList.setAll(occasions);
+        identityIndex.clear();
+        occasions.forEach(this::addToIndex);
+    }
+
+    /**
+     * Returns the number of occasions in the list.
+     */
+    public int size() {
+        return internalList.size();
+    }
+
+    /**
+     * Returns the occasion at {@code index} in the list.
+     */
+    public Occasion get(int index) {
+        return internalList.get(index);
     }
 
     /**
@@ -153,15 +198,30 @@ public class UniqueOccasionList implements Iterable<Occasion> {
      * Returns true if {@code occasions} contains only unique occasions.
      */
     private boolean occasionsAreUnique(List<Occasion> occasions) {
-        for (int i = 0; i < occasions.size(); i++) {
-            for (int j = 0; j < occasions.size(); j++) {
-                if (i != j) {
-                    if (occasions.get(i).equals(occasions.get(j))) {
-                        return false;
-                    }
-                }
+        Set<List<Object>> seenIdentities = new HashSet<>();
+        for (Occasion occasion : occasions) {
+            if (!seenIdentities.add(identityKey(occasion))) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * Adds the identity key of {@code occasion} to the index.
+     */
+    private void addToIndex(Occasion occasion) {
+        identityIndex.merge(identityKey(occasion), 1, Integer::sum);
+    }
+
+    /**
+     * Removes one occurrence of the identity key of {@code occasion} from the index.
+     */
+    private void removeFromIndex(Occasion occasion) {
+        identityIndex.computeIfPresent(identityKey(occasion), (key, count) -> count == 1 ? null : count - 1);
+    }
+
+    private static List<Object> identityKey(Occasion occasion) {
+        return Arrays.asList(occasion.getOccasionName(), occasion.getOccasionDate());
+    }
 }
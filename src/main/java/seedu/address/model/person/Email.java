@@ -3,6 +3,10 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.List;
+
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's email in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmail(String)}
@@ -28,6 +32,7 @@ public class Email {
             + DOMAIN_FIRST_CHARACTER_REGEX + DOMAIN_MIDDLE_REGEX + DOMAIN_LAST_CHARACTER_REGEX;
 
     public final String value;
+    private List<String> foldedWords;
 
     /**
      * Empty constructor.
@@ -65,6 +70,16 @@ public class Email {
         return test.matches(EMAIL_VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the words of this email address, each folded with {@link StringUtil#foldCase(String)}.
+     */
+    public List<String> getFoldedWords() {
+        if (foldedWords == null) {
+            foldedWords = StringUtil.getFoldedWords(value);
+        }
+        return foldedWords;
+    }
+
     @Override
     public String toString() {
         return value;
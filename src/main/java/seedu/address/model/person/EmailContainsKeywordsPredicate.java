@@ -1,30 +1,16 @@
 package seedu.address.model.person;
 
 import java.util.List;
-import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
+import seedu.address.model.FieldContainsKeywordsPredicate;
+import seedu.address.model.SearchField;
 
 /**
  * Tests that a {@code Person}'s {@code Email} matches any of the keywords given.
  */
-public class EmailContainsKeywordsPredicate implements Predicate<Person> {
-    private final List<String> keywords;
+public class EmailContainsKeywordsPredicate extends FieldContainsKeywordsPredicate<Person> {
 
     public EmailContainsKeywordsPredicate(List<String> keywords) {
-        this.keywords = keywords;
-    }
-
-    @Override
-    public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getEmail().toString(), keyword));
-    }
-
-    @Override
-    public boolean equals(Object other) {
-        return other == this // short circuit if same object
-                || (other instanceof EmailContainsKeywordsPredicate // instanceof handles nulls
-                && keywords.equals(((EmailContainsKeywordsPredicate) other).keywords)); // state check
+        super(SearchField.PERSON_EMAIL, keywords);
     }
 }
@@ -152,18 +152,11 @@ public class Person {
 
     /**
      * Makes an identical copy of this person with empty module and occasion lists.
+     * The copy is what modules and occasions hold to refer to this person, so the immutable fields are
+     * shared with this person instead of being copied.
      */
     public Person makeShallowDuplicate() {
-        Name newName = this.name.makeCopy();
-        Phone newPhone = this.phone.makeCopy();
-        Email newEmail = this.email.makeCopy();
-        Address newAddress = this.address.makeCopy();
-        Set<Tag> newTag = this.tags.stream().map((value) -> value.makeCopy()).collect(Collectors.toSet());
-        UniqueOccasionList newUniqueOccasionList = new UniqueOccasionList();
-        UniqueModuleList newUniqueModuleList = new UniqueModuleList();
-        return new Person(newName, newPhone, newEmail, newAddress, newTag,
-                newUniqueOccasionList.asUnmodifiableObservableList(),
-                newUniqueModuleList.asUnmodifiableObservableList());
+        return new Person(name, phone, email, address, tags, new UniqueModuleList(), new UniqueOccasionList());
     }
 
     /**
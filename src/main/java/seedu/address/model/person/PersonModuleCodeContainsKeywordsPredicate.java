@@ -1,34 +1,16 @@
 package seedu.address.model.person;
 
 import java.util.List;
-import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
+import seedu.address.model.FieldContainsKeywordsPredicate;
+import seedu.address.model.SearchField;
 
 /**
  * Tests that a {@code Person}'s {@code ModuleCode} matches any of the keywords given.
  */
-public class PersonModuleCodeContainsKeywordsPredicate implements Predicate<Person> {
-    private final List<String> keywords;
+public class PersonModuleCodeContainsKeywordsPredicate extends FieldContainsKeywordsPredicate<Person> {
 
     public PersonModuleCodeContainsKeywordsPredicate(List<String> keywords) {
-        this.keywords = keywords;
+        super(SearchField.PERSON_MODULE_CODE, keywords);
     }
-
-    @Override
-    public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> person.getModuleList().asUnmodifiableObservableList().stream()
-                        .anyMatch(module -> StringUtil.containsWordIgnoreCase(module.getModuleCode().fullModuleCode,
-                                keyword)));
-    }
-
-
-    @Override
-    public boolean equals(Object other) {
-        return other == this // short circuit if same object
-                || (other instanceof PersonModuleCodeContainsKeywordsPredicate // instanceof handles nulls
-                && keywords.equals(((PersonModuleCodeContainsKeywordsPredicate) other).keywords)); // state check
-    }
-
 }
@@ -1,30 +1,16 @@
 package seedu.address.model.person;
 
 import java.util.List;
-import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
+import seedu.address.model.FieldContainsKeywordsPredicate;
+import seedu.address.model.SearchField;
 
 /**
  * Tests that a {@code Person}'s {@code Phone} matches any of the keywords given.
  */
-public class PhoneContainsKeywordsPredicate implements Predicate<Person> {
-    private final List<String> keywords;
+public class PhoneContainsKeywordsPredicate extends FieldContainsKeywordsPredicate<Person> {
 
     public PhoneContainsKeywordsPredicate(List<String> keywords) {
-        this.keywords = keywords;
-    }
-
-    @Override
-    public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getPhone().toString(), keyword));
-    }
-
-    @Override
-    public boolean equals(Object other) {
-        return other == this // short circuit if same object
-                || (other instanceof PhoneContainsKeywordsPredicate // instanceof handles nulls
-                && keywords.equals(((PhoneContainsKeywordsPredicate) other).keywords)); // state check
+        super(SearchField.PERSON_PHONE, keywords);
     }
 }
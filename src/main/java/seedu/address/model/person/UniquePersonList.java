@@ -3,8 +3,13 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
@@ -19,6 +24,10 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Identity checks are answered from two hash indexes kept next to the internal list, keyed on (name, phone) and
+ * (name, email) respectively. Two persons are the same person exactly when they share one of these keys, so the
+ * indexes give the same answer as {@code Person#isSamePerson(Person)} in expected constant time.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -27,8 +36,14 @@ public class UniquePersonList implements Iterable<Person> {
 
     private final ObservableList<Person> internalList;
 
+    // Number of persons in internalList holding each identity key.
+    private final Map<List<Object>, Integer> namePhoneIndex;
+    private final Map<List<Object>, Integer> nameEmailIndex;
+
     {
         internalList = FXCollections.observableArrayList();
+        namePhoneIndex = new HashMap<>();
+        nameEmailIndex = new HashMap<>();
     }
 
     public UniquePersonList() {}
@@ -45,6 +60,7 @@ public class UniquePersonList implements Iterable<Person> {
         requireNonNull(otherList);
         if (personsAreUnique(otherList)) {
             internalList.addAll(otherList);
+            otherList.forEach(this::addToIndexes);
         }
     }
 
@@ -79,7 +95,8 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return namePhoneIndex.containsKey(namePhoneKey(toCheck))
+                || nameEmailIndex.containsKey(nameEmailKey(toCheck));
     }
 
     /**
@@ -87,11 +104,20 @@ public class UniquePersonList implements Iterable<Person> {
      * The person must not already exist in the list.
      */
     public void add(Person toAdd) {
+        add(internalList.size(), toAdd);
+    }
+
+    /**
+     * Adds a person to the list at position {@code index}.
+     * The person must not already exist in the list.
+     */
+    public void add(int index, Person toAdd) {
         requireNonNull(toAdd);
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
+        internalList.add(index, toAdd);
+        addToIndexes(toAdd);
     }
 
     /**
@@ -112,6 +138,8 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.set(index, editedPerson);
+        removeFromIndexes(target);
+        addToIndexes(editedPerson);
     }
 
     /**
@@ -123,11 +151,16 @@ public class UniquePersonList implements Iterable<Person> {
         if (!internalList.remove(toRemove)) {
             throw new PersonNotFoundException();
         }
+        removeFromIndexes(toRemove);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        namePhoneIndex.clear();
+        namePhoneIndex.putAll(replacement.namePhoneIndex);
+        nameEmailIndex.clear();
+        nameEmailIndex.putAll(replacement.nameEmailIndex);
     }
 
     /**
@@ -141,6 +174,9 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.setAll(persons);
+        namePhoneIndex.clear();
+        nameEmailIndex.clear();
+        persons.forEach(this::addToIndexes);
     }
 
     /**
@@ -182,13 +218,39 @@ public class UniquePersonList implements Iterable<Person> {
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<List<Object>> seenNamePhones = new HashSet<>();
+        Set<List<Object>> seenNameEmails = new HashSet<>();
+        for (Person person : persons) {
+            boolean isNewNamePhone = seenNamePhones.add(namePhoneKey(person));
+            boolean isNewNameEmail = seenNameEmails.add(nameEmailKey(person));
+            if (!isNewNamePhone || !isNewNameEmail) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * Adds the identity keys of {@code person} to the indexes.
+     */
+    private void addToIndexes(Person person) {
+        namePhoneIndex.merge(namePhoneKey(person), 1, Integer::sum);
+        nameEmailIndex.merge(nameEmailKey(person), 1, Integer::sum);
+    }
+
+    /**
+     * Removes one occurrence of the identity keys of {@code person} from the indexes.
+     */
+    private void removeFromIndexes(Person person) {
+        namePhoneIndex.computeIfPresent(namePhoneKey(person), (key, count) -> count == 1 ? null : count - 1);
+        nameEmailIndex.computeIfPresent(nameEmailKey(person), (key, count) -> count == 1 ? null : count - 1);
+    }
+
+    private static List<Object> namePhoneKey(Person person) {
+        return Arrays.asList(person.getName(), person.getPhone());
+    }
+
+    private static List<Object> nameEmailKey(Person person) {
+        return Arrays.asList(person.getName(), person.getEmail());
+    }
 }
@@ -1,11 +1,6 @@
 package seedu.address.model.util;
 
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_MODULES;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_OCCASIONS;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
-
 import java.util.List;
-import java.util.ListIterator;
 import java.util.function.Consumer;
 
 import seedu.address.commons.core.EventsCenter;
@@ -30,6 +25,8 @@ import seedu.address.model.person.UniquePersonList;
 /**
  * Contains utility to insert and remove links between {@code Person} and {@code Module}
  * or {@code Occasion} through modification of their internal attendance lists.
+ * Cascades look up the linked records through the relationship lookups of {@code Model}
+ * instead of walking every person, module or occasion.
  * @author alistair
  */
 public class AttendanceListUtil {
@@ -61,13 +58,7 @@ public class AttendanceListUtil {
      * Removes a person from the attendanceList of all associated Occasions.
      */
     public static void removePersonFromAssociatedOccasions(Model model, Person personToRemove) {
-        model.updateFilteredOccasionList(PREDICATE_SHOW_ALL_OCCASIONS);
-        List<Occasion> completeOccasionList = model.getFilteredOccasionList();
-
-        ListIterator<Occasion> occasionListIterator = completeOccasionList.listIterator();
-
-        while (occasionListIterator.hasNext()) {
-            Occasion occasion = occasionListIterator.next();
+        for (Occasion occasion : model.getOccasionsWithAttendee(personToRemove)) {
             occasion.getAttendanceList()
                     .asNormalList()
                     .stream()
@@ -82,13 +73,7 @@ public class AttendanceListUtil {
      * Removes a person from the studentList of all associated Modules.
      */
     public static void removePersonFromAssociatedModules(Model model, Person personToRemove) {
-        model.updateFilteredModuleList(PREDICATE_SHOW_ALL_MODULES);
-        List<Module> completeModuleList = model.getFilteredModuleList();
-
-        ListIterator<Module> moduleListIterator = completeModuleList.listIterator();
-
-        while (moduleListIterator.hasNext()) {
-            Module module = moduleListIterator.next();
+        for (Module module : model.getModulesWithStudent(personToRemove)) {
             module.getStudents()
                     .asNormalList()
                     .stream()
@@ -103,13 +88,7 @@ public class AttendanceListUtil {
      * Removes a module from the moduleList of all associated Persons.
      */
     public static void removeModuleFromAssociatedPersons(Model model, Module moduleToRemove) {
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        List<Person> completePersonList = model.getFilteredPersonList();
-
-        ListIterator<Person> personListIterator = completePersonList.listIterator();
-
-        while (personListIterator.hasNext()) {
-            Person person = personListIterator.next();
+        for (Person person : model.getPersonsWithModule(moduleToRemove)) {
             person.getModuleList()
                     .asNormalList()
                     .stream()
@@ -124,13 +103,7 @@ public class AttendanceListUtil {
      * Removes an Occasion from the occasionList of all associated Persons.
      */
     public static void removeOccasionFromAssociatedPersons(Model model, Occasion occasionToRemove) {
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        List<Person> completePersonList = model.getFilteredPersonList();
-
-        ListIterator<Person> personListIterator = completePersonList.listIterator();
-
-        while (personListIterator.hasNext()) {
-            Person person = personListIterator.next();
+        for (Person person : model.getPersonsWithOccasion(occasionToRemove)) {
             person.getOccasionList()
                     .asNormalList()
                     .stream()
@@ -146,13 +119,7 @@ public class AttendanceListUtil {
      * Edits a module from the moduleList of all associated Persons.
      */
     public static void editModuleFromAssociatedPersons(Model model, Module moduleToEdit, Module editedModule) {
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        List<Person> completePersonList = model.getFilteredPersonList();
-
-        ListIterator<Person> personListIterator = completePersonList.listIterator();
-
-        while (personListIterator.hasNext()) {
-            Person person = personListIterator.next();
+        for (Person person : model.getPersonsWithModule(moduleToEdit)) {
             person.getModuleList()
                     .asNormalList()
                     .stream()
@@ -169,13 +136,7 @@ public class AttendanceListUtil {
      */
     public static void editOccasionFromAssociatedPersons(Model model, Occasion occasionToEdit,
                                                            Occasion editedOccasion) {
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        List<Person> completePersonList = model.getFilteredPersonList();
-
-        ListIterator<Person> personListIterator = completePersonList.listIterator();
-
-        while (personListIterator.hasNext()) {
-            Person person = personListIterator.next();
+        for (Person person : model.getPersonsWithOccasion(occasionToEdit)) {
             person.getOccasionList()
                     .asNormalList()
                     .stream()
@@ -194,13 +155,7 @@ public class AttendanceListUtil {
      * @param editedPerson The person after editing.
      */
     public static void editPersonFromAssociateModules(Model model, Person personToEdit, Person editedPerson) {
-        model.updateFilteredModuleList(PREDICATE_SHOW_ALL_MODULES);
-        List<Module> completeModuleList = model.getFilteredModuleList();
-
-        ListIterator<Module> moduleListIterator = completeModuleList.listIterator();
-
-        while (moduleListIterator.hasNext()) {
-            Module module = moduleListIterator.next();
+        for (Module module : model.getModulesWithStudent(personToEdit)) {
             module.getStudents()
                     .asNormalList()
                     .stream()
@@ -223,13 +178,7 @@ public class AttendanceListUtil {
      * @param editedPerson The person after editing.
      */
     public static void editPersonFromAssociateOccasions(Model model, Person personToEdit, Person editedPerson) {
-        model.updateFilteredOccasionList(PREDICATE_SHOW_ALL_OCCASIONS);
-        List<Occasion> completeOccasionList = model.getFilteredOccasionList();
-
-        ListIterator<Occasion> occasionListIterator = completeOccasionList.listIterator();
-
-        while (occasionListIterator.hasNext()) {
-            Occasion occasion = occasionListIterator.next();
+        for (Occasion occasion : model.getOccasionsWithAttendee(personToEdit)) {
             occasion.getAttendanceList()
                     .asNormalList()
                     .stream()
@@ -269,7 +218,7 @@ public class AttendanceListUtil {
      */
     private static Consumer<Person> removePersonFromOccasion(Model model, Occasion occasion) {
         return person -> {
-            List<Person> updatedPersons = occasion.getAttendanceList().makeShallowDuplicate().asNormalList();
+            List<Person> updatedPersons = occasion.getAttendanceList().asNormalList();
             updatedPersons.remove(person);
             UniquePersonList updatedPersonList = new UniquePersonList(updatedPersons);
 
@@ -290,7 +239,7 @@ public class AttendanceListUtil {
      */
     private static Consumer<Person> removePersonFromModule(Model model, Module module) {
         return person -> {
-            List<Person> updatedPersons = module.getStudents().makeShallowDuplicate().asNormalList();
+            List<Person> updatedPersons = module.getStudents().asNormalList();
             updatedPersons.remove(person);
             UniquePersonList updatedPersonList = new UniquePersonList(updatedPersons);
 
@@ -312,7 +261,7 @@ public class AttendanceListUtil {
 
     private static Consumer<Module> removeModuleFromPerson(Model model, Person person) {
         return module -> {
-            List<Module> updatedModules = person.getModuleList().makeShallowDuplicate().asNormalList();
+            List<Module> updatedModules = person.getModuleList().asNormalList();
             updatedModules.remove(module);
             UniqueModuleList updatedModuleList = new UniqueModuleList(updatedModules);
 
@@ -332,7 +281,7 @@ public class AttendanceListUtil {
      */
     private static Consumer<Occasion> removeOccasionFromPerson(Model model, Person person) {
         return occasion -> {
-            List<Occasion> updatedOccasions = person.getOccasionList().makeShallowDuplicate().asNormalList();
+            List<Occasion> updatedOccasions = person.getOccasionList().asNormalList();
             updatedOccasions.remove(occasion);
             UniqueOccasionList updatedOccasionList = new UniqueOccasionList(updatedOccasions);
 
@@ -354,12 +303,12 @@ public class AttendanceListUtil {
      */
     private static Consumer<Person> editPersonFromModule(Model model, Module module, Person editedPerson) {
         return person -> {
-            List<Person> updatedPersons = module.getStudents().makeShallowDuplicate().asNormalList();
+            List<Person> updatedPersons = module.getStudents().asNormalList();
             int indexOfPersonToEdit = updatedPersons.indexOf(person);
 
             if (indexOfPersonToEdit != -1) {
                 updatedPersons.remove(person);
-                updatedPersons.add(indexOfPersonToEdit, editedPerson);
+                updatedPersons.add(indexOfPersonToEdit, editedPerson.makeShallowDuplicate());
                 UniquePersonList updatedPersonList = new UniquePersonList(updatedPersons);
 
                 ModuleDescriptor updatedModuleDescriptor = new ModuleDescriptor();
@@ -378,12 +327,12 @@ public class AttendanceListUtil {
      */
     private static Consumer<Person> editPersonFromOccasion(Model model, Occasion occasion, Person editedPerson) {
         return person -> {
-            List<Person> updatedPersons = occasion.getAttendanceList().makeShallowDuplicate().asNormalList();
+            List<Person> updatedPersons = occasion.getAttendanceList().asNormalList();
             int indexOfPersonToEdit = updatedPersons.indexOf(person);
 
             if (indexOfPersonToEdit != -1) {
                 updatedPersons.remove(person);
-                updatedPersons.add(indexOfPersonToEdit, editedPerson);
+                updatedPersons.add(indexOfPersonToEdit, editedPerson.makeShallowDuplicate());
                 UniquePersonList updatedPersonList = new UniquePersonList(updatedPersons);
 
                 OccasionDescriptor updatedOccasionDescriptor = new OccasionDescriptor();
@@ -402,12 +351,12 @@ public class AttendanceListUtil {
      */
     private static Consumer<Module> editModuleFromPerson(Model model, Person person, Module editModule) {
         return module -> {
-            List<Module> updatedModules = person.getModuleList().makeShallowDuplicate().asNormalList();
+            List<Module> updatedModules = person.getModuleList().asNormalList();
             int indexOfModuleToEdit = updatedModules.indexOf(module);
 
             if (indexOfModuleToEdit != -1) {
                 updatedModules.remove(module);
-                updatedModules.add(indexOfModuleToEdit, editModule);
+                updatedModules.add(indexOfModuleToEdit, editModule.makeShallowDuplicate());
                 UniqueModuleList uniqueModuleList = new UniqueModuleList(updatedModules);
 
                 PersonDescriptor updatedPersonDescriptor = new PersonDescriptor();
@@ -426,12 +375,12 @@ public class AttendanceListUtil {
      */
     private static Consumer<Occasion> editOccasionFromPerson(Model model, Person person, Occasion editOccasion) {
         return occasion -> {
-            List<Occasion> updatedOccasions = person.getOccasionList().makeShallowDuplicate().asNormalList();
+            List<Occasion> updatedOccasions = person.getOccasionList().asNormalList();
             int indexOfOccasionToEdit = updatedOccasions.indexOf(occasion);
 
             if (indexOfOccasionToEdit != -1) {
                 updatedOccasions.remove(occasion);
-                updatedOccasions.add(indexOfOccasionToEdit, editOccasion);
+                updatedOccasions.add(indexOfOccasionToEdit, editOccasion.makeShallowDuplicate());
                 UniqueOccasionList updatedOccasionList = new UniqueOccasionList(updatedOccasions);
 
                 PersonDescriptor updatedPersonDescriptor = new PersonDescriptor();
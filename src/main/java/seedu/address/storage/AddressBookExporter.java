@@ -0,0 +1,21 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Writes an address book to a file in a format meant for use outside of the application.
+ */
+@FunctionalInterface
+public interface AddressBookExporter {
+
+    /**
+     * Writes {@code addressBook} to {@code file}, calling {@link ExportProgress#entryWritten()} on {@code progress}
+     * after each person, module and occasion.
+     *
+     * @throws IOException if there was any problem writing to the file, or if {@code progress} stopped the export.
+     */
+    void export(Path file, ReadOnlyAddressBook addressBook, ExportProgress progress) throws IOException;
+}
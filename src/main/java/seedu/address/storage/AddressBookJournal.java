@@ -0,0 +1,142 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * An append-only file of records, each protected by a CRC32 checksum.
+ * The journal starts with a header holding the checksum of the snapshot file its records apply to, so records
+ * written against an older snapshot are never applied to a newer one.
+ *
+ * A record that was only partly written, for example because the application stopped while appending it, fails
+ * its checksum. Reading the journal stops at such a record and cuts it and anything after it off the file.
+ */
+class AddressBookJournal {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookJournal.class);
+
+    private static final int MAGIC = 0x41424a31;
+    // Magic number followed by the checksum of the snapshot file.
+    private static final int HEADER_BYTES = Integer.BYTES + Long.BYTES;
+    // Length of the record followed by the checksum of the record.
+    private static final int RECORD_HEADER_BYTES = Integer.BYTES + Long.BYTES;
+
+    private final Path path;
+
+    AddressBookJournal(Path path) {
+        this.path = path;
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    /**
+     * Returns the size of the journal file in bytes, or 0 if there is no journal file.
+     */
+    long size() throws IOException {
+        return Files.exists(path) ? Files.size(path) : 0;
+    }
+
+    /**
+     * Replaces the journal with an empty journal for the snapshot file with checksum {@code snapshotChecksum}.
+     */
+    void reset(long snapshotChecksum) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        header.putInt(MAGIC).putLong(snapshotChecksum).flip();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.write(header);
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Appends {@code record} to the journal and waits until it is on the disk.
+     */
+    void append(byte[] record) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_HEADER_BYTES + record.length);
+        buffer.putInt(record.length).putLong(checksumOf(record)).put(record).flip();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Returns the records in the journal, or {@code Optional.empty()} if there is no journal or the journal is not
+     * for the snapshot file with checksum {@code snapshotChecksum}.
+     */
+    Optional<List<byte[]>> read(long snapshotChecksum) throws IOException {
+        if (!Files.exists(path)) {
+            return Optional.empty();
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+        if (buffer.remaining() < HEADER_BYTES || buffer.getInt() != MAGIC || buffer.getLong() != snapshotChecksum) {
+            logger.warning("Journal " + path + " does not belong to its snapshot, ignoring it");
+            return Optional.empty();
+        }
+
+        List<byte[]> records = new ArrayList<>();
+        while (buffer.remaining() >= RECORD_HEADER_BYTES) {
+            int recordStart = buffer.position();
+            int length = buffer.getInt();
+            long checksum = buffer.getLong();
+            if (length < 0 || length > buffer.remaining()) {
+                buffer.position(recordStart);
+                break;
+            }
+            byte[] record = new byte[length];
+            buffer.get(record);
+            if (checksumOf(record) != checksum) {
+                buffer.position(recordStart);
+                break;
+            }
+            records.add(record);
+        }
+
+        if (buffer.position() < buffer.limit()) {
+            logger.warning("Journal " + path + " ends with an incomplete record, dropping "
+                    + (buffer.limit() - buffer.position()) + " bytes");
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                channel.truncate(buffer.position());
+                channel.force(false);
+            }
+        }
+        return Optional.of(records);
+    }
+
+    /**
+     * Returns the CRC32 checksum of the content of {@code file}.
+     */
+    static long checksumOf(Path file) throws IOException {
+        CRC32 crc = new CRC32();
+        byte[] chunk = new byte[8192];
+        try (InputStream in = Files.newInputStream(file)) {
+            for (int read = in.read(chunk); read != -1; read = in.read(chunk)) {
+                crc.update(chunk, 0, read);
+            }
+        }
+        return crc.getValue();
+    }
+
+    private static long checksumOf(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, bytes.length);
+        return crc.getValue();
+    }
+}
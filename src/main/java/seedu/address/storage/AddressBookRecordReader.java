@@ -0,0 +1,185 @@
+package seedu.address.storage;
+
+import static seedu.address.storage.AddressBookRecordWriter.ATTENDEE_LINK_TYPE;
+import static seedu.address.storage.AddressBookRecordWriter.ID;
+import static seedu.address.storage.AddressBookRecordWriter.MODULE_TYPE;
+import static seedu.address.storage.AddressBookRecordWriter.OCCASION_TYPE;
+import static seedu.address.storage.AddressBookRecordWriter.PERSON_TYPE;
+import static seedu.address.storage.AddressBookRecordWriter.SOURCE;
+import static seedu.address.storage.AddressBookRecordWriter.STUDENT_LINK_TYPE;
+import static seedu.address.storage.AddressBookRecordWriter.TAGS;
+import static seedu.address.storage.AddressBookRecordWriter.TARGET;
+import static seedu.address.storage.AddressBookRecordWriter.TYPE;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.module.Module;
+import seedu.address.model.occasion.Occasion;
+import seedu.address.model.person.Person;
+
+/**
+ * Reads an address book back from the records described in {@link AddressBookRecordWriter}, one record at a time.
+ * Each person, module and occasion is checked and turned into a model object as soon as its record is read, in the
+ * same way as an entry of the xml file. Only the ids of the entities and the links still to be made are kept until
+ * the address book is built at the end, since a link may come before the entities it refers to.
+ */
+class AddressBookRecordReader {
+
+    public static final String MESSAGE_INVALID_RECORD = "Record %1$d: %2$s";
+    public static final String MESSAGE_UNKNOWN_TYPE = "Unknown record type %s";
+    public static final String MESSAGE_DUPLICATE_ID = "Id %s is used by more than one entry";
+    public static final String MESSAGE_MISSING_FIELD = "Record's %s field is missing!";
+
+    private final Map<String, Person> personsById = new HashMap<>();
+    private final Map<String, Module> modulesById = new HashMap<>();
+    private final Map<String, Occasion> occasionsById = new HashMap<>();
+    private final List<Person> persons = new ArrayList<>();
+    private final List<Module> modules = new ArrayList<>();
+    private final List<Occasion> occasions = new ArrayList<>();
+    private final List<PendingLink> pendingLinks = new ArrayList<>();
+    private int recordCount;
+
+    /**
+     * Reads one record, whose values are strings, except for the tags, which are a list of tag names.
+     *
+     * @throws IllegalValueException if the record is not valid.
+     */
+    void readRecord(Map<?, ?> record) throws IllegalValueException {
+        recordCount++;
+        try {
+            String type = getRequiredField(record, TYPE);
+            switch (type) {
+            case PERSON_TYPE:
+                Person person = new XmlAdaptedPerson(getField(record, "name"), getField(record, "phone"),
+                        getField(record, "email"), getField(record, "address"), getTags(record)).toModelType();
+                putId(record, personsById, person);
+                persons.add(person);
+                break;
+            case MODULE_TYPE:
+                Module module = new XmlAdaptedModule(getField(record, "moduleCode"), getField(record, "moduleTitle"),
+                        getField(record, "academicYear"), getField(record, "semester"), new ArrayList<>(),
+                        getTags(record)).toModelType();
+                putId(record, modulesById, module);
+                modules.add(module);
+                break;
+            case OCCASION_TYPE:
+                Occasion occasion = new XmlAdaptedOccasion(getRequiredField(record, "occasionName"),
+                        getRequiredField(record, "occasionDate"), getRequiredField(record, "location"),
+                        getTags(record), new ArrayList<>()).toModelType();
+                putId(record, occasionsById, occasion);
+                occasions.add(occasion);
+                break;
+            case STUDENT_LINK_TYPE:
+            case ATTENDEE_LINK_TYPE:
+                pendingLinks.add(new PendingLink(recordCount, type, getRequiredField(record, SOURCE),
+                        getRequiredField(record, TARGET)));
+                break;
+            default:
+                throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_TYPE, type));
+            }
+        } catch (IllegalValueException | IllegalArgumentException e) {
+            // Model constructors reject some values with an IllegalArgumentException instead
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, recordCount, e.getMessage()));
+        }
+    }
+
+    /**
+     * Returns the address book of the records read, with the links between its entities.
+     *
+     * @throws IllegalValueException if a link refers to an unknown id, or there are duplicate entities.
+     */
+    AddressBook toAddressBook() throws IllegalValueException {
+        for (PendingLink link : pendingLinks) {
+            Person person = resolve(personsById, link, link.targetId);
+            if (STUDENT_LINK_TYPE.equals(link.type)) {
+                Module module = resolve(modulesById, link, link.sourceId);
+                if (!module.getStudents().contains(person)) {
+                    module.getStudents().add(person.makeShallowDuplicate());
+                }
+                if (!person.getModuleList().contains(module)) {
+                    person.getModuleList().add(module.makeShallowDuplicate());
+                }
+            } else {
+                Occasion occasion = resolve(occasionsById, link, link.sourceId);
+                if (!occasion.getAttendanceList().contains(person)) {
+                    occasion.getAttendanceList().add(person.makeShallowDuplicate());
+                }
+                if (!person.getOccasionList().contains(occasion)) {
+                    person.getOccasionList().add(occasion.makeShallowDuplicate());
+                }
+            }
+        }
+        pendingLinks.clear();
+        return XmlSerializableAddressBook.toAddressBook(persons, modules, occasions);
+    }
+
+    private static <T> void putId(Map<?, ?> record, Map<String, T> entitiesById, T entity)
+            throws IllegalValueException {
+        String id = getField(record, ID);
+        if (id == null || id.isEmpty()) {
+            return;
+        }
+        if (entitiesById.putIfAbsent(id, entity) != null) {
+            throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_ID, id));
+        }
+    }
+
+    private static <T> T resolve(Map<String, T> entitiesById, PendingLink link, String ref)
+            throws IllegalValueException {
+        T entity = entitiesById.get(ref);
+        if (entity == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, link.recordNumber,
+                    String.format(XmlLinkResolver.MESSAGE_UNKNOWN_REFERENCE, ref)));
+        }
+        return entity;
+    }
+
+    private static String getField(Map<?, ?> record, String field) {
+        Object value = record.get(field);
+        return value == null ? null : value.toString();
+    }
+
+    private static String getRequiredField(Map<?, ?> record, String field) throws IllegalValueException {
+        String value = getField(record, field);
+        if (value == null) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_FIELD, field));
+        }
+        return value;
+    }
+
+    /**
+     * Returns the tags of {@code record}, which may also hold a single tag name instead of a list.
+     */
+    private static List<XmlAdaptedTag> getTags(Map<?, ?> record) {
+        Object value = record.get(TAGS);
+        List<XmlAdaptedTag> tags = new ArrayList<>();
+        if (value instanceof List) {
+            ((List<?>) value).forEach(tagName -> tags.add(new XmlAdaptedTag(String.valueOf(tagName))));
+        } else if (value != null) {
+            tags.add(new XmlAdaptedTag(value.toString()));
+        }
+        return tags;
+    }
+
+    /**
+     * A link record whose ids are resolved once all entities are read.
+     */
+    private static class PendingLink {
+        private final int recordNumber;
+        private final String type;
+        private final String sourceId;
+        private final String targetId;
+
+        PendingLink(int recordNumber, String type, String sourceId, String targetId) {
+            this.recordNumber = recordNumber;
+            this.type = type;
+            this.sourceId = sourceId;
+            this.targetId = targetId;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.module.Module;
+import seedu.address.model.occasion.Occasion;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Writes an address book as a flat sequence of records, for formats such as CSV that hold one record per line.
+ * There is one record for each person, module and occasion, with the same ids as in the xml file, followed by a link
+ * table with one record for each student of a module and each attendee of an occasion.
+ *
+ * Each record maps some of the {@link #COLUMNS} to their values, in the order of the columns. Values are strings,
+ * except for tags, which are a list of tag names.
+ */
+abstract class AddressBookRecordWriter {
+
+    static final String TYPE = "type";
+    static final String ID = "id";
+    static final String TAGS = "tags";
+    static final String SOURCE = "source";
+    static final String TARGET = "target";
+
+    static final String PERSON_TYPE = "person";
+    static final String MODULE_TYPE = "module";
+    static final String OCCASION_TYPE = "occasion";
+    static final String STUDENT_LINK_TYPE = "student";
+    static final String ATTENDEE_LINK_TYPE = "attendee";
+
+    static final List<String> COLUMNS = Arrays.asList(TYPE, ID, "name", "phone", "email", "address",
+            "moduleCode", "moduleTitle", "academicYear", "semester", "occasionName", "occasionDate", "location", TAGS,
+            SOURCE, TARGET);
+
+    /**
+     * Writes the records of {@code addressBook}, calling {@link ExportProgress#entryWritten()} on {@code progress}
+     * after the record of each person, module and occasion.
+     */
+    void write(ReadOnlyAddressBook addressBook, ExportProgress progress) throws IOException {
+        XmlEntityIds ids = new XmlEntityIds(addressBook);
+        for (Person person : addressBook.getPersonList()) {
+            Map<String, Object> record = newRecord(PERSON_TYPE, ids.idOf(person));
+            record.put("name", person.getName().fullName);
+            record.put("phone", person.getPhone().value);
+            record.put("email", person.getEmail().value);
+            record.put("address", person.getAddress().value);
+            record.put(TAGS, getTagNames(person.getTags()));
+            writeRecord(record);
+            progress.entryWritten();
+        }
+        for (Module module : addressBook.getModuleList()) {
+            Map<String, Object> record = newRecord(MODULE_TYPE, ids.idOf(module));
+            record.put("moduleCode", module.getModuleCode().toString());
+            record.put("moduleTitle", module.getModuleTitle().toString());
+            record.put("academicYear", module.getAcademicYear().toString());
+            record.put("semester", module.getSemester().toString());
+            record.put(TAGS, getTagNames(module.getTags()));
+            writeRecord(record);
+            progress.entryWritten();
+        }
+        for (Occasion occasion : addressBook.getOccasionList()) {
+            Map<String, Object> record = newRecord(OCCASION_TYPE, ids.idOf(occasion));
+            record.put("occasionName", occasion.getOccasionName().toString());
+            record.put("occasionDate", occasion.getOccasionDate().toString());
+            record.put("location", occasion.getOccasionLocation().toString());
+            record.put(TAGS, getTagNames(occasion.getTags()));
+            writeRecord(record);
+            progress.entryWritten();
+        }
+
+        for (Module module : addressBook.getModuleList()) {
+            writeLinks(STUDENT_LINK_TYPE, ids.idOf(module), module.getStudents(), ids);
+        }
+        for (Occasion occasion : addressBook.getOccasionList()) {
+            writeLinks(ATTENDEE_LINK_TYPE, ids.idOf(occasion), occasion.getAttendanceList(), ids);
+        }
+    }
+
+    /**
+     * Writes a link record from {@code sourceId} to each of {@code persons}. Persons who are not in the address book
+     * have no id to link to, so they are left out.
+     */
+    private void writeLinks(String type, String sourceId, Iterable<Person> persons, XmlEntityIds ids)
+            throws IOException {
+        for (Person person : persons) {
+            String targetId = ids.idOf(person);
+            if (targetId == null) {
+                continue;
+            }
+            Map<String, Object> record = newRecord(type, null);
+            record.put(SOURCE, sourceId);
+            record.put(TARGET, targetId);
+            writeRecord(record);
+        }
+    }
+
+    private static Map<String, Object> newRecord(String type, String id) {
+        Map<String, Object> record = new LinkedHashMap<>();
+        record.put(TYPE, type);
+        if (id != null) {
+            record.put(ID, id);
+        }
+        return record;
+    }
+
+    private static List<String> getTagNames(Set<Tag> tags) {
+        return tags.stream().map(tag -> tag.tagName).collect(Collectors.toList());
+    }
+
+    /**
+     * Writes one record.
+     */
+    protected abstract void writeRecord(Map<String, Object> record) throws IOException;
+}
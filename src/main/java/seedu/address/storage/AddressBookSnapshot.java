@@ -0,0 +1,43 @@
+package seedu.address.storage;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.module.Module;
+import seedu.address.model.occasion.Occasion;
+import seedu.address.model.person.Person;
+
+/**
+ * A copy of the lists of an address book at one point in time, which can be saved on another thread while the
+ * address book itself keeps changing. Persons, modules and occasions are immutable, so only the lists are copied.
+ */
+class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+    private final ObservableList<Module> modules;
+    private final ObservableList<Occasion> occasions;
+
+    AddressBookSnapshot(ReadOnlyAddressBook addressBook) {
+        persons = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(addressBook.getPersonList()));
+        modules = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(addressBook.getModuleList()));
+        occasions = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(addressBook.getOccasionList()));
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Module> getModuleList() {
+        return modules;
+    }
+
+    @Override
+    public ObservableList<Occasion> getOccasionList() {
+        return occasions;
+    }
+}
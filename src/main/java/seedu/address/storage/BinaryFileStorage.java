@@ -0,0 +1,582 @@
+package seedu.address.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UTFDataFormatException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.module.Module;
+import seedu.address.model.occasion.Occasion;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Stores addressbook data in a compact binary file, which loads much faster than the XML file.
+ *
+ * The file starts with a magic number and a format version, followed by a table of the strings that many entries
+ * share, such as tags and module codes. Each of these strings is saved once and referred to by its position in the
+ * table. The persons, modules and occasions follow, each list as a count and then one record per entry. A record is
+ * its length followed by its fields, so a record can be decoded on its own once the string table is known.
+ *
+ * Large files are memory-mapped when they are read, and the records of each list are decoded in parallel.
+ *
+ * As in the XML file, links between entries of the address book are saved as positions in the saved lists, and
+ * links to entries that are not in the address book are saved as copies.
+ */
+public class BinaryFileStorage {
+
+    public static final int MAGIC = 0x4142424e;
+    public static final int CURRENT_VERSION = 1;
+
+    public static final String MESSAGE_NOT_BINARY_FILE = "File is not a binary address book file.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary address book file version %d is not supported.";
+    public static final String MESSAGE_CORRUPT_FILE = "Binary address book file is corrupt.";
+    public static final String MESSAGE_UNKNOWN_REFERENCE = "Saved link refers to unknown entry %d";
+    public static final String MESSAGE_FILE_TOO_LARGE = "Binary address book file of %d bytes is too large.";
+
+    // Files at least this large are memory-mapped when they are read.
+    private static final long MAPPED_READ_THRESHOLD = 8L * 1024 * 1024;
+    private static final boolean IS_WINDOWS = System.getProperty("os.name", "").startsWith("Windows");
+
+    // Marks a linked entry that is saved as a copy instead of as a position in the saved lists.
+    private static final int NO_REFERENCE = -1;
+
+    /**
+     * Saves the given addressbook data to the specified file.
+     * The previous contents of the file are kept in its backup file, see {@link FileUtil#getBackupPath(Path)}.
+     */
+    public static void saveDataToFile(Path file, ReadOnlyAddressBook addressBook) throws IOException {
+        FileUtil.writeAtomically(file, true, out -> new Writer(addressBook).writeTo(new DataOutputStream(out)));
+    }
+
+    /**
+     * Returns the address book in the file.
+     *
+     * @throws DataConversionException if the file is not a binary address book file or is corrupt.
+     * @throws IllegalValueException if there were any data constraints violated or duplicates in the file.
+     */
+    public static AddressBook loadAddressBookFromSaveFile(Path file) throws DataConversionException,
+            IllegalValueException, IOException {
+        return loadAddressBookFromSaveFile(file, MAPPED_READ_THRESHOLD);
+    }
+
+    /**
+     * Returns the address book in the file, memory-mapping the file if it has at least
+     * {@code mappedReadThreshold} bytes.
+     *
+     * @see #loadAddressBookFromSaveFile(Path)
+     */
+    static AddressBook loadAddressBookFromSaveFile(Path file, long mappedReadThreshold)
+            throws DataConversionException, IllegalValueException, IOException {
+        try {
+            return new Reader(readContents(file, mappedReadThreshold)).read();
+        } catch (BufferUnderflowException | UTFDataFormatException e) {
+            throw new DataConversionException(new IllegalValueException(MESSAGE_CORRUPT_FILE));
+        }
+    }
+
+    /**
+     * Returns the contents of {@code file}. A file of at least {@code mappedReadThreshold} bytes is memory-mapped,
+     * so its records are decoded straight from the mapped pages instead of being copied into the heap first.
+     *
+     * Files are never mapped on Windows, where a mapped file cannot be replaced until the mapping is garbage
+     * collected, which would make the next save of the address book fail.
+     */
+    private static ByteBuffer readContents(Path file, long mappedReadThreshold) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException(String.format(MESSAGE_FILE_TOO_LARGE, size));
+            }
+            if (size >= mappedReadThreshold && !IS_WINDOWS) {
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            }
+            ByteBuffer contents = ByteBuffer.allocate((int) size);
+            while (contents.hasRemaining() && channel.read(contents) >= 0) {
+                // keep reading until the buffer is full or the file ends
+            }
+            contents.flip();
+            return contents;
+        }
+    }
+
+    /**
+     * Encodes an address book, collecting the shared strings as the records are encoded.
+     */
+    private static class Writer {
+
+        private final ReadOnlyAddressBook addressBook;
+        private final XmlEntityIds ids;
+        private final Map<String, Integer> strings = new LinkedHashMap<>();
+        private final ByteArrayOutputStream records = new ByteArrayOutputStream();
+        private final ByteArrayOutputStream record = new ByteArrayOutputStream();
+        private final DataOutputStream recordOut = new DataOutputStream(record);
+
+        Writer(ReadOnlyAddressBook addressBook) {
+            this.addressBook = addressBook;
+            this.ids = new XmlEntityIds(addressBook);
+        }
+
+        void writeTo(DataOutputStream out) throws IOException {
+            DataOutputStream recordsOut = new DataOutputStream(records);
+            recordsOut.writeInt(addressBook.getPersonList().size());
+            for (Person person : addressBook.getPersonList()) {
+                writePerson(person);
+                endRecord(recordsOut);
+            }
+            recordsOut.writeInt(addressBook.getModuleList().size());
+            for (Module module : addressBook.getModuleList()) {
+                writeModule(module);
+                endRecord(recordsOut);
+            }
+            recordsOut.writeInt(addressBook.getOccasionList().size());
+            for (Occasion occasion : addressBook.getOccasionList()) {
+                writeOccasion(occasion);
+                endRecord(recordsOut);
+            }
+
+            out.writeInt(MAGIC);
+            out.writeInt(CURRENT_VERSION);
+            out.writeInt(strings.size());
+            for (String string : strings.keySet()) {
+                out.writeUTF(string);
+            }
+            records.writeTo(out);
+        }
+
+        private void endRecord(DataOutputStream recordsOut) throws IOException {
+            recordsOut.writeInt(record.size());
+            record.writeTo(recordsOut);
+            record.reset();
+        }
+
+        private void writePerson(Person person) throws IOException {
+            writePersonFields(person);
+            List<Module> moduleList = person.getModuleList() == null
+                    ? Collections.emptyList() : person.getModuleList().asUnmodifiableObservableList();
+            recordOut.writeInt(moduleList.size());
+            for (Module module : moduleList) {
+                int ref = ids.indexOf(module);
+                recordOut.writeInt(ref);
+                if (ref == NO_REFERENCE) {
+                    writeModuleFields(module);
+                }
+            }
+            List<Occasion> occasionList = person.getOccasionList() == null
+                    ? Collections.emptyList() : person.getOccasionList().asUnmodifiableObservableList();
+            recordOut.writeInt(occasionList.size());
+            for (Occasion occasion : occasionList) {
+                int ref = ids.indexOf(occasion);
+                recordOut.writeInt(ref);
+                if (ref == NO_REFERENCE) {
+                    writeOccasionFields(occasion);
+                }
+            }
+        }
+
+        private void writeModule(Module module) throws IOException {
+            writeModuleFields(module);
+            writeLinkedPersons(module.getStudents().asUnmodifiableObservableList());
+        }
+
+        private void writeOccasion(Occasion occasion) throws IOException {
+            writeOccasionFields(occasion);
+            writeLinkedPersons(occasion.getAttendanceList().asUnmodifiableObservableList());
+        }
+
+        private void writeLinkedPersons(List<Person> persons) throws IOException {
+            recordOut.writeInt(persons.size());
+            for (Person person : persons) {
+                int ref = ids.indexOf(person);
+                recordOut.writeInt(ref);
+                if (ref == NO_REFERENCE) {
+                    writePersonFields(person);
+                }
+            }
+        }
+
+        private void writePersonFields(Person person) throws IOException {
+            recordOut.writeUTF(person.getName().fullName);
+            recordOut.writeUTF(person.getPhone().value);
+            recordOut.writeUTF(person.getEmail().value);
+            recordOut.writeUTF(person.getAddress().value);
+            writeTags(person.getTags());
+        }
+
+        private void writeModuleFields(Module module) throws IOException {
+            writeShared(module.getModuleCode().toString());
+            writeShared(module.getModuleTitle().toString());
+            writeShared(module.getAcademicYear().toString());
+            writeShared(module.getSemester().toString());
+            writeTags(module.getTags());
+        }
+
+        private void writeOccasionFields(Occasion occasion) throws IOException {
+            writeShared(occasion.getOccasionName().toString());
+            writeShared(occasion.getOccasionDate().toString());
+            writeShared(occasion.getOccasionLocation().toString());
+            writeTags(occasion.getTags());
+        }
+
+        private void writeTags(Collection<Tag> tags) throws IOException {
+            recordOut.writeInt(tags.size());
+            for (Tag tag : tags) {
+                writeShared(tag.tagName);
+            }
+        }
+
+        private void writeShared(String string) throws IOException {
+            Integer index = strings.putIfAbsent(string, strings.size());
+            recordOut.writeInt(index == null ? strings.size() - 1 : index);
+        }
+    }
+
+    /**
+     * Decodes an address book from its file contents, restoring the links between its entries once all of them are
+     * decoded. The records of each list are located first and then decoded in parallel, since each record only
+     * depends on the string table.
+     */
+    private static class Reader {
+
+        private final RecordInput in;
+        private String[] strings;
+        private final List<Person> persons = new ArrayList<>();
+        private final List<Module> modules = new ArrayList<>();
+        private final List<Occasion> occasions = new ArrayList<>();
+        private final List<PendingLinks> pendingLinks = new ArrayList<>();
+
+        Reader(ByteBuffer contents) {
+            this.in = new RecordInput(contents);
+        }
+
+        AddressBook read() throws DataConversionException, IllegalValueException, IOException {
+            if (in.remaining() < Integer.BYTES || in.readInt() != MAGIC) {
+                throw new DataConversionException(new IllegalValueException(MESSAGE_NOT_BINARY_FILE));
+            }
+            int version = in.readInt();
+            if (version != CURRENT_VERSION) {
+                throw new DataConversionException(new IllegalValueException(
+                        String.format(MESSAGE_UNSUPPORTED_VERSION, version)));
+            }
+            strings = new String[in.readCount()];
+            for (int i = 0; i < strings.length; i++) {
+                strings[i] = in.readUTF();
+            }
+
+            for (DecodedEntry<Person> entry : decodeRecords(this::readPerson)) {
+                persons.add(entry.entity);
+                pendingLinks.add(entry.links);
+            }
+            for (DecodedEntry<Module> entry : decodeRecords(this::readModule)) {
+                modules.add(entry.entity);
+                pendingLinks.add(entry.links);
+            }
+            for (DecodedEntry<Occasion> entry : decodeRecords(this::readOccasion)) {
+                occasions.add(entry.entity);
+                pendingLinks.add(entry.links);
+            }
+            if (in.remaining() != 0) {
+                throw new DataConversionException(new IllegalValueException(MESSAGE_CORRUPT_FILE));
+            }
+            for (PendingLinks links : pendingLinks) {
+                links.addTo();
+            }
+            return XmlSerializableAddressBook.toAddressBook(persons, modules, occasions);
+        }
+
+        /**
+         * Decodes the next list of records with {@code decoder}. If some records cannot be decoded, the failure of
+         * the first of them is thrown, as if the records had been decoded in order.
+         */
+        private <T> List<T> decodeRecords(RecordDecoder<T> decoder) throws DataConversionException,
+                IllegalValueException, IOException {
+            List<ByteBuffer> records = new ArrayList<>();
+            for (int i = in.readCount(); i > 0; i--) {
+                records.add(in.readRecord());
+            }
+
+            Object[] decoded = new Object[records.size()];
+            IntStream.range(0, records.size()).parallel().forEach(i -> {
+                try {
+                    RecordInput record = new RecordInput(records.get(i));
+                    decoded[i] = decoder.decode(record);
+                    if (record.remaining() != 0) {
+                        throw new DataConversionException(new IllegalValueException(MESSAGE_CORRUPT_FILE));
+                    }
+                } catch (DataConversionException | IllegalValueException | IOException | RuntimeException e) {
+                    decoded[i] = new DecodingFailure(e);
+                }
+            });
+
+            List<T> entries = new ArrayList<>(decoded.length);
+            for (Object entry : decoded) {
+                if (entry instanceof DecodingFailure) {
+                    ((DecodingFailure) entry).rethrow();
+                }
+                @SuppressWarnings("unchecked")
+                T decodedEntry = (T) entry;
+                entries.add(decodedEntry);
+            }
+            return entries;
+        }
+
+        private DecodedEntry<Person> readPerson(RecordInput record) throws DataConversionException,
+                IllegalValueException, IOException {
+            Person person = readPersonFields(record);
+            LinkedEntries<Module> linkedModules = readLinkedEntries(record, this::readModuleFields);
+            LinkedEntries<Occasion> linkedOccasions = readLinkedEntries(record, this::readOccasionFields);
+            return new DecodedEntry<>(person, () -> {
+                for (Module module : linkedModules.resolve(modules, Module::makeShallowDuplicate)) {
+                    person.getModuleList().add(module);
+                }
+                for (Occasion occasion : linkedOccasions.resolve(occasions, Occasion::makeShallowDuplicate)) {
+                    person.getOccasionList().add(occasion);
+                }
+            });
+        }
+
+        private DecodedEntry<Module> readModule(RecordInput record) throws DataConversionException,
+                IllegalValueException, IOException {
+            Module module = readModuleFields(record);
+            LinkedEntries<Person> linkedStudents = readLinkedEntries(record, this::readPersonFields);
+            return new DecodedEntry<>(module, () -> {
+                for (Person student : linkedStudents.resolve(persons, Person::makeShallowDuplicate)) {
+                    module.getStudents().add(student);
+                }
+            });
+        }
+
+        private DecodedEntry<Occasion> readOccasion(RecordInput record) throws DataConversionException,
+                IllegalValueException, IOException {
+            Occasion occasion = readOccasionFields(record);
+            LinkedEntries<Person> linkedAttendees = readLinkedEntries(record, this::readPersonFields);
+            return new DecodedEntry<>(occasion, () -> {
+                for (Person attendee : linkedAttendees.resolve(persons, Person::makeShallowDuplicate)) {
+                    occasion.getAttendanceList().add(attendee);
+                }
+            });
+        }
+
+        /**
+         * Reads the entries linked to an entry, each saved as a position in the saved lists or as a copy.
+         */
+        private <T> LinkedEntries<T> readLinkedEntries(RecordInput record, RecordDecoder<T> readCopy)
+                throws DataConversionException, IllegalValueException, IOException {
+            LinkedEntries<T> linked = new LinkedEntries<>(record.readCount());
+            for (int i = 0; i < linked.refs.length; i++) {
+                linked.refs[i] = record.readInt();
+                linked.copies.add(linked.refs[i] == NO_REFERENCE ? readCopy.decode(record) : null);
+            }
+            return linked;
+        }
+
+        private Person readPersonFields(RecordInput record) throws DataConversionException,
+                IllegalValueException, IOException {
+            return new XmlAdaptedPerson(record.readUTF(), record.readUTF(), record.readUTF(), record.readUTF(),
+                    readTags(record)).toModelType();
+        }
+
+        private Module readModuleFields(RecordInput record) throws DataConversionException,
+                IllegalValueException {
+            return new XmlAdaptedModule(readShared(record), readShared(record), readShared(record),
+                    readShared(record), new ArrayList<>(), readTags(record)).toModelType();
+        }
+
+        private Occasion readOccasionFields(RecordInput record) throws DataConversionException,
+                IllegalValueException {
+            String occasionName = readShared(record);
+            String occasionDate = readShared(record);
+            String location = readShared(record);
+            return new XmlAdaptedOccasion(occasionName, occasionDate, location, readTags(record),
+                    new ArrayList<>()).toModelType();
+        }
+
+        private List<XmlAdaptedTag> readTags(RecordInput record) throws DataConversionException {
+            List<XmlAdaptedTag> tags = new ArrayList<>();
+            for (int i = record.readCount(); i > 0; i--) {
+                tags.add(new XmlAdaptedTag(readShared(record)));
+            }
+            return tags;
+        }
+
+        private String readShared(RecordInput record) throws DataConversionException {
+            int index = record.readInt();
+            if (index < 0 || index >= strings.length) {
+                throw new DataConversionException(new IllegalValueException(MESSAGE_CORRUPT_FILE));
+            }
+            return strings[index];
+        }
+    }
+
+    /**
+     * Reads the values of a record, or of the whole file, from a buffer.
+     * A value that runs past the end of the buffer causes a {@code BufferUnderflowException}.
+     */
+    private static class RecordInput {
+
+        private final ByteBuffer buffer;
+
+        RecordInput(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        int remaining() {
+            return buffer.remaining();
+        }
+
+        int readInt() {
+            return buffer.getInt();
+        }
+
+        /**
+         * Reads the number of items or bytes that follow. As every item takes up at least one byte, a count larger
+         * than what is left of the buffer can only come from a corrupt file.
+         */
+        int readCount() throws DataConversionException {
+            int count = buffer.getInt();
+            if (count < 0 || count > buffer.remaining()) {
+                throw new DataConversionException(new IllegalValueException(MESSAGE_CORRUPT_FILE));
+            }
+            return count;
+        }
+
+        /**
+         * Returns the next length-prefixed record as a buffer of its own, without copying it.
+         */
+        ByteBuffer readRecord() throws DataConversionException {
+            int length = readCount();
+            ByteBuffer record = buffer.slice();
+            record.limit(length);
+            buffer.position(buffer.position() + length);
+            return record;
+        }
+
+        /**
+         * Reads a string written by {@code DataOutput#writeUTF(String)}.
+         */
+        String readUTF() throws IOException {
+            int start = buffer.position();
+            byte[] encoded = new byte[Short.toUnsignedInt(buffer.getShort())];
+            buffer.get(encoded);
+            for (byte b : encoded) {
+                if (b <= 0) {
+                    // not plain ASCII, which is the only case where modified UTF-8 differs from US-ASCII
+                    byte[] withLength = new byte[encoded.length + Short.BYTES];
+                    ByteBuffer from = buffer.duplicate();
+                    from.position(start);
+                    from.get(withLength);
+                    return DataInputStream.readUTF(new DataInputStream(new ByteArrayInputStream(withLength)));
+                }
+            }
+            return new String(encoded, StandardCharsets.US_ASCII);
+        }
+    }
+
+    /**
+     * An entry decoded from its record, with its saved links that are still to be restored.
+     */
+    private static class DecodedEntry<T> {
+
+        private final T entity;
+        private final PendingLinks links;
+
+        DecodedEntry(T entity, PendingLinks links) {
+            this.entity = entity;
+            this.links = links;
+        }
+    }
+
+    /**
+     * The reason a record could not be decoded.
+     */
+    private static class DecodingFailure {
+
+        private final Exception cause;
+
+        DecodingFailure(Exception cause) {
+            this.cause = cause;
+        }
+
+        void rethrow() throws DataConversionException, IllegalValueException, IOException {
+            if (cause instanceof DataConversionException) {
+                throw (DataConversionException) cause;
+            } else if (cause instanceof IllegalValueException) {
+                throw (IllegalValueException) cause;
+            } else if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw (RuntimeException) cause;
+        }
+    }
+
+    /**
+     * The entries linked to one entry, in their saved order. A linked entry is either the position of an entry in
+     * the saved lists, or {@code NO_REFERENCE} together with a copy of the linked entry.
+     */
+    private static class LinkedEntries<T> {
+
+        private final int[] refs;
+        private final List<T> copies;
+
+        LinkedEntries(int count) {
+            refs = new int[count];
+            copies = new ArrayList<>(count);
+        }
+
+        /**
+         * Returns the linked entries, taking the referenced ones from {@code entities} as shallow duplicates.
+         *
+         * @throws IllegalValueException if a position is outside of {@code entities}.
+         */
+        List<T> resolve(List<T> entities, UnaryOperator<T> makeShallowDuplicate) throws IllegalValueException {
+            List<T> linked = new ArrayList<>(refs.length);
+            for (int i = 0; i < refs.length; i++) {
+                if (refs[i] == NO_REFERENCE) {
+                    linked.add(copies.get(i));
+                } else if (refs[i] < 0 || refs[i] >= entities.size()) {
+                    throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_REFERENCE, refs[i]));
+                } else {
+                    linked.add(makeShallowDuplicate.apply(entities.get(refs[i])));
+                }
+            }
+            return linked;
+        }
+    }
+
+    /**
+     * Decodes one entry from a record.
+     */
+    @FunctionalInterface
+    private interface RecordDecoder<T> {
+        T decode(RecordInput record) throws DataConversionException, IllegalValueException, IOException;
+    }
+
+    /**
+     * The saved links of one entry that are still to be restored.
+     */
+    @FunctionalInterface
+    private interface PendingLinks {
+        void addTo() throws IllegalValueException;
+    }
+}
@@ -0,0 +1,204 @@
+package seedu.address.storage;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Exports addressbook data to a CSV file, with a header row and one row for each record described in
+ * {@link AddressBookRecordWriter}. The {@code type} column tells the kind of each row, and the columns that do not
+ * apply to that kind are left empty. Tags are separated by {@value #TAG_SEPARATOR}.
+ * Rows end with CRLF and fields are quoted where needed, as in RFC 4180.
+ *
+ * Files in the same format can be imported back. Their columns are matched by the names in the header row, so the
+ * columns may come in any order, and columns that are not needed may be left out.
+ */
+public class CsvFileStorage {
+
+    public static final String MESSAGE_MISSING_TYPE_COLUMN = "The header row has no type column";
+    public static final String MESSAGE_WRONG_FIELD_COUNT = "Row %1$d has %2$d fields instead of %3$d";
+    public static final String MESSAGE_UNTERMINATED_QUOTE = "Row %1$d has a quoted field that does not end";
+
+    static final String TAG_SEPARATOR = ";";
+
+    private static final String ROW_SEPARATOR = "\r\n";
+
+    /**
+     * Writes {@code addressBook} to {@code file}, one row at a time, straight from the model.
+     */
+    public static void exportDataToFile(Path file, ReadOnlyAddressBook addressBook) throws IOException {
+        exportDataToFile(file, addressBook, ExportProgress.NONE);
+    }
+
+    /**
+     * Similar to {@link #exportDataToFile(Path, ReadOnlyAddressBook)}, telling {@code progress} about each entry
+     * written.
+     */
+    public static void exportDataToFile(Path file, ReadOnlyAddressBook addressBook, ExportProgress progress)
+            throws IOException {
+        FileUtil.writeDirectly(file, out -> writeAddressBook(out, addressBook, progress));
+    }
+
+    private static void writeAddressBook(OutputStream out, ReadOnlyAddressBook addressBook, ExportProgress progress)
+            throws IOException {
+        BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writeRow(writer, AddressBookRecordWriter.COLUMNS);
+        new AddressBookRecordWriter() {
+            @Override
+            protected void writeRecord(Map<String, Object> record) throws IOException {
+                writeRow(writer, COLUMNS.stream().map(record::get).collect(Collectors.toList()));
+            }
+        }.write(addressBook, progress);
+        writer.flush();
+    }
+
+    private static void writeRow(BufferedWriter writer, List<?> fields) throws IOException {
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeField(writer, fields.get(i));
+        }
+        writer.write(ROW_SEPARATOR);
+    }
+
+    private static void writeField(BufferedWriter writer, Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        String field = value instanceof List
+                ? ((List<?>) value).stream().map(Object::toString).collect(Collectors.joining(TAG_SEPARATOR))
+                : value.toString();
+        if (!needsQuotes(field)) {
+            writer.write(field);
+            return;
+        }
+        writer.write('"');
+        writer.write(field.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static boolean needsQuotes(String field) {
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == ',' || c == '"' || c == '\r' || c == '\n') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the address book in {@code file}, reading it one row at a time.
+     *
+     * @throws DataConversionException if the file is not a CSV file with a header row.
+     * @throws IllegalValueException if the file holds invalid or duplicate entries.
+     */
+    public static AddressBook importDataFromFile(Path file) throws DataConversionException, IllegalValueException,
+            IOException {
+        if (!FileUtil.isFileExists(file)) {
+            throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+        }
+
+        AddressBookRecordReader recordReader = new AddressBookRecordReader();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            List<String> columns = readRow(reader, 1);
+            if (columns == null || !columns.contains(AddressBookRecordWriter.TYPE)) {
+                throw new DataConversionException(new IOException(MESSAGE_MISSING_TYPE_COLUMN));
+            }
+            int rowNumber = 1;
+            List<String> row;
+            while ((row = readRow(reader, ++rowNumber)) != null) {
+                if (row.size() == 1 && row.get(0).isEmpty()) {
+                    continue;
+                }
+                if (row.size() != columns.size()) {
+                    throw new DataConversionException(new IOException(
+                            String.format(MESSAGE_WRONG_FIELD_COUNT, rowNumber, row.size(), columns.size())));
+                }
+                recordReader.readRecord(toRecord(columns, row));
+            }
+        }
+        return recordReader.toAddressBook();
+    }
+
+    /**
+     * Returns the record of {@code row}, with its tags split into a list.
+     */
+    private static Map<String, Object> toRecord(List<String> columns, List<String> row) {
+        Map<String, Object> record = new HashMap<>();
+        for (int i = 0; i < columns.size(); i++) {
+            String field = row.get(i);
+            if (columns.get(i).equals(AddressBookRecordWriter.TAGS)) {
+                record.put(AddressBookRecordWriter.TAGS, field.isEmpty()
+                        ? new ArrayList<>()
+                        : Arrays.asList(field.split(TAG_SEPARATOR)));
+            } else {
+                record.put(columns.get(i), field);
+            }
+        }
+        return record;
+    }
+
+    /**
+     * Returns the fields of the next row of {@code reader}, or null if there are no more rows.
+     * A row ends with a line break outside of quotes, and {@code rowNumber} is only used in error messages.
+     */
+    private static List<String> readRow(Reader reader, int rowNumber) throws IOException, DataConversionException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean isQuoted = false;
+        while (true) {
+            if (isQuoted) {
+                if (c == -1) {
+                    throw new DataConversionException(
+                            new IOException(String.format(MESSAGE_UNTERMINATED_QUOTE, rowNumber)));
+                }
+                if (c == '"') {
+                    c = reader.read();
+                    if (c != '"') {
+                        // The quote ends the quoted part, and the character after it is read as usual
+                        isQuoted = false;
+                        continue;
+                    }
+                }
+                field.append((char) c);
+            } else if (c == '"') {
+                isQuoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == -1) {
+                fields.add(field.toString());
+                return fields;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+
+/**
+ * Follows the progress of an {@link AddressBookExporter}.
+ */
+@FunctionalInterface
+public interface ExportProgress {
+
+    /** Does not follow the progress at all. */
+    ExportProgress NONE = () -> {};
+
+    /**
+     * Called each time a person, module or occasion has been written.
+     *
+     * @throws IOException to stop the export, such as when it is cancelled.
+     */
+    void entryWritten() throws IOException;
+}
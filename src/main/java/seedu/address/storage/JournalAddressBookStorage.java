@@ -0,0 +1,294 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import javax.xml.bind.JAXBException;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.module.Module;
+import seedu.address.model.module.exceptions.DuplicateModuleException;
+import seedu.address.model.occasion.Occasion;
+import seedu.address.model.occasion.exceptions.DuplicateOccasionException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access AddressBook data stored as an xml snapshot file and a journal of changes on the hard disk.
+ * Each save appends only the entries that changed since the previous save to the journal, next to the snapshot
+ * file. Once the journal grows larger than the snapshot, the whole address book is written to a new snapshot and
+ * the journal is emptied. Reading replays the journal on top of the snapshot.
+ *
+ * The snapshot is an ordinary address book xml file, so it can be read by {@link XmlAddressBookStorage}, although
+ * it lacks the changes still in the journal. If a record of the journal cannot be applied, reading stops at it and
+ * the next save writes a new snapshot, so a bad change does not cost the snapshot and the changes before it.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_EXTENSION = ".journal";
+
+    // A journal smaller than this is never compacted, however small the snapshot is.
+    static final long MIN_COMPACTION_BYTES = 64 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    private final Path filePath;
+    private final XmlAddressBookStorage snapshotStorage;
+    private final AddressBookJournal journal;
+
+    // The lists as they are on the hard disk, or null if unknown, in which case the next save writes a snapshot.
+    private List<Person> savedPersons;
+    private List<Module> savedModules;
+    private List<Occasion> savedOccasions;
+    private long snapshotSize;
+
+    public JournalAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+        this.snapshotStorage = new XmlAddressBookStorage(filePath);
+        this.journal = new AddressBookJournal(getJournalFilePath(filePath));
+    }
+
+    /**
+     * Returns the path of the journal that goes with the snapshot file at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        if (!snapshot.isPresent()) {
+            return snapshot;
+        }
+
+        boolean isOwnFile = filePath.equals(this.filePath);
+        AddressBookJournal journalToReplay = isOwnFile ? journal : new AddressBookJournal(getJournalFilePath(filePath));
+        Optional<List<byte[]>> records = journalToReplay.read(AddressBookJournal.checksumOf(filePath));
+        ReadOnlyAddressBook addressBook = snapshot.get();
+        boolean isReplayedInFull = false;
+        if (records.isPresent()) {
+            try {
+                addressBook = replay(snapshot.get(), records.get());
+                isReplayedInFull = true;
+            } catch (DataConversionException e) {
+                logger.warning("Journal of " + filePath + " has a change that cannot be applied. "
+                        + "Will be starting with the changes before it: " + e.getMessage());
+                addressBook = replayUntilInvalid(snapshot.get(), records.get());
+            }
+        }
+
+        if (isOwnFile) {
+            if (isReplayedInFull) {
+                rememberSaved(addressBook);
+                snapshotSize = Files.size(filePath);
+            } else {
+                forgetSaved();
+            }
+        }
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}, but only the file of this storage is journaled.
+     * Any other {@code filePath} gets a full snapshot of the address book.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            Files.deleteIfExists(getJournalFilePath(filePath));
+            return;
+        }
+
+        if (savedPersons == null || journal.size() > Math.max(MIN_COMPACTION_BYTES, snapshotSize)) {
+            compact(addressBook);
+            return;
+        }
+
+        XmlJournalRecord record = new XmlJournalRecord();
+        for (int[] splice : diff(savedPersons, addressBook.getPersonList())) {
+            record.addSplice(XmlAdaptedListSplice.ofPersons(splice[0], splice[1],
+                    addressBook.getPersonList().subList(splice[2], splice[3])));
+        }
+        for (int[] splice : diff(savedModules, addressBook.getModuleList())) {
+            record.addSplice(XmlAdaptedListSplice.ofModules(splice[0], splice[1],
+                    addressBook.getModuleList().subList(splice[2], splice[3])));
+        }
+        for (int[] splice : diff(savedOccasions, addressBook.getOccasionList())) {
+            record.addSplice(XmlAdaptedListSplice.ofOccasions(splice[0], splice[1],
+                    addressBook.getOccasionList().subList(splice[2], splice[3])));
+        }
+        if (record.isEmpty()) {
+            return;
+        }
+
+        try {
+            journal.append(toBytes(record));
+        } catch (IOException e) {
+            // The journal may now end with part of the record, so start afresh with the next save
+            forgetSaved();
+            throw e;
+        }
+        rememberSaved(addressBook);
+    }
+
+    /**
+     * Writes {@code addressBook} to a new snapshot and empties the journal.
+     */
+    private void compact(ReadOnlyAddressBook addressBook) throws IOException {
+        logger.fine("Writing a new snapshot to " + filePath);
+        forgetSaved();
+        snapshotStorage.saveAddressBook(addressBook, filePath);
+        journal.reset(AddressBookJournal.checksumOf(filePath));
+        snapshotSize = Files.size(filePath);
+        rememberSaved(addressBook);
+    }
+
+    private void rememberSaved(ReadOnlyAddressBook addressBook) {
+        savedPersons = new ArrayList<>(addressBook.getPersonList());
+        savedModules = new ArrayList<>(addressBook.getModuleList());
+        savedOccasions = new ArrayList<>(addressBook.getOccasionList());
+    }
+
+    private void forgetSaved() {
+        savedPersons = null;
+        savedModules = null;
+        savedOccasions = null;
+    }
+
+    /**
+     * Returns the address book in {@code snapshot} with the changes in {@code records} applied.
+     */
+    private static ReadOnlyAddressBook replay(ReadOnlyAddressBook snapshot, List<byte[]> records)
+            throws DataConversionException {
+        List<Person> persons = new ArrayList<>(snapshot.getPersonList());
+        List<Module> modules = new ArrayList<>(snapshot.getModuleList());
+        List<Occasion> occasions = new ArrayList<>(snapshot.getOccasionList());
+        try {
+            for (byte[] record : records) {
+                fromBytes(record).applyTo(persons, modules, occasions);
+            }
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(persons);
+            addressBook.setModules(modules);
+            addressBook.setOccasions(occasions);
+            return addressBook;
+        } catch (IllegalValueException | DuplicatePersonException | DuplicateModuleException
+                | DuplicateOccasionException e) {
+            logger.info("Illegal values found in journal: " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Returns the address book in {@code snapshot} with the changes in {@code records} applied one at a time, up to
+     * but not including the first record that cannot be applied.
+     */
+    private static ReadOnlyAddressBook replayUntilInvalid(ReadOnlyAddressBook snapshot, List<byte[]> records) {
+        ReadOnlyAddressBook addressBook = snapshot;
+        for (byte[] record : records) {
+            try {
+                addressBook = replay(addressBook, Collections.singletonList(record));
+            } catch (DataConversionException e) {
+                break;
+            }
+        }
+        return addressBook;
+    }
+
+    /**
+     * Returns the changes that turn {@code before} into {@code after}, comparing entries by identity.
+     * Each change is an array of the index to change, the number of entries removed there, and the start and end
+     * in {@code after} of the entries inserted there. Indexes are into the list with the earlier changes applied.
+     */
+    static List<int[]> diff(List<?> before, List<?> after) {
+        Set<Object> inBefore = Collections.newSetFromMap(new IdentityHashMap<>());
+        inBefore.addAll(before);
+        Set<Object> inAfter = Collections.newSetFromMap(new IdentityHashMap<>());
+        inAfter.addAll(after);
+
+        List<int[]> changes = new ArrayList<>();
+        int i = 0;
+        int j = 0;
+        while (i < before.size() || j < after.size()) {
+            if (i < before.size() && j < after.size() && before.get(i) == after.get(j)) {
+                i++;
+                j++;
+                continue;
+            }
+            int removedFrom = i;
+            int insertedFrom = j;
+            while (i < before.size() && !inAfter.contains(before.get(i))) {
+                i++;
+            }
+            while (j < after.size() && !inBefore.contains(after.get(j))) {
+                j++;
+            }
+            if (i == removedFrom && j == insertedFrom) {
+                // The remaining entries were reordered, so replace all of them
+                i = before.size();
+                j = after.size();
+            }
+            changes.add(new int[] {insertedFrom, i - removedFrom, insertedFrom, j});
+        }
+        return changes;
+    }
+
+    private static byte[] toBytes(XmlJournalRecord record) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            XmlUtil.getContext(XmlJournalRecord.class).createMarshaller().marshal(record, out);
+        } catch (JAXBException e) {
+            throw new AssertionError("Unexpected exception " + e.getMessage(), e);
+        }
+        return out.toByteArray();
+    }
+
+    private static XmlJournalRecord fromBytes(byte[] record) throws DataConversionException {
+        try {
+            return (XmlJournalRecord) XmlUtil.getContext(XmlJournalRecord.class).createUnmarshaller()
+                    .unmarshal(new ByteArrayInputStream(record));
+        } catch (JAXBException | ClassCastException e) {
+            throw new DataConversionException(e);
+        }
+    }
+}
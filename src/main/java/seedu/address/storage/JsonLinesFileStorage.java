@@ -0,0 +1,83 @@
+package seedu.address.storage;
+
+import java.io.BufferedInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Exports addressbook data to a JSON lines (NDJSON) file, with one JSON object on each line for each record described
+ * in {@link AddressBookRecordWriter}. Each object only has the fields that apply to its {@code type}, and its tags are
+ * an array of tag names.
+ *
+ * Files in the same format can be imported back.
+ */
+public class JsonLinesFileStorage {
+
+    /**
+     * Writes {@code addressBook} to {@code file}, one line at a time, straight from the model.
+     */
+    public static void exportDataToFile(Path file, ReadOnlyAddressBook addressBook) throws IOException {
+        exportDataToFile(file, addressBook, ExportProgress.NONE);
+    }
+
+    /**
+     * Similar to {@link #exportDataToFile(Path, ReadOnlyAddressBook)}, telling {@code progress} about each entry
+     * written.
+     */
+    public static void exportDataToFile(Path file, ReadOnlyAddressBook addressBook, ExportProgress progress)
+            throws IOException {
+        FileUtil.writeDirectly(file, out -> writeAddressBook(out, addressBook, progress));
+    }
+
+    private static void writeAddressBook(OutputStream out, ReadOnlyAddressBook addressBook, ExportProgress progress)
+            throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+            new AddressBookRecordWriter() {
+                @Override
+                protected void writeRecord(Map<String, Object> record) throws IOException {
+                    JsonUtil.writeJsonLine(generator, record);
+                }
+            }.write(addressBook, progress);
+        }
+    }
+
+    /**
+     * Returns the address book in {@code file}, reading it one line at a time.
+     *
+     * @throws DataConversionException if a line of the file is not a JSON object.
+     * @throws IllegalValueException if the file holds invalid or duplicate entries.
+     */
+    public static AddressBook importDataFromFile(Path file) throws DataConversionException, IllegalValueException,
+            IOException {
+        if (!FileUtil.isFileExists(file)) {
+            throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+        }
+
+        AddressBookRecordReader recordReader = new AddressBookRecordReader();
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file));
+             MappingIterator<?> records = JsonUtil.readJsonValues(in, Map.class)) {
+            while (records.hasNextValue()) {
+                recordReader.readRecord((Map<?, ?>) records.nextValue());
+            }
+        } catch (JsonProcessingException e) {
+            throw new DataConversionException(e);
+        }
+        return recordReader.toAddressBook();
+    }
+}
@@ -3,7 +3,9 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.logging.Logger;
 
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.UserPrefs;
@@ -13,6 +15,8 @@ import seedu.address.model.UserPrefs;
  */
 public class JsonUserPrefsStorage implements UserPrefsStorage {
 
+    private static final Logger logger = LogsCenter.getLogger(JsonUserPrefsStorage.class);
+
     private Path filePath;
 
     public JsonUserPrefsStorage(Path filePath) {
@@ -30,12 +34,28 @@ public class JsonUserPrefsStorage implements UserPrefsStorage {
     }
 
     /**
-     * Similar to {@link #readUserPrefs()}
+     * Similar to {@link #readUserPrefs()}.
+     * Undo history limits that are negative, as only a hand-edited file can have, are replaced by their defaults.
      * @param prefsFilePath location of the data. Cannot be null.
      * @throws DataConversionException if the file format is not as expected.
      */
     public Optional<UserPrefs> readUserPrefs(Path prefsFilePath) throws DataConversionException {
-        return JsonUtil.readJsonFile(prefsFilePath, UserPrefs.class);
+        Optional<UserPrefs> prefs = JsonUtil.readJsonFile(prefsFilePath, UserPrefs.class);
+        prefs.ifPresent(JsonUserPrefsStorage::replaceInvalidUndoLimits);
+        return prefs;
+    }
+
+    private static void replaceInvalidUndoLimits(UserPrefs prefs) {
+        if (prefs.getMaxUndoStates() < 0) {
+            logger.warning("maxUndoStates must not be negative, was " + prefs.getMaxUndoStates()
+                    + ". Using the default of " + UserPrefs.DEFAULT_MAX_UNDO_STATES);
+            prefs.setMaxUndoStates(UserPrefs.DEFAULT_MAX_UNDO_STATES);
+        }
+        if (prefs.getMaxUndoHistoryBytes() < 0) {
+            logger.warning("maxUndoHistoryBytes must not be negative, was " + prefs.getMaxUndoHistoryBytes()
+                    + ". Using the default of " + UserPrefs.DEFAULT_MAX_UNDO_HISTORY_BYTES);
+            prefs.setMaxUndoHistoryBytes(UserPrefs.DEFAULT_MAX_UNDO_HISTORY_BYTES);
+        }
     }
 
     @Override
@@ -6,6 +6,8 @@ import java.util.Optional;
 
 import seedu.address.commons.events.model.AddressBookChangedEvent;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
+import seedu.address.commons.events.storage.ExportCompletedEvent;
+import seedu.address.commons.events.storage.ExportProgressEvent;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
@@ -31,9 +33,33 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
     /**
-     * Saves the current version of the Address Book to the hard disk.
+     * Saves the current version of the Address Book to the hard disk, either immediately or after a delay.
      *   Creates the data file if it is missing.
      * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
      */
     void handleAddressBookChangedEvent(AddressBookChangedEvent abce);
+
+    /**
+     * Saves any changes to the Address Book that are still waiting to be saved, and returns once they are saved.
+     */
+    void flushAddressBook();
+
+    /**
+     * Exports {@code addressBook} as it is now to {@code file} with {@code exporter} on a background thread, and
+     * returns without waiting for the export to finish. Later changes to {@code addressBook} do not affect the export.
+     * Raises {@link ExportProgressEvent}s while exporting and an {@link ExportCompletedEvent} when done.
+     * An unfinished export to the same file is cancelled.
+     */
+    void exportAddressBook(ReadOnlyAddressBook addressBook, Path file, AddressBookExporter exporter);
+
+    /**
+     * Cancels all unfinished exports, deleting their partly written files, and returns how many were cancelled
+     * once they have stopped.
+     */
+    int cancelExports();
+
+    /**
+     * Returns once all exports started so far have finished.
+     */
+    void flushExports();
 }
@@ -1,8 +1,21 @@
 package seedu.address.storage;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
@@ -10,13 +23,20 @@ import com.google.common.eventbus.Subscribe;
 import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.commons.events.storage.AddressBookSavePendingEvent;
+import seedu.address.commons.events.storage.AddressBookSavedEvent;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
+import seedu.address.commons.events.storage.ExportCompletedEvent;
+import seedu.address.commons.events.storage.ExportProgressEvent;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ * When created with a save delay, changes to the address book are saved on a background thread, and all changes
+ * made within the delay are saved together.
+ * Exports run one at a time on another background thread, each from a snapshot of the address book.
  */
 public class StorageManager extends ComponentManager implements Storage {
 
@@ -24,15 +44,44 @@ public class StorageManager extends ComponentManager implements Storage {
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
 
+    private long saveDelay;
+    private ScheduledExecutorService saveExecutor;
+    // The latest changes that are not saved yet, or null if there are none. Guarded by this.
+    private ReadOnlyAddressBook pendingSave;
+
+    // Created on the first export. Guarded by this.
+    private ExecutorService exportExecutor;
+    // The exports that are running or waiting to run, by the file they export to. Guarded by this.
+    private final Map<Path, Future<?>> unfinishedExports = new HashMap<>();
+
     // Default constructor
     public StorageManager() {
         super();
     }
 
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(addressBookStorage, userPrefsStorage, 0);
+    }
+
+    /**
+     * Creates a {@code StorageManager} that saves changes to the address book {@code saveDelay} milliseconds after
+     * the first unsaved change, or immediately on the calling thread if {@code saveDelay} is 0.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage, long saveDelay) {
         super();
+        if (saveDelay < 0) {
+            throw new IllegalArgumentException("Save delay cannot be negative");
+        }
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.saveDelay = saveDelay;
+        if (saveDelay > 0) {
+            saveExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "AddressBook saver");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
     }
 
     // ================ UserPrefs methods ==============================
@@ -83,15 +132,195 @@ public class StorageManager extends ComponentManager implements Storage {
     }
 
 
+    @Override
+    public void flushAddressBook() {
+        if (saveExecutor == null) {
+            return;
+        }
+        try {
+            saveExecutor.submit(this::savePendingChanges).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warning("Interrupted while saving pending changes to file");
+        } catch (ExecutionException e) {
+            logger.warning("Failed to save pending changes to file: " + e.getCause());
+        }
+    }
+
+    // ================ Export methods ==============================
+
+    @Override
+    public void exportAddressBook(ReadOnlyAddressBook addressBook, Path file, AddressBookExporter exporter) {
+        ExportJob job = new ExportJob(new AddressBookSnapshot(addressBook), file, exporter);
+        FutureTask<Void> task = new FutureTask<Void>(job) {
+            @Override
+            protected void done() {
+                finishExport(file, this);
+            }
+        };
+        Future<?> replacedExport;
+        ExecutorService executor;
+        synchronized (this) {
+            if (exportExecutor == null) {
+                exportExecutor = Executors.newSingleThreadExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "AddressBook exporter");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            }
+            executor = exportExecutor;
+            replacedExport = unfinishedExports.put(file, task);
+        }
+        // Cancelling raises the event of the replaced export, which should come before the events of the new one
+        if (replacedExport != null) {
+            replacedExport.cancel(true);
+        }
+        logger.info("Exporting address book to " + file);
+        executor.execute(task);
+    }
+
+    @Override
+    public int cancelExports() {
+        List<Future<?>> exports;
+        synchronized (this) {
+            exports = new ArrayList<>(unfinishedExports.values());
+        }
+        int cancelledExports = 0;
+        for (Future<?> export : exports) {
+            if (export.cancel(true)) {
+                cancelledExports++;
+            }
+        }
+        flushExports();
+        return cancelledExports;
+    }
+
+    @Override
+    public void flushExports() {
+        ExecutorService executor;
+        synchronized (this) {
+            executor = exportExecutor;
+        }
+        if (executor == null) {
+            return;
+        }
+        try {
+            // Exports run one at a time in the order they were started, so this runs after all of them
+            executor.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warning("Interrupted while waiting for exports to finish");
+        } catch (ExecutionException e) {
+            throw new AssertionError("An empty task cannot fail", e);
+        }
+    }
+
+    /**
+     * Raises the {@code ExportCompletedEvent} of the export to {@code file}, which has finished running or has been
+     * cancelled.
+     */
+    private void finishExport(Path file, Future<?> export) {
+        synchronized (this) {
+            unfinishedExports.remove(file, export);
+        }
+        if (export.isCancelled()) {
+            raise(new ExportCompletedEvent(file, true, null));
+            return;
+        }
+        try {
+            export.get();
+            raise(new ExportCompletedEvent(file, false, null));
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            raise(new ExportCompletedEvent(file, false, cause instanceof Exception ? (Exception) cause : e));
+        } catch (InterruptedException e) {
+            throw new AssertionError("A finished export cannot be waited for", e);
+        }
+    }
+
     @Override
     @Subscribe
     public void handleAddressBookChangedEvent(AddressBookChangedEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
+        if (saveExecutor == null) {
+            logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
+            saveChanges(event.data);
+            return;
+        }
+
+        boolean isFirstPendingChange;
+        synchronized (this) {
+            isFirstPendingChange = pendingSave == null;
+            pendingSave = new AddressBookSnapshot(event.data);
+        }
+        if (isFirstPendingChange) {
+            logger.info(LogsCenter.getEventHandlingLogMessage(event,
+                    "Local data changed, saving to file in " + saveDelay + "ms"));
+            saveExecutor.schedule(this::savePendingChanges, saveDelay, TimeUnit.MILLISECONDS);
+            raise(new AddressBookSavePendingEvent());
+        }
+    }
+
+    /**
+     * Saves the changes that are waiting to be saved, if any.
+     */
+    private void savePendingChanges() {
+        ReadOnlyAddressBook toSave;
+        synchronized (this) {
+            toSave = pendingSave;
+            pendingSave = null;
+        }
+        if (toSave != null) {
+            saveChanges(toSave);
+        }
+    }
+
+    private void saveChanges(ReadOnlyAddressBook addressBook) {
         try {
-            saveAddressBook(event.data);
+            saveAddressBook(addressBook);
+            raise(new AddressBookSavedEvent());
         } catch (IOException e) {
             raise(new DataSavingExceptionEvent(e));
         }
     }
 
+    /**
+     * Exports an address book to a file, raising an {@code ExportProgressEvent} each time another percent of its
+     * entries has been written. Stops the export if the thread running it is interrupted.
+     */
+    private class ExportJob implements Callable<Void>, ExportProgress {
+        private final ReadOnlyAddressBook addressBook;
+        private final Path file;
+        private final AddressBookExporter exporter;
+        private final int totalEntries;
+        private int entriesWritten;
+        private int percentDone;
+
+        ExportJob(ReadOnlyAddressBook addressBook, Path file, AddressBookExporter exporter) {
+            this.addressBook = addressBook;
+            this.file = file;
+            this.exporter = exporter;
+            totalEntries = addressBook.getPersonList().size() + addressBook.getModuleList().size()
+                    + addressBook.getOccasionList().size();
+        }
+
+        @Override
+        public Void call() throws IOException {
+            raise(new ExportProgressEvent(file, 0, totalEntries));
+            exporter.export(file, addressBook, this);
+            return null;
+        }
+
+        @Override
+        public void entryWritten() throws IOException {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new InterruptedIOException("Export to " + file + " cancelled");
+            }
+            entriesWritten++;
+            ExportProgressEvent event = new ExportProgressEvent(file, entriesWritten, totalEntries);
+            if (event.getPercentDone() > percentDone) {
+                percentDone = event.getPercentDone();
+                raise(event);
+            }
+        }
+    }
 }
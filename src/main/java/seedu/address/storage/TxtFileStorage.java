@@ -0,0 +1,130 @@
+package seedu.address.storage;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.module.Module;
+import seedu.address.model.occasion.Occasion;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Exports addressbook data to a plain text file that is meant to be read by people.
+ * Each person, module and occasion is written under a heading line, with one indented {@code field: value} line for
+ * each of its fields, and is followed by an empty line. Linked entities are written by name.
+ * The file cannot be read back into an address book.
+ */
+public class TxtFileStorage {
+
+    private static final String ROOT_HEADING = "addressbook";
+    private static final String PERSON_HEADING = "persons";
+    private static final String MODULE_HEADING = "modules";
+    private static final String OCCASION_HEADING = "occasions";
+    private static final String FIELD_INDENT = "     ";
+
+    /**
+     * Writes {@code addressBook} to {@code file}, one person, module or occasion at a time, straight from the model.
+     */
+    public static void exportDataToFile(Path file, ReadOnlyAddressBook addressBook) throws IOException {
+        exportDataToFile(file, addressBook, ExportProgress.NONE);
+    }
+
+    /**
+     * Similar to {@link #exportDataToFile(Path, ReadOnlyAddressBook)}, telling {@code progress} about each entry
+     * written.
+     */
+    public static void exportDataToFile(Path file, ReadOnlyAddressBook addressBook, ExportProgress progress)
+            throws IOException {
+        FileUtil.writeDirectly(file, out -> writeAddressBook(out, addressBook, progress));
+    }
+
+    private static void writeAddressBook(OutputStream out, ReadOnlyAddressBook addressBook, ExportProgress progress)
+            throws IOException {
+        // The output stream is closed with the file, so only the text buffered here needs flushing
+        BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writeLine(writer, ROOT_HEADING);
+        for (Person person : addressBook.getPersonList()) {
+            writePerson(writer, person);
+            progress.entryWritten();
+        }
+        for (Module module : addressBook.getModuleList()) {
+            writeModule(writer, module);
+            progress.entryWritten();
+        }
+        for (Occasion occasion : addressBook.getOccasionList()) {
+            writeOccasion(writer, occasion);
+            progress.entryWritten();
+        }
+        writer.flush();
+    }
+
+    private static void writePerson(BufferedWriter writer, Person person) throws IOException {
+        writeLine(writer, PERSON_HEADING);
+        writeField(writer, "name", person.getName().fullName);
+        writeField(writer, "phone", person.getPhone().value);
+        writeField(writer, "email", person.getEmail().value);
+        writeField(writer, "address", person.getAddress().value);
+        writeTags(writer, person.getTags());
+        if (person.getModuleList() != null) {
+            for (Module module : person.getModuleList()) {
+                writeField(writer, "module", module.getModuleCode().toString());
+            }
+        }
+        if (person.getOccasionList() != null) {
+            for (Occasion occasion : person.getOccasionList()) {
+                writeField(writer, "occasion", occasion.getOccasionName().toString());
+            }
+        }
+        writer.newLine();
+    }
+
+    private static void writeModule(BufferedWriter writer, Module module) throws IOException {
+        writeLine(writer, MODULE_HEADING);
+        writeField(writer, "moduleCode", module.getModuleCode().toString());
+        writeField(writer, "moduleTitle", module.getModuleTitle().toString());
+        writeField(writer, "academicYear", module.getAcademicYear().toString());
+        writeField(writer, "semester", module.getSemester().toString());
+        for (Person student : module.getStudents()) {
+            writeField(writer, "student", student.getName().fullName);
+        }
+        writeTags(writer, module.getTags());
+        writer.newLine();
+    }
+
+    private static void writeOccasion(BufferedWriter writer, Occasion occasion) throws IOException {
+        writeLine(writer, OCCASION_HEADING);
+        writeField(writer, "occasionName", occasion.getOccasionName().toString());
+        writeField(writer, "occasionDateTime", occasion.getOccasionDate().toString());
+        writeField(writer, "location", occasion.getOccasionLocation().toString());
+        for (Person attendee : occasion.getAttendanceList()) {
+            writeField(writer, "attendee", attendee.getName().fullName);
+        }
+        writeTags(writer, occasion.getTags());
+        writer.newLine();
+    }
+
+    private static void writeTags(BufferedWriter writer, Iterable<Tag> tags) throws IOException {
+        for (Tag tag : tags) {
+            writeField(writer, "tagged", tag.tagName);
+        }
+    }
+
+    private static void writeField(BufferedWriter writer, String field, String value) throws IOException {
+        writer.write(FIELD_INDENT);
+        writer.write(field);
+        writer.write(": ");
+        writer.write(value);
+        writer.newLine();
+    }
+
+    private static void writeLine(BufferedWriter writer, String line) throws IOException {
+        writer.write(line);
+        writer.newLine();
+    }
+}
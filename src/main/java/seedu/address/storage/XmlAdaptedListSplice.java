@@ -0,0 +1,121 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.TypeUtil;
+import seedu.address.model.module.Module;
+import seedu.address.model.occasion.Occasion;
+import seedu.address.model.person.Person;
+
+/**
+ * JAXB-friendly version of a change to one list of the address book, where {@code removed} entries starting at
+ * {@code index} are replaced by the entries held by this splice.
+ */
+public class XmlAdaptedListSplice {
+
+    public static final String INVALID_SPLICE_MESSAGE = "Journal splice does not fit the %s list!";
+
+    @XmlAttribute(required = true)
+    private TypeUtil list;
+    @XmlAttribute(required = true)
+    private int index;
+    @XmlAttribute(required = true)
+    private int removed;
+    @XmlElement
+    private List<XmlAdaptedPerson> persons = new ArrayList<>();
+    @XmlElement
+    private List<XmlAdaptedModule> modules = new ArrayList<>();
+    @XmlElement
+    private List<XmlAdaptedOccasion> occasions = new ArrayList<>();
+
+    /**
+     * Constructs an XmlAdaptedListSplice.
+     * This is the no-arg constructor that is required by JAXB.
+     */
+    public XmlAdaptedListSplice() {}
+
+    private XmlAdaptedListSplice(TypeUtil list, int index, int removed) {
+        this.list = list;
+        this.index = index;
+        this.removed = removed;
+    }
+
+    /**
+     * Returns a splice that replaces {@code removed} persons starting at {@code index} with {@code inserted}.
+     */
+    public static XmlAdaptedListSplice ofPersons(int index, int removed, List<Person> inserted) {
+        XmlAdaptedListSplice splice = new XmlAdaptedListSplice(TypeUtil.PERSON, index, removed);
+        splice.persons = inserted.stream().map(XmlAdaptedPerson::new).collect(Collectors.toList());
+        return splice;
+    }
+
+    /**
+     * Returns a splice that replaces {@code removed} modules starting at {@code index} with {@code inserted}.
+     */
+    public static XmlAdaptedListSplice ofModules(int index, int removed, List<Module> inserted) {
+        XmlAdaptedListSplice splice = new XmlAdaptedListSplice(TypeUtil.MODULE, index, removed);
+        splice.modules = inserted.stream().map(XmlAdaptedModule::new).collect(Collectors.toList());
+        return splice;
+    }
+
+    /**
+     * Returns a splice that replaces {@code removed} occasions starting at {@code index} with {@code inserted}.
+     */
+    public static XmlAdaptedListSplice ofOccasions(int index, int removed, List<Occasion> inserted) {
+        XmlAdaptedListSplice splice = new XmlAdaptedListSplice(TypeUtil.OCCASION, index, removed);
+        splice.occasions = inserted.stream().map(XmlAdaptedOccasion::new).collect(Collectors.toList());
+        return splice;
+    }
+
+    /**
+     * Applies this splice to the list among {@code persons}, {@code modules} and {@code occasions} it changes.
+     *
+     * @throws IllegalValueException if the splice does not fit the list, or an inserted entry is invalid.
+     */
+    public void applyTo(List<Person> persons, List<Module> modules, List<Occasion> occasions)
+            throws IllegalValueException {
+        if (list == null) {
+            throw new IllegalValueException(String.format(INVALID_SPLICE_MESSAGE, "unknown"));
+        }
+        switch (list) {
+        case PERSON:
+            List<Person> insertedPersons = new ArrayList<>();
+            for (XmlAdaptedPerson person : this.persons) {
+                insertedPersons.add(person.toModelType());
+            }
+            splice(persons, insertedPersons);
+            break;
+        case MODULE:
+            List<Module> insertedModules = new ArrayList<>();
+            for (XmlAdaptedModule module : this.modules) {
+                insertedModules.add(module.toModelType());
+            }
+            splice(modules, insertedModules);
+            break;
+        case OCCASION:
+            List<Occasion> insertedOccasions = new ArrayList<>();
+            for (XmlAdaptedOccasion occasion : this.occasions) {
+                insertedOccasions.add(occasion.toModelType());
+            }
+            splice(occasions, insertedOccasions);
+            break;
+        default:
+            throw new AssertionError("Unknown list " + list);
+        }
+    }
+
+    private <T> void splice(List<T> target, List<T> inserted) throws IllegalValueException {
+        if (index < 0 || removed < 0 || index + removed > target.size()) {
+            throw new IllegalValueException(String.format(INVALID_SPLICE_MESSAGE, list.name().toLowerCase()));
+        }
+        List<T> replaced = target.subList(index, index + removed);
+        replaced.clear();
+        replaced.addAll(inserted);
+    }
+}
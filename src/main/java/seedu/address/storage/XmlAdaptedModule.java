@@ -7,6 +7,7 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import javax.xml.bind.annotation.XmlAttribute;
 import javax.xml.bind.annotation.XmlElement;
 
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -40,6 +41,10 @@ public class XmlAdaptedModule {
     private List<XmlAdaptedPerson> students = new ArrayList<>();
     @XmlElement
     private List<XmlAdaptedTag> tagged;
+    @XmlAttribute
+    private String id;
+    @XmlElement(name = "studentRef")
+    private List<String> studentRefs = new ArrayList<>();
 
     /**
      * Constructs an XmlAdaptedModule.
@@ -87,8 +92,44 @@ public class XmlAdaptedModule {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Converts a given Module of an address book into this class for JAXB use, saving the students of the module
+     * that are also in the address book as references to their {@code ids}.
+     *
+     * @param source future changes to this will not affect the created XmlAdaptedModule
+     */
+    public XmlAdaptedModule(Module source, XmlEntityIds ids) {
+        moduleCode = source.getModuleCode().toString();
+        moduleTitle = source.getModuleTitle().toString();
+        academicYear = source.getAcademicYear().toString();
+        semester = source.getSemester().toString();
+        id = ids.idOf(source);
+        for (Person person : source.getStudents()) {
+            String ref = ids.idOf(person);
+            if (ref != null) {
+                studentRefs.add(ref);
+            } else {
+                students.add(new XmlAdaptedPerson(person.getName().toString(), person.getPhone().toString(),
+                        person.getEmail().toString(), person.getAddress().toString(),
+                        person.getTags().stream().map(XmlAdaptedTag::new).collect(Collectors.toList())));
+            }
+        }
+        tagged = source.getTags().stream()
+                .map(XmlAdaptedTag::new)
+                .collect(Collectors.toList());
+    }
+
+    String getId() {
+        return id;
+    }
+
+    List<String> getStudentRefs() {
+        return studentRefs;
+    }
+
     /**
      * Converts this jaxb-friendly adapted person object into the model's Module object.
+     * Students saved as references are not part of the returned module.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted module
      */
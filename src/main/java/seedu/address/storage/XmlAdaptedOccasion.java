@@ -10,6 +10,7 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import javax.xml.bind.annotation.XmlAttribute;
 import javax.xml.bind.annotation.XmlElement;
 
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -41,6 +42,11 @@ public class XmlAdaptedOccasion {
     private List<XmlAdaptedPerson> attendanceList = new ArrayList<>();
     @XmlElement
     private List<XmlAdaptedTag> tagMap;
+    @XmlAttribute
+    private String id;
+    @XmlElement(name = "attendeeRef")
+    private List<String> attendeeRefs = new ArrayList<>();
+
     /**
      * Constructs an XmlAdaptedOccasion.
      * This is the no-arg constructor that is required by JAXB.
@@ -85,8 +91,44 @@ public class XmlAdaptedOccasion {
         }
     }
 
+    /**
+     * Converts a given Occasion of an address book into this class for JAXB use, saving the attendees of the
+     * occasion that are also in the address book as references to their {@code ids}.
+     *
+     * @param source future changes to this will not affect the created XmlAdaptedOccasion
+     */
+    public XmlAdaptedOccasion(Occasion source, XmlEntityIds ids) {
+        requireNonNull(source);
+        tagMap = source.getTags().stream()
+                .map(XmlAdaptedTag::new)
+                .collect(Collectors.toList());
+        occasionName = source.getOccasionName().toString();
+        occasionDateTime = source.getOccasionDate().toString();
+        location = source.getOccasionLocation().toString();
+        id = ids.idOf(source);
+        for (Person person : source.getAttendanceList()) {
+            String ref = ids.idOf(person);
+            if (ref != null) {
+                attendeeRefs.add(ref);
+            } else {
+                attendanceList.add(new XmlAdaptedPerson(person.getName().toString(), person.getPhone().toString(),
+                        person.getEmail().toString(), person.getAddress().toString(),
+                        person.getTags().stream().map(XmlAdaptedTag::new).collect(Collectors.toList())));
+            }
+        }
+    }
+
+    String getId() {
+        return id;
+    }
+
+    List<String> getAttendeeRefs() {
+        return attendeeRefs;
+    }
+
     /**
      * Converts this jaxb-friendly adapted occasion object into the model's Occasion object.
+     * Attendees saved as references are not part of the returned occasion.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted occasion
      */
@@ -7,6 +7,7 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import javax.xml.bind.annotation.XmlAttribute;
 import javax.xml.bind.annotation.XmlElement;
 
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -40,6 +41,12 @@ public class XmlAdaptedPerson {
     private List<XmlAdaptedOccasion> occasionList = new ArrayList<>();
     @XmlElement
     private List<XmlAdaptedTag> tagged = new ArrayList<>();
+    @XmlAttribute
+    private String id;
+    @XmlElement(name = "moduleRef")
+    private List<String> moduleRefs = new ArrayList<>();
+    @XmlElement(name = "occasionRef")
+    private List<String> occasionRefs = new ArrayList<>();
 
     /**
      * Constructs an XmlAdaptedPerson.
@@ -91,8 +98,54 @@ public class XmlAdaptedPerson {
 
     }
 
+    /**
+     * Converts a given Person of an address book into this class for JAXB use, saving the modules and occasions
+     * of the person that are also in the address book as references to their {@code ids}.
+     *
+     * @param source future changes to this will not affect the created XmlAdaptedPerson
+     */
+    public XmlAdaptedPerson(Person source, XmlEntityIds ids) {
+        this(source.getName().fullName, source.getPhone().value, source.getEmail().value,
+                source.getAddress().value, source.getTags().stream().map(XmlAdaptedTag::new)
+                        .collect(Collectors.toList()));
+        id = ids.idOf(source);
+        if (source.getModuleList() != null) {
+            for (Module module : source.getModuleList()) {
+                String ref = ids.idOf(module);
+                if (ref != null) {
+                    moduleRefs.add(ref);
+                } else {
+                    moduleList.add(new XmlAdaptedModule(module));
+                }
+            }
+        }
+        if (source.getOccasionList() != null) {
+            for (Occasion occasion : source.getOccasionList()) {
+                String ref = ids.idOf(occasion);
+                if (ref != null) {
+                    occasionRefs.add(ref);
+                } else {
+                    occasionList.add(new XmlAdaptedOccasion(occasion));
+                }
+            }
+        }
+    }
+
+    String getId() {
+        return id;
+    }
+
+    List<String> getModuleRefs() {
+        return moduleRefs;
+    }
+
+    List<String> getOccasionRefs() {
+        return occasionRefs;
+    }
+
     /**
      * Converts this jaxb-friendly adapted person object into the model's Person object.
+     * Modules and occasions saved as references are not part of the returned person.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted person
      */
@@ -0,0 +1,115 @@
+package seedu.address.storage;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.module.Module;
+import seedu.address.model.occasion.Occasion;
+import seedu.address.model.person.Person;
+
+/**
+ * Assigns ids to the persons, modules and occasions of an address book when it is saved, so that the links between
+ * them can be saved as references instead of copies. Ids are given out in list order, so they are only meaningful
+ * within one saved file.
+ *
+ * Linked entities are matched to the entities of the address book by identity, in the same way as
+ * {@code Person#isSamePerson(Person)}, {@code Module#isSameModule(Module)} and
+ * {@code Occasion#isSameOccasion(Occasion)}.
+ */
+class XmlEntityIds {
+
+    private final Map<List<Object>, Integer> personIndexByPhone = new HashMap<>();
+    private final Map<List<Object>, Integer> personIndexByEmail = new HashMap<>();
+    private final Map<List<Object>, Integer> moduleIndex = new HashMap<>();
+    private final Map<List<Object>, Integer> occasionIndex = new HashMap<>();
+
+    XmlEntityIds(ReadOnlyAddressBook addressBook) {
+        List<Person> persons = addressBook.getPersonList();
+        for (int i = 0; i < persons.size(); i++) {
+            personIndexByPhone.putIfAbsent(phoneKey(persons.get(i)), i);
+            personIndexByEmail.putIfAbsent(emailKey(persons.get(i)), i);
+        }
+        List<Module> modules = addressBook.getModuleList();
+        for (int i = 0; i < modules.size(); i++) {
+            moduleIndex.putIfAbsent(moduleKey(modules.get(i)), i);
+        }
+        List<Occasion> occasions = addressBook.getOccasionList();
+        for (int i = 0; i < occasions.size(); i++) {
+            occasionIndex.putIfAbsent(occasionKey(occasions.get(i)), i);
+        }
+    }
+
+    /**
+     * Returns the id of the person in the address book with the same identity as {@code person}, or null if there
+     * is no such person.
+     */
+    String idOf(Person person) {
+        int index = indexOf(person);
+        return index < 0 ? null : "p" + index;
+    }
+
+    /**
+     * Returns the id of the module in the address book with the same identity as {@code module}, or null if there
+     * is no such module.
+     */
+    String idOf(Module module) {
+        int index = indexOf(module);
+        return index < 0 ? null : "m" + index;
+    }
+
+    /**
+     * Returns the id of the occasion in the address book with the same identity as {@code occasion}, or null if
+     * there is no such occasion.
+     */
+    String idOf(Occasion occasion) {
+        int index = indexOf(occasion);
+        return index < 0 ? null : "o" + index;
+    }
+
+    /**
+     * Returns the position in the person list of the address book of the person with the same identity as
+     * {@code person}, or -1 if there is no such person.
+     */
+    int indexOf(Person person) {
+        Integer index = personIndexByPhone.get(phoneKey(person));
+        if (index == null) {
+            index = personIndexByEmail.get(emailKey(person));
+        }
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Returns the position in the module list of the address book of the module with the same identity as
+     * {@code module}, or -1 if there is no such module.
+     */
+    int indexOf(Module module) {
+        return moduleIndex.getOrDefault(moduleKey(module), -1);
+    }
+
+    /**
+     * Returns the position in the occasion list of the address book of the occasion with the same identity as
+     * {@code occasion}, or -1 if there is no such occasion.
+     */
+    int indexOf(Occasion occasion) {
+        return occasionIndex.getOrDefault(occasionKey(occasion), -1);
+    }
+
+    private static List<Object> phoneKey(Person person) {
+        return Arrays.asList(person.getName(), person.getPhone());
+    }
+
+    private static List<Object> emailKey(Person person) {
+        return Arrays.asList(person.getName(), person.getEmail());
+    }
+
+    private static List<Object> moduleKey(Module module) {
+        return Arrays.asList(module.getModuleCode(), module.getAcademicYear(), module.getSemester());
+    }
+
+    private static List<Object> occasionKey(Occasion occasion) {
+        return Arrays.asList(occasion.getOccasionName(), occasion.getOccasionDate());
+    }
+}
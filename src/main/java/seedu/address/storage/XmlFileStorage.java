@@ -1,29 +1,131 @@
 package seedu.address.storage;
 
+import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
+import javax.xml.bind.JAXBElement;
 import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.module.Module;
+import seedu.address.model.occasion.Occasion;
+import seedu.address.model.person.Person;
 
 /**
  * Stores addressbook data in an XML file
  */
 public class XmlFileStorage {
+
+    private static final String ROOT_ELEMENT = "addressbook";
+    private static final String VERSION_ATTRIBUTE = "version";
+    private static final String PERSON_ELEMENT = "persons";
+    private static final String MODULE_ELEMENT = "modules";
+    private static final String OCCASION_ELEMENT = "occasions";
+
     /**
      * Saves the given addressbook data to the specified file.
+     * The previous contents of the file are kept in its backup file, see {@link FileUtil#getBackupPath(Path)}.
      */
-    public static void saveDataToFile(Path file, XmlSerializableAddressBook addressBook)
-            throws FileNotFoundException {
+    public static void saveDataToFile(Path file, XmlSerializableAddressBook addressBook) throws IOException {
         try {
-            XmlUtil.saveDataToFile(file, addressBook);
+            FileUtil.writeAtomically(file, true, out -> XmlUtil.writeData(out, addressBook));
         } catch (JAXBException e) {
             throw new AssertionError("Unexpected exception " + e.getMessage(), e);
         }
     }
 
+    /**
+     * Writes {@code addressBook} to {@code file} in the same format as {@link #saveDataToFile(Path,
+     * XmlSerializableAddressBook)}, one person, module or occasion at a time, so that the xml form of the whole
+     * address book is never held in memory at once. The file is written in place, without a backup.
+     */
+    public static void exportDataToFile(Path file, ReadOnlyAddressBook addressBook) throws IOException {
+        exportDataToFile(file, addressBook, ExportProgress.NONE);
+    }
+
+    /**
+     * Similar to {@link #exportDataToFile(Path, ReadOnlyAddressBook)}, telling {@code progress} about each entry
+     * written.
+     */
+    public static void exportDataToFile(Path file, ReadOnlyAddressBook addressBook, ExportProgress progress)
+            throws IOException {
+        try {
+            FileUtil.writeDirectly(file, out -> writeAddressBook(out, addressBook, progress));
+        } catch (JAXBException e) {
+            throw new IOException("Failed to write " + file + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static void writeAddressBook(OutputStream out, ReadOnlyAddressBook addressBook, ExportProgress progress)
+            throws IOException, JAXBException {
+        try {
+            writeEntries(out, addressBook, progress);
+        } catch (XMLStreamException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    private static void writeEntries(OutputStream out, ReadOnlyAddressBook addressBook, ExportProgress progress)
+            throws IOException, JAXBException, XMLStreamException {
+        Marshaller marshaller = XmlUtil.getContext(XmlSerializableAddressBook.class).createMarshaller();
+        marshaller.setProperty(Marshaller.JAXB_FRAGMENT, true);
+        XmlEntityIds ids = new XmlEntityIds(addressBook);
+        XMLStreamWriter writer = XMLOutputFactory.newInstance()
+                .createXMLStreamWriter(out, StandardCharsets.UTF_8.name());
+
+        writer.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0");
+        writer.writeCharacters("\n");
+        writer.writeStartElement(ROOT_ELEMENT);
+        writer.writeAttribute(VERSION_ATTRIBUTE, String.valueOf(XmlSerializableAddressBook.CURRENT_VERSION));
+        for (Person person : addressBook.getPersonList()) {
+            writeEntry(writer, marshaller, PERSON_ELEMENT, XmlAdaptedPerson.class, new XmlAdaptedPerson(person, ids));
+            progress.entryWritten();
+        }
+        for (Module module : addressBook.getModuleList()) {
+            writeEntry(writer, marshaller, MODULE_ELEMENT, XmlAdaptedModule.class, new XmlAdaptedModule(module, ids));
+            progress.entryWritten();
+        }
+        for (Occasion occasion : addressBook.getOccasionList()) {
+            writeEntry(writer, marshaller, OCCASION_ELEMENT, XmlAdaptedOccasion.class,
+                    new XmlAdaptedOccasion(occasion, ids));
+            progress.entryWritten();
+        }
+        writer.writeCharacters("\n");
+        writer.writeEndElement();
+        writer.writeCharacters("\n");
+        writer.writeEndDocument();
+        writer.flush();
+    }
+
+    /**
+     * Writes {@code entry} to {@code writer} as an element named {@code elementName}, on a line of its own.
+     */
+    private static <T> void writeEntry(XMLStreamWriter writer, Marshaller marshaller, String elementName,
+            Class<T> entryClass, T entry) throws JAXBException, XMLStreamException {
+        writer.writeCharacters("\n    ");
+        marshaller.marshal(new JAXBElement<>(new QName(elementName), entryClass, entry), writer);
+    }
+
     /**
      * Returns address book in the file or an empty address book
      */
@@ -36,4 +138,123 @@ public class XmlFileStorage {
         }
     }
 
+    /**
+     * Returns the address book in the file, reading it one person, module or occasion at a time.
+     * Unlike {@link #loadDataFromSaveFile(Path)}, each entry is turned into a model object as soon as it is read,
+     * so the xml form of the whole address book is never held in memory at once. Only the references of each
+     * entry are kept until the links between the entries are restored at the end.
+     *
+     * @throws DataConversionException if the file is not in the correct format.
+     * @throws IllegalValueException if the file holds invalid or duplicate entries.
+     */
+    public static AddressBook loadAddressBookFromSaveFile(Path file) throws DataConversionException,
+            IllegalValueException, IOException {
+        if (!FileUtil.isFileExists(file)) {
+            throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+        }
+
+        try (InputStream in = new FileInputStream(file.toFile())) {
+            XMLStreamReader reader = createInputFactory().createXMLStreamReader(in);
+            try {
+                return readAddressBook(reader);
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException | JAXBException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    private static AddressBook readAddressBook(XMLStreamReader reader)
+            throws XMLStreamException, JAXBException, IllegalValueException {
+        Unmarshaller unmarshaller = XmlUtil.getContext(XmlSerializableAddressBook.class).createUnmarshaller();
+        XmlLinkResolver links = new XmlLinkResolver();
+        List<Person> persons = new ArrayList<>();
+        List<Module> modules = new ArrayList<>();
+        List<Occasion> occasions = new ArrayList<>();
+
+        reader.nextTag();
+        if (!ROOT_ELEMENT.equals(reader.getLocalName())) {
+            throw new XMLStreamException("Unexpected root element " + reader.getLocalName(), reader.getLocation());
+        }
+        XmlSerializableAddressBook.checkVersion(readVersion(reader));
+        reader.next();
+
+        // Unmarshalling an element leaves the reader just after it, which may already be the next element
+        while (nextTag(reader) == XMLStreamReader.START_ELEMENT) {
+            switch (reader.getLocalName()) {
+            case PERSON_ELEMENT:
+                XmlAdaptedPerson xmlPerson = unmarshaller.unmarshal(reader, XmlAdaptedPerson.class).getValue();
+                Person person = xmlPerson.toModelType();
+                links.addPerson(xmlPerson, person);
+                persons.add(person);
+                break;
+            case MODULE_ELEMENT:
+                XmlAdaptedModule xmlModule = unmarshaller.unmarshal(reader, XmlAdaptedModule.class).getValue();
+                Module module = xmlModule.toModelType();
+                links.addModule(xmlModule, module);
+                modules.add(module);
+                break;
+            case OCCASION_ELEMENT:
+                XmlAdaptedOccasion xmlOccasion = unmarshaller.unmarshal(reader, XmlAdaptedOccasion.class).getValue();
+                Occasion occasion = xmlOccasion.toModelType();
+                links.addOccasion(xmlOccasion, occasion);
+                occasions.add(occasion);
+                break;
+            default:
+                skipElement(reader);
+                break;
+            }
+        }
+        links.resolveLinks();
+        return XmlSerializableAddressBook.toAddressBook(persons, modules, occasions);
+    }
+
+    /**
+     * Returns the version of the file, read off the root element {@code reader} is at, or null if it has none.
+     */
+    private static Integer readVersion(XMLStreamReader reader) throws XMLStreamException {
+        String version = reader.getAttributeValue(null, VERSION_ATTRIBUTE);
+        if (version == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(version.trim());
+        } catch (NumberFormatException e) {
+            throw new XMLStreamException("Invalid version " + version, reader.getLocation());
+        }
+    }
+
+    /**
+     * Moves {@code reader} to the current or next start or end tag, and returns its event type.
+     */
+    private static int nextTag(XMLStreamReader reader) throws XMLStreamException {
+        while (!reader.isStartElement() && !reader.isEndElement()) {
+            reader.next();
+        }
+        return reader.getEventType();
+    }
+
+    /**
+     * Moves {@code reader} from the start of an element to just after the end of the element.
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 0;
+        do {
+            if (reader.isStartElement()) {
+                depth++;
+            } else if (reader.isEndElement()) {
+                depth--;
+            }
+            reader.next();
+        } while (depth > 0);
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
 }
@@ -0,0 +1,45 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.module.Module;
+import seedu.address.model.occasion.Occasion;
+import seedu.address.model.person.Person;
+
+/**
+ * A record in the address book journal, holding the changes made to the address book by one save.
+ */
+@XmlRootElement(name = "journalrecord")
+public class XmlJournalRecord {
+
+    @XmlElement(name = "splice")
+    private List<XmlAdaptedListSplice> splices = new ArrayList<>();
+
+    /**
+     * Adds a change to the end of this record.
+     */
+    public void addSplice(XmlAdaptedListSplice splice) {
+        splices.add(splice);
+    }
+
+    public boolean isEmpty() {
+        return splices.isEmpty();
+    }
+
+    /**
+     * Applies the changes in this record, in order, to {@code persons}, {@code modules} and {@code occasions}.
+     *
+     * @throws IllegalValueException if a change does not fit the lists, or holds an invalid entry.
+     */
+    public void applyTo(List<Person> persons, List<Module> modules, List<Occasion> occasions)
+            throws IllegalValueException {
+        for (XmlAdaptedListSplice splice : splices) {
+            splice.applyTo(persons, modules, occasions);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.module.Module;
+import seedu.address.model.occasion.Occasion;
+import seedu.address.model.person.Person;
+
+/**
+ * Restores the links between the persons, modules and occasions of a saved address book from the references
+ * saved in place of the linked entities. Entities are collected as they are read, and every reference is resolved
+ * once all of them are known, since a reference may point to an entity later in the file.
+ *
+ * As in the model, a linked entity is a copy of the referenced entity without any links of its own.
+ */
+class XmlLinkResolver {
+
+    public static final String MESSAGE_UNKNOWN_REFERENCE = "Saved link refers to unknown entry %s";
+
+    private final Map<String, Person> personsById = new HashMap<>();
+    private final Map<String, Module> modulesById = new HashMap<>();
+    private final Map<String, Occasion> occasionsById = new HashMap<>();
+    private final List<PendingLinks> pendingLinks = new ArrayList<>();
+
+    /**
+     * Collects {@code person}, read from {@code source}.
+     */
+    void addPerson(XmlAdaptedPerson source, Person person) {
+        if (source.getId() != null) {
+            personsById.put(source.getId(), person);
+        }
+        if (!source.getModuleRefs().isEmpty() || !source.getOccasionRefs().isEmpty()) {
+            pendingLinks.add(() -> {
+                for (String ref : source.getModuleRefs()) {
+                    person.getModuleList().add(resolve(modulesById, ref).makeShallowDuplicate());
+                }
+                for (String ref : source.getOccasionRefs()) {
+                    person.getOccasionList().add(resolve(occasionsById, ref).makeShallowDuplicate());
+                }
+            });
+        }
+    }
+
+    /**
+     * Collects {@code module}, read from {@code source}.
+     */
+    void addModule(XmlAdaptedModule source, Module module) {
+        if (source.getId() != null) {
+            modulesById.put(source.getId(), module);
+        }
+        if (!source.getStudentRefs().isEmpty()) {
+            pendingLinks.add(() -> {
+                for (String ref : source.getStudentRefs()) {
+                    module.getStudents().add(resolve(personsById, ref).makeShallowDuplicate());
+                }
+            });
+        }
+    }
+
+    /**
+     * Collects {@code occasion}, read from {@code source}.
+     */
+    void addOccasion(XmlAdaptedOccasion source, Occasion occasion) {
+        if (source.getId() != null) {
+            occasionsById.put(source.getId(), occasion);
+        }
+        if (!source.getAttendeeRefs().isEmpty()) {
+            pendingLinks.add(() -> {
+                for (String ref : source.getAttendeeRefs()) {
+                    occasion.getAttendanceList().add(resolve(personsById, ref).makeShallowDuplicate());
+                }
+            });
+        }
+    }
+
+    /**
+     * Adds the referenced entities to the lists of every collected entity.
+     *
+     * @throws IllegalValueException if a reference does not match any collected entity.
+     */
+    void resolveLinks() throws IllegalValueException {
+        for (PendingLinks links : pendingLinks) {
+            links.addTo();
+        }
+        pendingLinks.clear();
+    }
+
+    private static <T> T resolve(Map<String, T> entitiesById, String ref) throws IllegalValueException {
+        T entity = entitiesById.get(ref);
+        if (entity == null) {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_REFERENCE, ref));
+        }
+        return entity;
+    }
+
+    /**
+     * The references of one entity that are still to be resolved.
+     */
+    @FunctionalInterface
+    private interface PendingLinks {
+        void addTo() throws IllegalValueException;
+    }
+}
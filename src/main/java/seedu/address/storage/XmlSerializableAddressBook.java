@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import javax.xml.bind.annotation.XmlAttribute;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 
@@ -15,7 +16,10 @@ import seedu.address.model.occasion.Occasion;
 import seedu.address.model.person.Person;
 
 /**
- * An Immutable AddressBook that is serializable to XML format
+ * An Immutable AddressBook that is serializable to XML format.
+ * From version 2 of the format, each person, module and occasion is saved once with an id, and the links between
+ * them are saved as references to those ids. Version 1 files, which save a full copy of every linked entity,
+ * can still be read.
  */
 @XmlRootElement(name = "addressbook")
 public class XmlSerializableAddressBook {
@@ -23,6 +27,12 @@ public class XmlSerializableAddressBook {
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
     public static final String MESSAGE_DUPLICATE_MODULE = "Modules list contains duplicate module(s).";
     public static final String MESSAGE_DUPLICATE_OCCASION = "Occasions list contains duplicate occasion(s).";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Address book file version %d is not supported.";
+
+    public static final int CURRENT_VERSION = 2;
+
+    @XmlAttribute
+    private Integer version;
 
     @XmlElement
     private List<XmlAdaptedPerson> persons;
@@ -47,9 +57,24 @@ public class XmlSerializableAddressBook {
      */
     public XmlSerializableAddressBook(ReadOnlyAddressBook src) {
         this();
-        persons.addAll(src.getPersonList().stream().map(XmlAdaptedPerson::new).collect(Collectors.toList()));
-        modules.addAll(src.getModuleList().stream().map(XmlAdaptedModule::new).collect(Collectors.toList()));
-        occasions.addAll(src.getOccasionList().stream().map(XmlAdaptedOccasion::new).collect(Collectors.toList()));
+        XmlEntityIds ids = new XmlEntityIds(src);
+        version = CURRENT_VERSION;
+        persons.addAll(src.getPersonList().stream().map(person -> new XmlAdaptedPerson(person, ids))
+                .collect(Collectors.toList()));
+        modules.addAll(src.getModuleList().stream().map(module -> new XmlAdaptedModule(module, ids))
+                .collect(Collectors.toList()));
+        occasions.addAll(src.getOccasionList().stream().map(occasion -> new XmlAdaptedOccasion(occasion, ids))
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Throws an {@code IllegalValueException} if files of {@code version} cannot be read.
+     * A missing version means version 1.
+     */
+    static void checkVersion(Integer version) throws IllegalValueException {
+        if (version != null && (version < 1 || version > CURRENT_VERSION)) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
     }
 
     /**
@@ -59,23 +84,51 @@ public class XmlSerializableAddressBook {
      * {@code XmlAdaptedPerson}.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
+        checkVersion(version);
+        XmlLinkResolver links = new XmlLinkResolver();
+        List<Person> modelPersons = new ArrayList<>();
         for (XmlAdaptedPerson p : persons) {
             Person person = p.toModelType();
+            links.addPerson(p, person);
+            modelPersons.add(person);
+        }
+        List<Module> modelModules = new ArrayList<>();
+        for (XmlAdaptedModule m : modules) {
+            Module module = m.toModelType();
+            links.addModule(m, module);
+            modelModules.add(module);
+        }
+        List<Occasion> modelOccasions = new ArrayList<>();
+        for (XmlAdaptedOccasion o : occasions) {
+            Occasion occasion = o.toModelType();
+            links.addOccasion(o, occasion);
+            modelOccasions.add(occasion);
+        }
+        links.resolveLinks();
+        return toAddressBook(modelPersons, modelModules, modelOccasions);
+    }
+
+    /**
+     * Returns an address book of the given entities, whose links are complete.
+     *
+     * @throws IllegalValueException if there are duplicate entities.
+     */
+    static AddressBook toAddressBook(List<Person> persons, List<Module> modules, List<Occasion> occasions)
+            throws IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        for (Person person : persons) {
             if (addressBook.hasPerson(person)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
             }
             addressBook.addPerson(person);
         }
-        for (XmlAdaptedModule m : modules) {
-            Module module = m.toModelType();
+        for (Module module : modules) {
             if (addressBook.hasModule(module)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_MODULE);
             }
             addressBook.addModule(module);
         }
-        for (XmlAdaptedOccasion o : occasions) {
-            Occasion occasion = o.toModelType();
+        for (Occasion occasion : occasions) {
             if (addressBook.hasOccasion(occasion)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_OCCASION);
             }
@@ -15,6 +15,11 @@ import javafx.fxml.FXML;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.commons.events.storage.AddressBookSavePendingEvent;
+import seedu.address.commons.events.storage.AddressBookSavedEvent;
+import seedu.address.commons.events.storage.DataSavingExceptionEvent;
+import seedu.address.commons.events.storage.ExportCompletedEvent;
+import seedu.address.commons.events.storage.ExportProgressEvent;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
@@ -23,6 +28,13 @@ public class StatusBarFooter extends UiPart<Region> {
 
     public static final String SYNC_STATUS_INITIAL = "Not updated yet in this session";
     public static final String SYNC_STATUS_UPDATED = "Last Updated: %s";
+    public static final String SAVE_STATUS_PENDING = "Saving changes...";
+    public static final String SAVE_STATUS_SAVED = "All changes saved";
+    public static final String SAVE_STATUS_FAILED = "Changes not saved: %s";
+    public static final String EXPORT_STATUS_PROGRESS = "Exporting to %s: %d%%";
+    public static final String EXPORT_STATUS_DONE = "Exported to %s";
+    public static final String EXPORT_STATUS_CANCELLED = "Export to %s cancelled";
+    public static final String EXPORT_STATUS_FAILED = "Export to %s failed: %s";
 
     /**
      * Used to generate time stamps.
@@ -41,7 +53,11 @@ public class StatusBarFooter extends UiPart<Region> {
     @FXML
     private StatusBar syncStatus;
     @FXML
+    private StatusBar saveStatus;
+    @FXML
     private StatusBar saveLocationStatus;
+    @FXML
+    private StatusBar exportStatus;
 
 
     public StatusBarFooter(Path saveLocation) {
@@ -73,6 +89,14 @@ public class StatusBarFooter extends UiPart<Region> {
         Platform.runLater(() -> syncStatus.setText(status));
     }
 
+    private void setSaveStatus(String status) {
+        Platform.runLater(() -> saveStatus.setText(status));
+    }
+
+    private void setExportStatus(String status) {
+        Platform.runLater(() -> exportStatus.setText(status));
+    }
+
     @Subscribe
     public void handleAddressBookChangedEvent(AddressBookChangedEvent abce) {
         long now = clock.millis();
@@ -80,4 +104,40 @@ public class StatusBarFooter extends UiPart<Region> {
         logger.info(LogsCenter.getEventHandlingLogMessage(abce, "Setting last updated status to " + lastUpdated));
         setSyncStatus(String.format(SYNC_STATUS_UPDATED, lastUpdated));
     }
+
+    @Subscribe
+    public void handleAddressBookSavePendingEvent(AddressBookSavePendingEvent event) {
+        logger.fine(LogsCenter.getEventHandlingLogMessage(event, "Setting save status to pending"));
+        setSaveStatus(SAVE_STATUS_PENDING);
+    }
+
+    @Subscribe
+    public void handleAddressBookSavedEvent(AddressBookSavedEvent event) {
+        logger.fine(LogsCenter.getEventHandlingLogMessage(event, "Setting save status to saved"));
+        setSaveStatus(SAVE_STATUS_SAVED);
+    }
+
+    @Subscribe
+    public void handleDataSavingExceptionEvent(DataSavingExceptionEvent event) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Setting save status to failed"));
+        setSaveStatus(String.format(SAVE_STATUS_FAILED, event.exception.getMessage()));
+    }
+
+    @Subscribe
+    public void handleExportProgressEvent(ExportProgressEvent event) {
+        logger.fine(LogsCenter.getEventHandlingLogMessage(event, "Setting export status to in progress"));
+        setExportStatus(String.format(EXPORT_STATUS_PROGRESS, event.file, event.getPercentDone()));
+    }
+
+    @Subscribe
+    public void handleExportCompletedEvent(ExportCompletedEvent event) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Setting export status to completed"));
+        if (event.isCancelled) {
+            setExportStatus(String.format(EXPORT_STATUS_CANCELLED, event.file));
+        } else if (event.exception != null) {
+            setExportStatus(String.format(EXPORT_STATUS_FAILED, event.file, event.exception.getMessage()));
+        } else {
+            setExportStatus(String.format(EXPORT_STATUS_DONE, event.file));
+        }
+    }
 }
@@ -11,10 +11,14 @@ public class StatusBarFooterHandle extends NodeHandle<Node> {
     public static final String STATUS_BAR_PLACEHOLDER = "#statusbarPlaceholder";
 
     private static final String SYNC_STATUS_ID = "#syncStatus";
+    private static final String SAVE_STATUS_ID = "#saveStatus";
     private static final String SAVE_LOCATION_STATUS_ID = "#saveLocationStatus";
+    private static final String EXPORT_STATUS_ID = "#exportStatus";
 
     private final StatusBar syncStatusNode;
+    private final StatusBar saveStatusNode;
     private final StatusBar saveLocationNode;
+    private final StatusBar exportStatusNode;
 
     private String lastRememberedSyncStatus;
     private String lastRememberedSaveLocation;
@@ -23,7 +27,9 @@ public class StatusBarFooterHandle extends NodeHandle<Node> {
         super(statusBarFooterNode);
 
         syncStatusNode = getChildNode(SYNC_STATUS_ID);
+        saveStatusNode = getChildNode(SAVE_STATUS_ID);
         saveLocationNode = getChildNode(SAVE_LOCATION_STATUS_ID);
+        exportStatusNode = getChildNode(EXPORT_STATUS_ID);
     }
 
     /**
@@ -33,6 +39,13 @@ public class StatusBarFooterHandle extends NodeHandle<Node> {
         return syncStatusNode.getText();
     }
 
+    /**
+     * Returns the text of the save status portion of the status bar.
+     */
+    public String getSaveStatus() {
+        return saveStatusNode.getText();
+    }
+
     /**
      * Returns the text of the 'save location' portion of the status bar.
      */
@@ -40,6 +53,13 @@ public class StatusBarFooterHandle extends NodeHandle<Node> {
         return saveLocationNode.getText();
     }
 
+    /**
+     * Returns the text of the export status portion of the status bar.
+     */
+    public String getExportStatus() {
+        return exportStatusNode.getText();
+    }
+
     /**
      * Remembers the content of the sync status portion of the status bar.
      */
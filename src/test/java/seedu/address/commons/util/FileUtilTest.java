@@ -1,14 +1,24 @@
 package seedu.address.commons.util;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import seedu.address.testutil.Assert;
 
 public class FileUtilTest {
 
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
     @Test
     public void isValidPath() {
         // valid path
@@ -21,4 +31,41 @@ public class FileUtilTest {
         Assert.assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_existingFile_replacesContents() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("file.txt");
+        FileUtil.writeToFile(file, "old contents");
+        FileUtil.writeToFile(file, "new");
+
+        assertEquals("new", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(FileUtil.getBackupPath(file)));
+    }
+
+    @Test
+    public void writeAtomically_keepBackup_keepsPreviousContents() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("file.txt");
+        FileUtil.writeAtomically(file, true, out -> out.write('1'));
+        assertFalse(Files.exists(FileUtil.getBackupPath(file)));
+
+        FileUtil.writeAtomically(file, true, out -> out.write('2'));
+        FileUtil.writeAtomically(file, true, out -> out.write('3'));
+
+        assertEquals("3", FileUtil.readFromFile(file));
+        assertEquals("2", FileUtil.readFromFile(FileUtil.getBackupPath(file)));
+    }
+
+    @Test
+    public void writeAtomically_writerFails_fileUnchanged() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("file.txt");
+        FileUtil.writeToFile(file, "old contents");
+
+        Assert.assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, true, out -> {
+            out.write("new contents".getBytes("UTF-8"));
+            throw new IOException("disk full");
+        }));
+
+        assertEquals("old contents", FileUtil.readFromFile(file));
+        assertEquals(1, testFolder.getRoot().list().length);
+    }
+
 }
@@ -2,10 +2,13 @@ package seedu.address.commons.util;
 
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.io.FileNotFoundException;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Optional;
 
 import org.junit.Rule;
@@ -135,6 +138,62 @@ public class StringUtilTest {
 
         // Matches multiple words in sentence
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
+
+        // Words separated by other whitespace
+        assertTrue(StringUtil.containsWordIgnoreCase("aaa\tbbb\nccc", "BBB"));
+        assertFalse(StringUtil.containsWordIgnoreCase("aaa\tbbb", "aaabbb"));
+    }
+
+    //---------------- Tests for getFoldedWords --------------------------------------
+
+    @Test
+    public void getFoldedWords_validInputs_correctResult() {
+        assertEquals(Collections.emptyList(), StringUtil.getFoldedWords(""));
+        assertEquals(Collections.emptyList(), StringUtil.getFoldedWords("   "));
+        assertEquals(Arrays.asList("aaa", "bbb", "ccc"), StringUtil.getFoldedWords("  AAA bBb\tccc  "));
+    }
+
+    @Test
+    public void getFoldedWords_modifyResult_throwsUnsupportedOperationException() {
+        thrown.expect(UnsupportedOperationException.class);
+        StringUtil.getFoldedWords("aaa bbb").set(0, "ccc");
+    }
+
+    @Test
+    public void getFoldedWords_nullSentence_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        StringUtil.getFoldedWords(null);
+    }
+
+    @Test
+    public void foldCase_differentCases_sameResult() {
+        assertEquals(StringUtil.foldCase("stra\u00dfe"), StringUtil.foldCase("STRA\u00dfE"));
+        assertEquals("cs2100", StringUtil.foldCase("CS2100"));
+    }
+
+    //---------------- Tests for getEditDistance --------------------------------------
+
+    @Test
+    public void getEditDistance_withinMaxDistance_correctResult() {
+        assertEquals(0, StringUtil.getEditDistance("", "", 0));
+        assertEquals(0, StringUtil.getEditDistance("alex", "alex", 0));
+        assertEquals(1, StringUtil.getEditDistance("alex", "alx", 2)); // deletion
+        assertEquals(2, StringUtil.getEditDistance("alex", "aleks", 2)); // replacement and insertion
+        assertEquals(1, StringUtil.getEditDistance("alex", "blex", 1)); // replacement
+        assertEquals(3, StringUtil.getEditDistance("", "abc", 3));
+    }
+
+    @Test
+    public void getEditDistance_beyondMaxDistance_returnsMaxDistancePlusOne() {
+        assertEquals(3, StringUtil.getEditDistance("alex", "bob", 2));
+        assertEquals(1, StringUtil.getEditDistance("alex", "alexander", 0));
+        assertEquals(2, StringUtil.getEditDistance("abcd", "badc", 1));
+    }
+
+    @Test
+    public void getEditDistance_negativeMaxDistance_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        StringUtil.getEditDistance("alex", "alx", -1);
     }
 
     //---------------- Tests for getDetails --------------------------------------
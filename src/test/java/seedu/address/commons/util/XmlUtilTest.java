@@ -1,6 +1,7 @@
 package seedu.address.commons.util;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 import java.io.FileNotFoundException;
 import java.nio.file.Path;
@@ -104,6 +105,18 @@ public class XmlUtilTest {
         assertEquals(expectedPerson, actualPerson);
     }
 
+    @Test
+    public void getContext_sameClass_returnsCachedContext() throws Exception {
+        assertSame(XmlUtil.getContext(XmlSerializableAddressBook.class),
+                XmlUtil.getContext(XmlSerializableAddressBook.class));
+    }
+
+    @Test
+    public void getContext_nullClass_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        XmlUtil.getContext(null);
+    }
+
     @Test
     public void saveDataToFile_nullFile_throwsNullPointerException() throws Exception {
         thrown.expect(NullPointerException.class);
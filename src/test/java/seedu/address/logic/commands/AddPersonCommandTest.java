@@ -5,6 +5,7 @@ import static org.junit.Assert.assertEquals;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.Rule;
@@ -213,16 +214,52 @@ public class AddPersonCommandTest {
         }
 
         @Override
-        public void insertPerson(Person personDeep, Module moduleDeep,
-                                 Person personShallow, Module moduleShallow,
-                                 Person personToInsert, Module moduleToInsert) {
+        public List<Person> getPersonsWithModule(Module module) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void insertPerson(Person personDeep, Occasion occasionDeep,
-                                 Person personShallow, Occasion occasionShallow,
-                                 Person personToInsert, Occasion moduleToInsert) {
+        public List<Person> getPersonsWithOccasion(Occasion occasion) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Module> getModulesWithStudent(Person person) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Occasion> getOccasionsWithAttendee(Person person) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void insertPerson(Person person, Module module) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void insertPerson(Person person, Occasion occasion) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void importData(ReadOnlyAddressBook imported) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void startBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void endBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void cancelBatch() {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -250,6 +287,16 @@ public class AddPersonCommandTest {
         public void commitAddressBook() {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public int getUndoHistoryStateCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getUndoHistoryEstimatedBytes() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
@@ -0,0 +1,93 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.events.storage.ExportCompletedEvent;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.XmlAddressBookStorage;
+import seedu.address.ui.testutil.EventsCollectorRule;
+
+/**
+ * The test for ExportCancelCommand integrates with model and storage.
+ */
+public class ExportCancelCommandTest {
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
+    private Path dir;
+    private Storage storage;
+    private Model model;
+
+    @Before
+    public void setUp() {
+        dir = testFolder.getRoot().toPath();
+        storage = new StorageManager(new XmlAddressBookStorage(dir.resolve("addressbook.xml")),
+                new JsonUserPrefsStorage(dir.resolve("preference.json")));
+        model = new ModelManager(new AddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_unfinishedExport_cancelledAndPartialFileDeleted() throws Exception {
+        Path file = dir.resolve("exported.txt");
+        CountDownLatch started = new CountDownLatch(1);
+        storage.exportAddressBook(model.getAddressBook(), file, (exportedFile, addressBook, progress) ->
+                FileUtil.writeDirectly(exportedFile, out -> {
+                    out.write(0);
+                    started.countDown();
+                    // never finishes on its own
+                    while (true) {
+                        out.write(0);
+                        progress.entryWritten();
+                    }
+                }));
+        started.await();
+        assertTrue(Files.exists(file));
+
+        CommandResult result = executeCommand();
+
+        assertEquals(String.format(ExportCancelCommand.MESSAGE_SUCCESS, 1), result.feedbackToUser);
+        assertFalse(Files.exists(file));
+        ExportCompletedEvent event = (ExportCompletedEvent) eventsCollectorRule.eventsCollector.getMostRecent();
+        assertTrue(event.isCancelled);
+    }
+
+    @Test
+    public void execute_noUnfinishedExport_nothingCancelled() throws Exception {
+        Path file = dir.resolve("exported.txt");
+        storage.exportAddressBook(model.getAddressBook(), file, (exportedFile, addressBook, progress) ->
+                FileUtil.writeDirectly(exportedFile, out -> out.write(0)));
+        storage.flushExports();
+
+        CommandResult result = executeCommand();
+
+        assertEquals(ExportCancelCommand.MESSAGE_NO_UNFINISHED_EXPORTS, result.feedbackToUser);
+        assertTrue(Files.exists(file));
+    }
+
+    private CommandResult executeCommand() {
+        ExportCancelCommand command = new ExportCancelCommand();
+        command.setStorage(storage);
+        return command.execute(model, new CommandHistory());
+    }
+}
@@ -45,4 +45,22 @@ public class ExportCommandParserTest {
                 new ExportTxtCommand(ParserUtil.parseFilePath(path), ExportCommand.FileType.TXT);
         assertParseSuccess(parser, userInput, expectedCommand);
     }
+
+    @Test
+    public void parse_validCsvFileExport_success() {
+        ExportCsvCommand expectedCommand = new ExportCsvCommand("exported.csv", ExportCommand.FileType.CSV);
+        assertParseSuccess(parser, "--csv exported.csv", expectedCommand);
+    }
+
+    @Test
+    public void parse_validJsonLinesFileExport_success() {
+        ExportJsonLinesCommand expectedCommand =
+                new ExportJsonLinesCommand("exported.ndjson", ExportCommand.FileType.NDJSON);
+        assertParseSuccess(parser, "--ndjson exported.ndjson", expectedCommand);
+    }
+
+    @Test
+    public void parse_unsupportedFileType_failure() {
+        assertParseFailure(parser, "--pdf exported.pdf", ExportCommand.MESSAGE_FILE_TYPE_NOT_SUPPORTED);
+    }
 }
@@ -0,0 +1,78 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.file.Paths;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.XmlAddressBookStorage;
+import seedu.address.testutil.TypicalPersons;
+
+/**
+ * The test for ExportJsonLinesCommand integrates with model and storage.
+ */
+public class ExportJsonLinesCommandTest {
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private String dirPath;
+    private Storage storage;
+    private Model model;
+
+    @Before
+    public void setUp() {
+        dirPath = testFolder.getRoot().getPath() + File.separator;
+        storage = new StorageManager(new XmlAddressBookStorage(Paths.get(dirPath + "addressbook.xml")),
+                new JsonUserPrefsStorage(Paths.get(dirPath + "preference.json")));
+        model = new ModelManager(TypicalPersons.getTypicalPersonsAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_validFilePath_success() throws Exception {
+        String filePath = dirPath + "validExport.ndjson";
+        ExportJsonLinesCommand command = new ExportJsonLinesCommand(filePath, ExportCommand.FileType.NDJSON);
+        command.setStorage(storage);
+
+        CommandResult result = command.execute(model, new CommandHistory());
+        storage.flushExports();
+
+        assertEquals(String.format(ExportCommand.MESSAGE_EXPORT_STARTED, filePath), result.feedbackToUser);
+        assertTrue(new File(filePath).exists());
+    }
+
+    @Test
+    public void execute_wrongExtension_throwsCommandException() throws Exception {
+        ExportJsonLinesCommand command =
+                new ExportJsonLinesCommand(dirPath + "export.txt", ExportCommand.FileType.NDJSON);
+        command.setStorage(storage);
+        thrown.expect(CommandException.class);
+        thrown.expectMessage(ExportCommand.MESSAGE_INVALID_NDJSON_FILE_PATH);
+        command.execute(model, new CommandHistory());
+    }
+
+    @Test
+    public void equals() {
+        ExportJsonLinesCommand command = new ExportJsonLinesCommand("export.ndjson", ExportCommand.FileType.NDJSON);
+        assertTrue(command.equals(new ExportJsonLinesCommand("export.ndjson", ExportCommand.FileType.NDJSON)));
+        assertFalse(command.equals(new ExportJsonLinesCommand("other.ndjson", ExportCommand.FileType.NDJSON)));
+        assertFalse(command.equals(new ExportCsvCommand("export.ndjson", ExportCommand.FileType.CSV)));
+    }
+}
@@ -56,9 +56,19 @@ public class ExportTxtCommandTest {
                 new ExportTxtCommand(ParserUtil.parseFilePath(filePath), ExportCommand.FileType.TXT);
         exportTxtCommand.setStorage(storage);
 
-        String expectedMessage = String.format(ExportCommand.MESSAGE_SUCCESS, filePath);
+        String expectedMessage = String.format(ExportCommand.MESSAGE_EXPORT_STARTED, filePath);
 
-        assertCommandSuccess(exportTxtCommand, model, commandHistory, expectedMessage);
+        assertCommandSuccess(exportTxtCommand, model, commandHistory, expectedMessage, filePath);
+    }
+
+    @Test
+    public void execute_missingFolder_throwsCommandException() {
+        String filePath = dirPath + "missing" + File.separator + "validExport.txt";
+        ExportTxtCommand exportTxtCommand =
+                new ExportTxtCommand(ParserUtil.parseFilePath(filePath), ExportCommand.FileType.TXT);
+        exportTxtCommand.setStorage(storage);
+
+        assertCommandFailure(exportTxtCommand, model, commandHistory, ExportCommand.MESSAGE_FAIL_READ_FILE, filePath);
     }
 
     @Test
@@ -77,14 +87,17 @@ public class ExportTxtCommandTest {
      * Executes {@code command} and in addition, <br>
      * 1. Asserts the result message matches {@code expectedMessage} <br>
      * 2. Asserts the {@code actualCommandHistory} remains unchanged. <br>
+     * 3. Asserts the file at {@code filePath} exists once exported
      */
     public void assertCommandSuccess(ExportTxtCommand command, Model actualModel, CommandHistory actualCommandHistory,
-                                     String expectedMessage) {
+                                     String expectedMessage, String filePath) {
         CommandHistory expectedCommandHistory = new CommandHistory(actualCommandHistory);
         try {
             CommandResult result = command.execute(actualModel, actualCommandHistory);
             assertEquals(expectedMessage, result.feedbackToUser);
             assertEquals(expectedCommandHistory, actualCommandHistory);
+            storage.flushExports();
+            assertTrue(new File(filePath).exists());
         } catch (CommandException e) {
             throw new AssertionError("Execution of command should not fail.", e);
         }
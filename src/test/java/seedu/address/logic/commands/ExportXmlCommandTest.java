@@ -59,7 +59,7 @@ public class ExportXmlCommandTest {
         ExportXmlCommand exportXmlCommand =
                 new ExportXmlCommand(ParserUtil.parseFilePath(filePath), ExportCommand.FileType.XML);
         exportXmlCommand.setStorage(storage);
-        String expectedMessage = String.format(ExportCommand.MESSAGE_SUCCESS, filePath);
+        String expectedMessage = String.format(ExportCommand.MESSAGE_EXPORT_STARTED, filePath);
 
         assertCommandSuccess(exportXmlCommand, model, commandHistory, expectedMessage,
                 Paths.get(filePath));
@@ -94,7 +94,7 @@ public class ExportXmlCommandTest {
      * Executes {@code command} and in addition, <br>
      * 1. Asserts the result message matches {@code expectedMessage} <br>
      * 2. Asserts the {@code actualCommandHistory} remains unchanged. <br>
-     * 3. Asserts the user date stored in {@code model} matches the data stores at {@code filePath}
+     * 3. Asserts the user date stored in {@code model} matches the data stores at {@code filePath} once exported
      */
     public void assertCommandSuccess(ExportXmlCommand command, Model actualModel, CommandHistory actualCommandHistory,
                                             String expectedMessage, Path filePath) {
@@ -103,6 +103,7 @@ public class ExportXmlCommandTest {
             CommandResult result = command.execute(actualModel, actualCommandHistory);
             assertEquals(expectedMessage, result.feedbackToUser);
             assertEquals(expectedCommandHistory, actualCommandHistory);
+            storage.flushExports();
             assertEquals(actualModel.getAddressBook(),
                     new VersionedAddressBook(storage.readAddressBook(filePath).get()));
         } catch (CommandException | DataConversionException | IOException e) {
@@ -0,0 +1,122 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalModules.CS2100;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.ExportCommand.FileType;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Phone;
+import seedu.address.storage.CsvFileStorage;
+
+/**
+ * The test for ImportCommand integrates with model and storage.
+ */
+public class ImportCommandTest {
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private Path dir;
+    private Model model;
+
+    @Before
+    public void setUp() {
+        dir = testFolder.getRoot().toPath();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        model = new ModelManager(addressBook, new UserPrefs());
+    }
+
+    @Test
+    public void execute_exportedFile_importsAsSingleUndoableCommand() throws Exception {
+        AddressBook exported = new AddressBook();
+        exported.addPerson(ALICE);
+        exported.addPerson(BENSON);
+        exported.addModule(CS2100);
+        exported.insertPerson(ALICE, CS2100);
+        exported.insertPerson(exported.getPersonList().get(1), exported.getModuleList().get(0));
+        Path file = dir.resolve("students.csv");
+        CsvFileStorage.exportDataToFile(file, exported);
+        AddressBook original = new AddressBook(model.getAddressBook());
+
+        CommandResult result = new ImportCommand(file.toString(), FileType.CSV).execute(model, new CommandHistory());
+
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 2, 1, 0, file), result.feedbackToUser);
+        assertEquals(exported, new AddressBook(model.getAddressBook()));
+        assertEquals(2, model.getFilteredModuleList().get(0).getStudents().getSize());
+        assertTrue(model.canUndoAddressBook());
+        model.undoAddressBook();
+        assertEquals(original, new AddressBook(model.getAddressBook()));
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void execute_invalidEntry_nothingImported() throws Exception {
+        Path file = dir.resolve("students.csv");
+        Files.write(file, ("type,name,phone,email,address\r\n"
+                + "person,Benson Meier,98765432,johnd@example.com,Clementi\r\n"
+                + "person,Carl Kurz,abc,heinz@example.com,Jurong\r\n").getBytes(StandardCharsets.UTF_8));
+        AddressBook original = new AddressBook(model.getAddressBook());
+
+        try {
+            new ImportCommand(file.toString(), FileType.CSV).execute(model, new CommandHistory());
+            throw new AssertionError("The expected CommandException was not thrown.");
+        } catch (CommandException ce) {
+            assertTrue(ce.getMessage().contains(Phone.MESSAGE_PHONE_CONSTRAINTS));
+        }
+        assertEquals(original, new AddressBook(model.getAddressBook()));
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void execute_malformedFile_reportsInvalidFile() throws Exception {
+        Path file = dir.resolve("exported.xml");
+        Files.write(file, "<addressbook><persons><name>Alice</persons>".getBytes(StandardCharsets.UTF_8));
+
+        try {
+            new ImportCommand(file.toString(), FileType.XML).execute(model, new CommandHistory());
+            throw new AssertionError("The expected CommandException was not thrown.");
+        } catch (CommandException ce) {
+            assertTrue(ce.getMessage().startsWith(String.format(ImportCommand.MESSAGE_INVALID_FILE, "")));
+            assertFalse(ce.getMessage().endsWith("null"));
+        }
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() throws Exception {
+        String filePath = dir.resolve("missing.csv").toString();
+        thrown.expect(CommandException.class);
+        thrown.expectMessage(String.format(ImportCommand.MESSAGE_FILE_NOT_FOUND, filePath));
+        new ImportCommand(filePath, FileType.CSV).execute(model, new CommandHistory());
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand command = new ImportCommand("students.csv", FileType.CSV);
+        assertTrue(command.equals(new ImportCommand("students.csv", FileType.CSV)));
+        assertFalse(command.equals(new ImportCommand("other.csv", FileType.CSV)));
+        assertFalse(command.equals(new ImportCommand("students.csv", FileType.NDJSON)));
+        assertFalse(command.equals(new ExportCsvCommand("students.csv", FileType.CSV)));
+    }
+}
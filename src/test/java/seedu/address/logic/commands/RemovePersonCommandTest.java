@@ -28,6 +28,7 @@ import seedu.address.model.occasion.Occasion;
 import seedu.address.model.occasion.OccasionDescriptor;
 import seedu.address.model.occasion.UniqueOccasionList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonDescriptor;
 import seedu.address.model.person.UniquePersonList;
 import seedu.address.testutil.ModuleBuilder;
 import seedu.address.testutil.OccasionBuilder;
@@ -260,16 +261,52 @@ public class RemovePersonCommandTest {
         }
 
         @Override
-        public void insertPerson(Person personDeep, Module moduleDeep,
-                                 Person personShallow, Module moduleShallow,
-                                 Person personToInsert, Module moduleToInsert) {
+        public List<Person> getPersonsWithModule(Module module) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void insertPerson(Person personDeep, Occasion occasionDeep,
-                                 Person personShallow, Occasion occasionShallow,
-                                 Person personToInsert, Occasion moduleToInsert) {
+        public List<Person> getPersonsWithOccasion(Occasion occasion) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Module> getModulesWithStudent(Person person) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Occasion> getOccasionsWithAttendee(Person person) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void insertPerson(Person person, Module module) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void insertPerson(Person person, Occasion occasion) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void importData(ReadOnlyAddressBook imported) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void startBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void endBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void cancelBatch() {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -298,6 +335,16 @@ public class RemovePersonCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public int getUndoHistoryStateCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getUndoHistoryEstimatedBytes() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public TypeUtil getActiveType() {
             throw new AssertionError("This method should not be called.");
@@ -333,23 +380,35 @@ public class RemovePersonCommandTest {
         }
 
         @Override
-        public void insertPerson(Person personToInsertDeep, Occasion occasionToInsertDeep,
-                                        Person personToInsertShallow, Occasion occasionToInsertShallow,
-                                        Person personToReplace, Occasion occasionToReplace) {
-            personToInsertDeep.getOccasionList().add(occasionToInsertShallow);
-            occasionToInsertDeep.getAttendanceList().add(personToInsertShallow);
-            updatePerson(personToReplace, personToInsertDeep);
-            updateOccasion(occasionToReplace, occasionToInsertDeep);
+        public void insertPerson(Person person, Occasion occasion) {
+            UniqueOccasionList updatedOccasions = new UniqueOccasionList(person.getOccasionList().asNormalList());
+            updatedOccasions.add(occasion.makeShallowDuplicate());
+            PersonDescriptor updatedPersonDescriptor = new PersonDescriptor();
+            updatedPersonDescriptor.setUniqueOccasionList(updatedOccasions);
+
+            UniquePersonList updatedAttendees = new UniquePersonList(occasion.getAttendanceList().asNormalList());
+            updatedAttendees.add(person.makeShallowDuplicate());
+            OccasionDescriptor updatedOccasionDescriptor = new OccasionDescriptor();
+            updatedOccasionDescriptor.setAttendanceList(updatedAttendees);
+
+            updatePerson(person, Person.createEditedPerson(person, updatedPersonDescriptor));
+            updateOccasion(occasion, Occasion.createEditedOccasion(occasion, updatedOccasionDescriptor));
         }
 
         @Override
-        public void insertPerson(Person personToInsertDeep, Module moduleToInsertDeep,
-                                        Person personToInsertShallow, Module moduleToInsertShallow,
-                                        Person personToReplace, Module moduleToReplace) {
-            personToInsertDeep.getModuleList().add(moduleToInsertShallow);
-            moduleToInsertDeep.getStudents().add(personToInsertShallow);
-            updatePerson(personToReplace, personToInsertDeep);
-            updateModule(moduleToReplace, moduleToInsertDeep);
+        public void insertPerson(Person person, Module module) {
+            UniqueModuleList updatedModules = new UniqueModuleList(person.getModuleList().asNormalList());
+            updatedModules.add(module.makeShallowDuplicate());
+            PersonDescriptor updatedPersonDescriptor = new PersonDescriptor();
+            updatedPersonDescriptor.setUniqueModuleList(updatedModules);
+
+            UniquePersonList updatedStudents = new UniquePersonList(module.getStudents().asNormalList());
+            updatedStudents.add(person.makeShallowDuplicate());
+            ModuleDescriptor updatedModuleDescriptor = new ModuleDescriptor();
+            updatedModuleDescriptor.setStudents(updatedStudents);
+
+            updatePerson(person, Person.createEditedPerson(person, updatedPersonDescriptor));
+            updateModule(module, Module.createEditedModule(module, updatedModuleDescriptor));
         }
 
         @Override
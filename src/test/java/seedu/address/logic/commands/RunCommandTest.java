@@ -0,0 +1,132 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.TypicalModules.CS2100;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.ModuleUtil;
+import seedu.address.testutil.PersonUtil;
+
+/**
+ * The test for RunCommand integrates with the parser and the model.
+ */
+public class RunCommandTest {
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private Model model;
+    private AddressBook original;
+
+    @Before
+    public void setUp() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        model = new ModelManager(addressBook, new UserPrefs());
+        original = new AddressBook(addressBook);
+    }
+
+    @Test
+    public void execute_validScript_runsAsSingleUndoableChange() throws Exception {
+        Path script = writeScript(RunCommand.COMMENT_PREFIX + " enrol the new students",
+                PersonUtil.getAddCommand(BENSON),
+                "",
+                PersonUtil.getAddCommand(CARL),
+                ModuleUtil.getAddCommand(CS2100));
+
+        CommandResult result = new RunCommand(script.toString()).execute(model, new CommandHistory());
+
+        assertTrue(result.feedbackToUser.startsWith("Ran 3 commands from file path: " + script));
+        assertTrue(model.hasPerson(BENSON));
+        assertTrue(model.hasPerson(CARL));
+        assertTrue(model.hasModule(CS2100));
+        model.undoAddressBook();
+        assertEquals(original, new AddressBook(model.getAddressBook()));
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void execute_failingCommand_changesUndone() throws Exception {
+        Path script = writeScript(PersonUtil.getAddCommand(BENSON), PersonUtil.getAddCommand(ALICE));
+
+        try {
+            new RunCommand(script.toString()).execute(model, new CommandHistory());
+            throw new AssertionError("The expected CommandException was not thrown.");
+        } catch (CommandException ce) {
+            assertEquals(String.format(RunCommand.MESSAGE_FAILED_LINE, 2, AddPersonCommand.MESSAGE_DUPLICATE_PERSON),
+                    ce.getMessage());
+        }
+        assertEquals(original, new AddressBook(model.getAddressBook()));
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void execute_invalidLine_nothingRun() throws Exception {
+        Path script = writeScript(PersonUtil.getAddCommand(BENSON), "", "unknownCommand");
+
+        try {
+            new RunCommand(script.toString()).execute(model, new CommandHistory());
+            throw new AssertionError("The expected CommandException was not thrown.");
+        } catch (CommandException ce) {
+            assertEquals(String.format(RunCommand.MESSAGE_INVALID_LINE, 3, MESSAGE_UNKNOWN_COMMAND), ce.getMessage());
+        }
+        assertEquals(original, new AddressBook(model.getAddressBook()));
+    }
+
+    @Test
+    public void execute_undoInScript_throwsCommandException() throws Exception {
+        Path script = writeScript(PersonUtil.getAddCommand(BENSON), UndoCommand.COMMAND_WORD);
+
+        thrown.expect(CommandException.class);
+        thrown.expectMessage(String.format(RunCommand.MESSAGE_INVALID_LINE, 2,
+                String.format(RunCommand.MESSAGE_COMMAND_NOT_ALLOWED, UndoCommand.COMMAND_WORD)));
+        new RunCommand(script.toString()).execute(model, new CommandHistory());
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() throws Exception {
+        String filePath = testFolder.getRoot().toPath().resolve("missing.txt").toString();
+        thrown.expect(CommandException.class);
+        thrown.expectMessage(String.format(RunCommand.MESSAGE_FILE_NOT_FOUND, filePath));
+        new RunCommand(filePath).execute(model, new CommandHistory());
+    }
+
+    @Test
+    public void equals() {
+        RunCommand command = new RunCommand("script.txt");
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new RunCommand("script.txt")));
+        assertFalse(command.equals(new RunCommand("other.txt")));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new ClearCommand()));
+    }
+
+    private Path writeScript(String... lines) throws IOException {
+        Path script = testFolder.getRoot().toPath().resolve("script.txt");
+        Files.write(script, String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+        return script;
+    }
+}
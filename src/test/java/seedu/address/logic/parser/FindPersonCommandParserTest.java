@@ -5,10 +5,12 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailur
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.Test;
 
 import seedu.address.logic.commands.FindPersonCommand;
+import seedu.address.model.KeywordQuery;
 import seedu.address.model.person.AddressContainsKeywordsPredicate;
 import seedu.address.model.person.EmailContainsKeywordsPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
@@ -61,4 +63,19 @@ public class FindPersonCommandParserTest {
         assertParseSuccess(parser, " on/project meeting", expectedFindPersonCommand);
         assertParseSuccess(parser, " on/ \n project \n \t meeting  \t", expectedFindPersonCommand);
     }
+
+    @Test
+    public void parse_multiplePrefixes_returnsFindPersonCommandOfAllPrefixes() {
+        FindPersonCommand expectedFindPersonCommand = new FindPersonCommand(KeywordQuery.allOf(Arrays.asList(
+                new NameContainsKeywordsPredicate(Arrays.asList("Alice", "Bob")),
+                KeywordQuery.not(new PersonModuleCodeContainsKeywordsPredicate(Collections.singletonList("cs2103"))))));
+        assertParseSuccess(parser, " n/Alice Bob NOT mc/cs2103", expectedFindPersonCommand);
+        assertParseSuccess(parser, " n/Alice Bob AND NOT mc/cs2103", expectedFindPersonCommand);
+    }
+
+    @Test
+    public void parse_preamble_throwsParseException() {
+        assertParseFailure(parser, " Alice n/Bob",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindPersonCommand.MESSAGE_USAGE));
+    }
 }
@@ -0,0 +1,40 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.ExportCommand.FileType;
+import seedu.address.logic.commands.ImportCommand;
+
+public class ImportCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE);
+    private ImportCommandParser parser = new ImportCommandParser();
+
+    @Test
+    public void parse_missingParts_failure() {
+        // no import file type specified
+        assertParseFailure(parser, "students.csv", MESSAGE_INVALID_FORMAT);
+
+        // no filepath specified
+        assertParseFailure(parser, "--csv", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_validFileImport_success() {
+        assertParseSuccess(parser, "--xml exported.xml", new ImportCommand("exported.xml", FileType.XML));
+        assertParseSuccess(parser, "--csv students.csv", new ImportCommand("students.csv", FileType.CSV));
+        assertParseSuccess(parser, "--ndjson students.ndjson",
+                new ImportCommand("students.ndjson", FileType.NDJSON));
+    }
+
+    @Test
+    public void parse_unsupportedFileType_failure() {
+        // txt files cannot be read back
+        assertParseFailure(parser, "--txt exported.txt", ImportCommand.MESSAGE_FILE_TYPE_NOT_SUPPORTED);
+    }
+}
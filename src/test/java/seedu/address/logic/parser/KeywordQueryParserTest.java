@@ -0,0 +1,103 @@
+package seedu.address.logic.parser;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MODULECODE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.logic.commands.FindPersonCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.KeywordQuery;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonModuleCodeContainsKeywordsPredicate;
+import seedu.address.model.person.PhoneContainsKeywordsPredicate;
+
+public class KeywordQueryParserTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final KeywordQueryParser<Person> parser = new KeywordQueryParser<Person>(FindPersonCommand.MESSAGE_USAGE)
+            .addTerm(PREFIX_NAME, NameContainsKeywordsPredicate::new)
+            .addTerm(PREFIX_PHONE, PhoneContainsKeywordsPredicate::new)
+            .addTerm(PREFIX_MODULECODE, PersonModuleCodeContainsKeywordsPredicate::new);
+
+    private final KeywordQuery<Person> nameTerm = new NameContainsKeywordsPredicate(Arrays.asList("alice", "bob"));
+    private final KeywordQuery<Person> phoneTerm =
+            new PhoneContainsKeywordsPredicate(Collections.singletonList("94351253"));
+    private final KeywordQuery<Person> moduleTerm =
+            new PersonModuleCodeContainsKeywordsPredicate(Collections.singletonList("CS2103"));
+
+    @Test
+    public void parse_singleTerm_returnsTermItself() throws Exception {
+        assertEquals(nameTerm, parser.parse(" n/ alice \t bob "));
+    }
+
+    @Test
+    public void parse_termsWithoutOperator_combinedWithAnd() throws Exception {
+        KeywordQuery<Person> expectedQuery = KeywordQuery.allOf(Arrays.asList(nameTerm, moduleTerm));
+        assertEquals(expectedQuery, parser.parse("n/alice bob mc/CS2103"));
+        assertEquals(expectedQuery, parser.parse("n/alice bob AND mc/CS2103"));
+    }
+
+    @Test
+    public void parse_operators_notBeforeAndBeforeOr() throws Exception {
+        KeywordQuery<Person> expectedQuery = KeywordQuery.anyOf(Arrays.asList(
+                KeywordQuery.allOf(Arrays.asList(moduleTerm, KeywordQuery.not(nameTerm))), phoneTerm));
+        assertEquals(expectedQuery, parser.parse("mc/CS2103 NOT n/alice bob OR p/94351253"));
+
+        expectedQuery = KeywordQuery.not(KeywordQuery.not(phoneTerm));
+        assertEquals(expectedQuery, parser.parse("NOT NOT p/94351253"));
+    }
+
+    @Test
+    public void parse_lowerCaseOperator_parsedAsKeyword() throws Exception {
+        assertEquals(new NameContainsKeywordsPredicate(Arrays.asList("alice", "or", "bob")),
+                parser.parse("n/alice or bob"));
+    }
+
+    @Test
+    public void parse_emptyArgs_throwsParseException() throws Exception {
+        assertParseFailure("  ");
+    }
+
+    @Test
+    public void parse_preamble_throwsParseException() throws Exception {
+        assertParseFailure("alice n/bob");
+    }
+
+    @Test
+    public void parse_termWithoutKeywords_throwsParseException() throws Exception {
+        assertParseFailure("n/ mc/CS2103");
+    }
+
+    @Test
+    public void parse_operatorWithoutTerm_throwsParseException() throws Exception {
+        assertParseFailure("n/alice OR");
+    }
+
+    @Test
+    public void parse_consecutiveOperators_throwsParseException() throws Exception {
+        assertParseFailure("n/alice AND OR p/94351253");
+    }
+
+    @Test
+    public void parse_unknownPrefix_throwsParseException() throws Exception {
+        assertParseFailure("n/alice OR a/street");
+    }
+
+    private void assertParseFailure(String args) throws ParseException {
+        thrown.expect(ParseException.class);
+        thrown.expectMessage(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindPersonCommand.MESSAGE_USAGE));
+        parser.parse(args);
+    }
+}
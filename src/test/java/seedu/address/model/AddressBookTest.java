@@ -2,9 +2,13 @@ package seedu.address.model;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandPersonTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandPersonTestUtil.VALID_TAG_HUSBAND;
+import static seedu.address.testutil.TypicalModules.CS2100;
+import static seedu.address.testutil.TypicalModules.ST2131;
+import static seedu.address.testutil.TypicalOccasions.OCCASION_ONE;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.getTypicalPersonsAddressBook;
 
@@ -20,6 +24,7 @@ import org.junit.rules.ExpectedException;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.module.Module;
+import seedu.address.model.module.UniqueModuleList;
 import seedu.address.model.occasion.Occasion;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
@@ -87,6 +92,77 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void insertPerson_personAndModule_linksBothWays() {
+        addressBook.addPerson(ALICE);
+        addressBook.addModule(CS2100);
+        addressBook.insertPerson(ALICE, CS2100);
+
+        Person linkedAlice = addressBook.getPersonList().get(0);
+        Module linkedModule = addressBook.getModuleList().get(0);
+        assertTrue(linkedAlice.getModuleList().contains(CS2100));
+        assertTrue(linkedModule.getStudents().contains(ALICE));
+        assertEquals(Collections.singletonList(linkedAlice), addressBook.getPersonsWithModule(CS2100));
+    }
+
+    @Test
+    public void insertPerson_personWithExistingLinks_keepsExistingLinkInstances() {
+        Person aliceInSt2131 = new PersonBuilder(ALICE)
+                .withModuleList(new UniqueModuleList(Collections.singletonList(ST2131))).build();
+        addressBook.addPerson(aliceInSt2131);
+        addressBook.addModule(CS2100);
+        addressBook.insertPerson(aliceInSt2131, CS2100);
+
+        List<Module> linkedModules = addressBook.getPersonList().get(0).getModuleList().asNormalList();
+        assertEquals(2, linkedModules.size());
+        assertSame(ST2131, linkedModules.get(0));
+        assertEquals(Collections.singletonList(ST2131), aliceInSt2131.getModuleList().asNormalList());
+    }
+
+    @Test
+    public void insertPerson_personAndOccasion_linksBothWays() {
+        addressBook.addPerson(ALICE);
+        addressBook.addOccasion(OCCASION_ONE);
+        addressBook.insertPerson(ALICE, OCCASION_ONE);
+
+        assertTrue(addressBook.getPersonList().get(0).getOccasionList().contains(OCCASION_ONE));
+        assertTrue(addressBook.getOccasionList().get(0).getAttendanceList().contains(ALICE));
+    }
+
+    @Test
+    public void importData_newEntries_addsEntriesWithLinks() {
+        AddressBook imported = new AddressBook();
+        imported.addPerson(ALICE);
+        imported.addModule(CS2100);
+        imported.insertPerson(ALICE, CS2100);
+
+        addressBook.importData(imported);
+
+        assertEquals(imported, addressBook);
+        Person linkedAlice = addressBook.getPersonList().get(0);
+        assertTrue(linkedAlice.getModuleList().contains(CS2100));
+        assertTrue(addressBook.getModuleList().get(0).getStudents().contains(ALICE));
+        assertEquals(Collections.singletonList(linkedAlice), addressBook.getPersonsWithModule(CS2100));
+    }
+
+    @Test
+    public void importData_existingEntries_keepsStoredDetailsAndAddsLinks() {
+        Person storedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        addressBook.addPerson(storedAlice);
+        addressBook.addModule(CS2100);
+        AddressBook imported = new AddressBook();
+        imported.addPerson(ALICE);
+        imported.addModule(CS2100);
+        imported.insertPerson(ALICE, CS2100);
+
+        addressBook.importData(imported);
+
+        assertEquals(Collections.singletonList(storedAlice), addressBook.getPersonList());
+        assertTrue(addressBook.getPersonList().get(0).getModuleList().contains(CS2100));
+        List<Person> students = addressBook.getModuleList().get(0).getStudents().asNormalList();
+        assertEquals(Collections.singletonList(storedAlice), students);
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
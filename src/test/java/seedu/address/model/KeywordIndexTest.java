@@ -0,0 +1,211 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalModules.CS2100;
+import static seedu.address.testutil.TypicalModules.ST2131;
+import static seedu.address.testutil.TypicalOccasions.OCCASION_ONE;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.model.module.Module;
+import seedu.address.model.module.UniqueModuleList;
+import seedu.address.model.occasion.UniqueOccasionList;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonModuleCodeContainsKeywordsPredicate;
+import seedu.address.model.person.PersonOccasionNameContainsKeywordsPredicate;
+import seedu.address.testutil.PersonBuilder;
+
+public class KeywordIndexTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final KeywordIndex<Person> personKeywords = new KeywordIndex<>(SearchField.PERSON_FIELDS);
+
+    @Test
+    public void find_anyKeyword_returnsEntitiesWithAnyKeyword() {
+        personKeywords.setEntities(Arrays.asList(ALICE, BENSON, CARL));
+
+        assertEquals(new HashSet<>(Arrays.asList(ALICE, CARL)),
+                new HashSet<>(personKeywords.find(SearchField.PERSON_NAME, toSearchKeywords("aLIce", "Kurz", "Bob"))));
+        assertTrue(personKeywords.find(SearchField.PERSON_NAME, toSearchKeywords("Ali")).isEmpty());
+        assertTrue(personKeywords.find(SearchField.PERSON_PHONE, toSearchKeywords("Alice")).isEmpty());
+    }
+
+    @Test
+    public void find_removedEntity_notFound() {
+        personKeywords.setEntities(Arrays.asList(ALICE, BENSON));
+        personKeywords.removeEntity(ALICE);
+
+        assertTrue(personKeywords.find(SearchField.PERSON_NAME, toSearchKeywords("Alice")).isEmpty());
+        assertEquals(Collections.singleton(BENSON),
+                personKeywords.find(SearchField.PERSON_NAME, toSearchKeywords("benson")));
+    }
+
+    @Test
+    public void find_prefixKeyword_returnsEntitiesWithWordsWithPrefix() {
+        personKeywords.setEntities(Arrays.asList(ALICE, BENSON, CARL));
+
+        assertEquals(Collections.singleton(ALICE),
+                personKeywords.find(SearchField.PERSON_NAME, toSearchKeywords("ali*")));
+        assertEquals(new HashSet<>(Arrays.asList(ALICE, CARL)),
+                new HashSet<>(personKeywords.find(SearchField.PERSON_NAME, toSearchKeywords("pau*", "KU*"))));
+        assertTrue(personKeywords.find(SearchField.PERSON_NAME, toSearchKeywords("lice*")).isEmpty());
+    }
+
+    @Test
+    public void find_fuzzyKeyword_returnsEntitiesWithSimilarWords() {
+        personKeywords.setEntities(Arrays.asList(ALICE, BENSON, CARL));
+
+        // fuzzy indexed field
+        assertEquals(Collections.singleton(ALICE),
+                personKeywords.find(SearchField.PERSON_NAME, toSearchKeywords("alise~")));
+        assertEquals(Collections.singleton(BENSON),
+                personKeywords.find(SearchField.PERSON_NAME, toSearchKeywords("meyer~")));
+
+        // words added and removed after the first fuzzy lookup
+        Person carlos = new PersonBuilder(CARL).withName("Carlos Kurz").build();
+        personKeywords.removeEntity(CARL);
+        personKeywords.addEntity(carlos);
+        assertEquals(Collections.singleton(carlos),
+                personKeywords.find(SearchField.PERSON_NAME, toSearchKeywords("karlos~")));
+        assertTrue(personKeywords.find(SearchField.PERSON_NAME, toSearchKeywords("karl~")).isEmpty());
+
+        // field that is not fuzzy indexed
+        assertEquals(Collections.singleton(ALICE),
+                personKeywords.find(SearchField.PERSON_PHONE, toSearchKeywords("94351254~")));
+    }
+
+    @Test
+    public void find_fieldNotIndexed_throwsIllegalArgumentException() {
+        KeywordIndex<Person> nameKeywords = new KeywordIndex<>(Collections.singletonList(SearchField.PERSON_NAME));
+        thrown.expect(IllegalArgumentException.class);
+        nameKeywords.find(SearchField.PERSON_PHONE, toSearchKeywords("94351253"));
+    }
+
+    @Test
+    public void find_joinedField_returnsEntitiesFoundByJoin() {
+        KeywordIndex<Person> joinedKeywords = new KeywordIndex<>(SearchField.PERSON_FIELDS);
+        joinedKeywords.addJoin(SearchField.PERSON_MODULE_CODE, keywords -> {
+            Set<Person> persons = Collections.newSetFromMap(new IdentityHashMap<>());
+            persons.add(BENSON);
+            return persons;
+        }, keywords -> 2);
+        Person aliceInCs2100 = new PersonBuilder(ALICE)
+                .withModuleList(new UniqueModuleList(Collections.singletonList(CS2100))).build();
+        joinedKeywords.setEntities(Arrays.asList(aliceInCs2100, BENSON));
+
+        assertEquals(Collections.singleton(BENSON),
+                joinedKeywords.find(SearchField.PERSON_MODULE_CODE, toSearchKeywords("CS2100")));
+        assertEquals(2, joinedKeywords.countEntries(SearchField.PERSON_MODULE_CODE, toSearchKeywords("CS2100")));
+        // a single entity is checked against its own field
+        assertTrue(joinedKeywords.contains(SearchField.PERSON_MODULE_CODE, toSearchKeywords("CS2100"), aliceInCs2100));
+        assertFalse(joinedKeywords.contains(SearchField.PERSON_MODULE_CODE, toSearchKeywords("CS2100"), BENSON));
+    }
+
+    @Test
+    public void addJoin_entitiesIndexed_throwsIllegalStateException() {
+        personKeywords.setEntities(Arrays.asList(ALICE, BENSON));
+        thrown.expect(IllegalStateException.class);
+        personKeywords.addJoin(SearchField.PERSON_MODULE_CODE, keywords -> Collections.emptySet(), keywords -> 0);
+    }
+
+    @Test
+    public void toIndexedPredicate_indexChanges_followsIndex() {
+        personKeywords.setEntities(Arrays.asList(ALICE, BENSON));
+        Predicate<Person> predicate = personKeywords.toIndexedPredicate(
+                new NameContainsKeywordsPredicate(Arrays.asList("Alice", "Carl")));
+        assertTrue(predicate.test(ALICE));
+        assertFalse(predicate.test(BENSON));
+
+        // an entity that is not indexed yet is tested by the keyword predicate itself
+        assertTrue(predicate.test(CARL));
+
+        personKeywords.addEntity(CARL);
+        personKeywords.removeEntity(ALICE);
+        assertTrue(predicate.test(CARL));
+        assertTrue(predicate.test(ALICE));
+        personKeywords.addEntity(BENSON);
+        assertFalse(predicate.test(BENSON));
+    }
+
+    @Test
+    public void toIndexedPersonPredicate_addressBookChanges_matchesKeywordPredicate() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(Arrays.asList(ALICE, BENSON));
+        PersonModuleCodeContainsKeywordsPredicate keywordPredicate =
+                new PersonModuleCodeContainsKeywordsPredicate(Collections.singletonList("cs2100"));
+        Predicate<Person> predicate = addressBook.toIndexedPersonPredicate(keywordPredicate);
+
+        Person aliceInCs2100 = new PersonBuilder(ALICE)
+                .withModuleList(new UniqueModuleList(Collections.singletonList(CS2100))).build();
+        Person bensonInSt2131 = new PersonBuilder(BENSON)
+                .withModuleList(new UniqueModuleList(Collections.singletonList(ST2131))).build();
+        addressBook.updatePerson(ALICE, aliceInCs2100);
+        addressBook.updatePerson(BENSON, bensonInSt2131);
+        addressBook.addPerson(CARL);
+
+        for (Person person : addressBook.getPersonList()) {
+            assertEquals(keywordPredicate.test(person), predicate.test(person));
+        }
+        assertTrue(predicate.test(aliceInCs2100));
+
+        addressBook.removePerson(aliceInCs2100);
+        assertTrue(addressBook.getPersonList().stream().noneMatch(predicate));
+    }
+
+    @Test
+    public void toIndexedPersonPredicate_moduleAndOccasion_joinsFromModuleAndOccasionSide() {
+        Person aliceInCs2100 = new PersonBuilder(ALICE)
+                .withModuleList(new UniqueModuleList(Collections.singletonList(CS2100))).build();
+        Person bensonInCs2100AtOccasion = new PersonBuilder(BENSON)
+                .withModuleList(new UniqueModuleList(Collections.singletonList(CS2100)))
+                .withOccasionList(new UniqueOccasionList(Collections.singletonList(OCCASION_ONE))).build();
+        Person carlAtOccasion = new PersonBuilder(CARL)
+                .withOccasionList(new UniqueOccasionList(Collections.singletonList(OCCASION_ONE))).build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(Arrays.asList(aliceInCs2100, bensonInCs2100AtOccasion, carlAtOccasion));
+
+        KeywordQuery<Person> query = KeywordQuery.allOf(Arrays.asList(
+                new PersonModuleCodeContainsKeywordsPredicate(Collections.singletonList("CS2100")),
+                new PersonOccasionNameContainsKeywordsPredicate(Collections.singletonList("exam"))));
+        Predicate<Person> predicate = addressBook.toIndexedPersonPredicate(query);
+        assertEquals(Collections.singletonList(bensonInCs2100AtOccasion),
+                addressBook.getPersonList().stream().filter(predicate).collect(Collectors.toList()));
+
+        // the join follows the links of an edited person
+        Person bensonInSt2131 = new PersonBuilder(bensonInCs2100AtOccasion)
+                .withModuleList(new UniqueModuleList(Collections.singletonList(ST2131))).build();
+        addressBook.updatePerson(bensonInCs2100AtOccasion, bensonInSt2131);
+        assertTrue(addressBook.getPersonList().stream().noneMatch(predicate));
+    }
+
+    @Test
+    public void toIndexedModulePredicate_otherPredicate_returnsSamePredicate() {
+        AddressBook addressBook = new AddressBook();
+        Predicate<Module> predicate = module -> true;
+        assertSame(predicate, addressBook.toIndexedModulePredicate(predicate));
+    }
+
+    private static List<SearchKeyword> toSearchKeywords(String... keywords) {
+        return Arrays.stream(keywords).map(SearchKeyword::new).collect(Collectors.toList());
+    }
+}
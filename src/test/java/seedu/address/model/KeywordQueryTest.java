@@ -0,0 +1,126 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import seedu.address.model.person.AddressContainsKeywordsPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PhoneContainsKeywordsPredicate;
+
+public class KeywordQueryTest {
+
+    private final KeywordQuery<Person> meierTerm =
+            new NameContainsKeywordsPredicate(Collections.singletonList("Meier"));
+    private final KeywordQuery<Person> streetTerm =
+            new AddressContainsKeywordsPredicate(Collections.singletonList("street"));
+    private final KeywordQuery<Person> aliceTerm =
+            new NameContainsKeywordsPredicate(Collections.singletonList("alice"));
+    private final KeywordQuery<Person> unknownPhoneTerm =
+            new PhoneContainsKeywordsPredicate(Collections.singletonList("12345678"));
+
+    @Test
+    public void test_combinations_correctResult() {
+        KeywordQuery<Person> query = KeywordQuery.anyOf(Arrays.asList(
+                KeywordQuery.allOf(Arrays.asList(meierTerm, KeywordQuery.not(streetTerm))), aliceTerm));
+
+        assertTrue(query.test(ALICE));
+        assertTrue(query.test(BENSON));
+        assertFalse(query.test(DANIEL)); // Meier on 10th street
+        assertTrue(query.test(HOON)); // Meier in little india
+    }
+
+    @Test
+    public void findMatches_sameAsTest() {
+        List<Person> persons = getTypicalPersons();
+        KeywordIndex<Person> index = new KeywordIndex<>(SearchField.PERSON_FIELDS);
+        index.setEntities(persons);
+
+        List<KeywordQuery<Person>> queries = Arrays.asList(
+                KeywordQuery.allOf(Arrays.asList(streetTerm, meierTerm)),
+                KeywordQuery.allOf(Arrays.asList(meierTerm, KeywordQuery.not(streetTerm))),
+                KeywordQuery.allOf(Arrays.asList(KeywordQuery.not(meierTerm), KeywordQuery.not(streetTerm))),
+                KeywordQuery.allOf(Arrays.asList(unknownPhoneTerm, meierTerm)),
+                KeywordQuery.anyOf(Arrays.asList(aliceTerm, unknownPhoneTerm, streetTerm)),
+                KeywordQuery.not(KeywordQuery.anyOf(Arrays.asList(aliceTerm, meierTerm))));
+        for (KeywordQuery<Person> query : queries) {
+            Set<Person> expectedMatches = persons.stream().filter(query).collect(Collectors.toSet());
+            assertEquals(expectedMatches, new HashSet<>(query.findMatches(index)));
+            for (Person person : persons) {
+                assertEquals(query.test(person), query.isMatch(index, person));
+            }
+        }
+    }
+
+    @Test
+    public void estimateMatches_mostSelectiveTerm() {
+        KeywordIndex<Person> index = new KeywordIndex<>(SearchField.PERSON_FIELDS);
+        index.setEntities(getTypicalPersons());
+
+        assertEquals(0, KeywordQuery.allOf(Arrays.asList(meierTerm, unknownPhoneTerm)).estimateMatches(index));
+        assertEquals(1, KeywordQuery.allOf(Arrays.asList(meierTerm, aliceTerm)).estimateMatches(index));
+        assertEquals(index.size(), KeywordQuery.not(aliceTerm).estimateMatches(index));
+    }
+
+    @Test
+    public void findMatches_allOf_estimatesEachPartOnce() {
+        KeywordIndex<Person> index = new KeywordIndex<>(SearchField.PERSON_FIELDS);
+        index.setEntities(getTypicalPersons());
+        List<CountingQuery> parts = Arrays.asList(new CountingQuery("street"), new CountingQuery("avenue"),
+                new CountingQuery("michegan"), new CountingQuery("road"));
+
+        KeywordQuery.allOf(new ArrayList<>(parts)).findMatches(index);
+        for (CountingQuery part : parts) {
+            assertEquals(1, part.estimateCount);
+        }
+    }
+
+    @Test
+    public void equals() {
+        KeywordQuery<Person> query = KeywordQuery.allOf(Arrays.asList(meierTerm, aliceTerm));
+
+        assertTrue(query.equals(query));
+        assertTrue(query.equals(KeywordQuery.allOf(Arrays.asList(meierTerm, aliceTerm))));
+        assertEquals(query.hashCode(), KeywordQuery.allOf(Arrays.asList(
+                new NameContainsKeywordsPredicate(Collections.singletonList("Meier")), aliceTerm)).hashCode());
+        assertFalse(query.equals(null));
+        assertFalse(query.equals(KeywordQuery.anyOf(Arrays.asList(meierTerm, aliceTerm))));
+        assertFalse(query.equals(KeywordQuery.allOf(Arrays.asList(aliceTerm, meierTerm))));
+        assertTrue(KeywordQuery.not(aliceTerm).equals(KeywordQuery.not(aliceTerm)));
+        assertNotEquals(KeywordQuery.not(aliceTerm), KeywordQuery.not(meierTerm));
+    }
+
+    /**
+     * An address query that counts how many times it is estimated.
+     */
+    private static class CountingQuery extends FieldContainsKeywordsPredicate<Person> {
+        private int estimateCount;
+
+        CountingQuery(String keyword) {
+            super(SearchField.PERSON_ADDRESS, Collections.singletonList(keyword));
+        }
+
+        @Override
+        int estimateMatches(KeywordIndex<Person> index) {
+            estimateCount++;
+            return super.estimateMatches(index);
+        }
+    }
+}
@@ -1,10 +1,12 @@
 package seedu.address.model;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.nio.file.Paths;
 import java.util.Arrays;
@@ -13,12 +15,18 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.commons.events.model.AddressBookChangedEvent;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.ui.testutil.EventsCollectorRule;
 
 public class ModelManagerTest {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
 
     private ModelManager modelManager = new ModelManager();
 
@@ -45,6 +53,78 @@ public class ModelManagerTest {
         modelManager.getFilteredPersonList().remove(0);
     }
 
+    @Test
+    public void updateFilteredPersonList_rankedQuery_closestMatchesFirst() {
+        Person carla = new PersonBuilder(CARL).withName("Carla Kurz").build();
+        Person carlKurz = new PersonBuilder(CARL).withName("Carl Kurz").withPhone("91234567").build();
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(carla);
+        modelManager.addPerson(carlKurz);
+
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("carl*")));
+        assertEquals(Arrays.asList(carlKurz, carla), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(Arrays.asList(ALICE, carla, carlKurz), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void commitAddressBook_overStateLimit_undoHistoryKeptWithinLimit() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setMaxUndoStates(1);
+        modelManager = new ModelManager(new AddressBook(), userPrefs);
+        assertEquals(0, modelManager.getUndoHistoryStateCount());
+        assertEquals(0, modelManager.getUndoHistoryEstimatedBytes());
+
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+        assertEquals(1, modelManager.getUndoHistoryStateCount());
+        assertTrue(modelManager.getUndoHistoryEstimatedBytes() > 0);
+
+        modelManager.addPerson(BENSON);
+        modelManager.commitAddressBook();
+        assertEquals(1, modelManager.getUndoHistoryStateCount());
+        assertTrue(modelManager.getUndoHistoryEstimatedBytes() > 0);
+    }
+
+    @Test
+    public void endBatch_changedInBatch_raisesOneEventAndCommitsOnce() {
+        modelManager.startBatch();
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+        modelManager.addPerson(BENSON);
+        modelManager.commitAddressBook();
+        assertEquals(0, eventsCollectorRule.eventsCollector.getSize());
+        assertFalse(modelManager.canUndoAddressBook());
+
+        modelManager.endBatch();
+        assertEquals(1, eventsCollectorRule.eventsCollector.getSize());
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof AddressBookChangedEvent);
+        modelManager.undoAddressBook();
+        assertFalse(modelManager.hasPerson(ALICE));
+        assertFalse(modelManager.hasPerson(BENSON));
+        assertFalse(modelManager.canUndoAddressBook());
+    }
+
+    @Test
+    public void cancelBatch_changedInBatch_revertsChanges() {
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+        eventsCollectorRule.eventsCollector.reset();
+
+        modelManager.startBatch();
+        modelManager.addPerson(BENSON);
+        modelManager.deletePerson(ALICE);
+        modelManager.commitAddressBook();
+        modelManager.cancelBatch();
+
+        assertTrue(modelManager.hasPerson(ALICE));
+        assertFalse(modelManager.hasPerson(BENSON));
+        assertEquals(0, eventsCollectorRule.eventsCollector.getSize());
+        assertTrue(modelManager.canUndoAddressBook());
+        assertFalse(modelManager.canRedoAddressBook());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
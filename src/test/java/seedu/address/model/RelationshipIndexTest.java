@@ -0,0 +1,152 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandPersonTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.logic.commands.CommandPersonTestUtil.VALID_PHONE_BOB;
+import static seedu.address.testutil.TypicalModules.CS2100;
+import static seedu.address.testutil.TypicalModules.ST2131;
+import static seedu.address.testutil.TypicalOccasions.OCCASION_ONE;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import seedu.address.model.module.Module;
+import seedu.address.model.module.UniqueModuleList;
+import seedu.address.model.occasion.Occasion;
+import seedu.address.model.occasion.OccasionDescriptor;
+import seedu.address.model.occasion.UniqueOccasionList;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.testutil.ModuleBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class RelationshipIndexTest {
+
+    private final AddressBook addressBook = new AddressBook();
+
+    @Test
+    public void getPersonsWithModule_linkedPersons_returnsOnlyLinkedPersons() {
+        Person aliceInCs2100 = new PersonBuilder(ALICE)
+                .withModuleList(new UniqueModuleList(Collections.singletonList(CS2100))).build();
+        Person bensonInSt2131 = new PersonBuilder(BENSON)
+                .withModuleList(new UniqueModuleList(Collections.singletonList(ST2131))).build();
+        addressBook.setPersons(Arrays.asList(aliceInCs2100, bensonInSt2131));
+
+        assertEquals(Collections.singletonList(aliceInCs2100), addressBook.getPersonsWithModule(CS2100));
+        assertEquals(Collections.singletonList(bensonInSt2131), addressBook.getPersonsWithModule(ST2131));
+    }
+
+    @Test
+    public void getPersonsWithModule_personUpdated_returnsEditedPerson() {
+        Person aliceInCs2100 = new PersonBuilder(ALICE)
+                .withModuleList(new UniqueModuleList(Collections.singletonList(CS2100))).build();
+        addressBook.addPerson(aliceInCs2100);
+        Person editedAlice = new PersonBuilder(aliceInCs2100).withAddress(VALID_ADDRESS_BOB).build();
+        addressBook.updatePerson(aliceInCs2100, editedAlice);
+
+        assertEquals(Collections.singletonList(editedAlice), addressBook.getPersonsWithModule(CS2100));
+    }
+
+    @Test
+    public void getPersonsWithModule_personRemoved_returnsEmptyList() {
+        Person aliceInCs2100 = new PersonBuilder(ALICE)
+                .withModuleList(new UniqueModuleList(Collections.singletonList(CS2100))).build();
+        addressBook.addPerson(aliceInCs2100);
+        addressBook.removePerson(aliceInCs2100);
+
+        assertTrue(addressBook.getPersonsWithModule(CS2100).isEmpty());
+    }
+
+    @Test
+    public void findPersonsWithModuleCode_keywords_returnsPersonsInMatchingModules() {
+        RelationshipIndex relationships = new RelationshipIndex();
+        Person aliceInCs2100 = new PersonBuilder(ALICE)
+                .withModuleList(new UniqueModuleList(Collections.singletonList(CS2100))).build();
+        Person bensonInBoth = new PersonBuilder(BENSON)
+                .withModuleList(new UniqueModuleList(Arrays.asList(CS2100, ST2131))).build();
+        relationships.setPersons(Arrays.asList(aliceInCs2100, bensonInBoth));
+
+        assertEquals(new HashSet<>(Arrays.asList(aliceInCs2100, bensonInBoth)),
+                new HashSet<>(relationships.findPersonsWithModuleCode(toSearchKeywords("cs2100"))));
+        assertEquals(Collections.singleton(bensonInBoth),
+                relationships.findPersonsWithModuleCode(toSearchKeywords("ST*")));
+        assertTrue(relationships.findPersonsWithModuleCode(toSearchKeywords("CS2103")).isEmpty());
+        assertEquals(3, relationships.countPersonsWithModuleCode(toSearchKeywords("CS2100", "ST2131")));
+        assertEquals(0, relationships.countPersonsWithModuleCode(toSearchKeywords("CS2103")));
+
+        // a module that no person is linked to any more is not found
+        relationships.removePerson(bensonInBoth);
+        assertTrue(relationships.findPersonsWithModuleCode(toSearchKeywords("ST2131")).isEmpty());
+        assertEquals(Collections.singleton(aliceInCs2100),
+                relationships.findPersonsWithModuleCode(toSearchKeywords("CS2100")));
+    }
+
+    @Test
+    public void findPersonsWithOccasionName_keywords_returnsPersonsAtMatchingOccasions() {
+        RelationshipIndex relationships = new RelationshipIndex();
+        Person bensonAtOccasion = new PersonBuilder(BENSON)
+                .withOccasionList(new UniqueOccasionList(Collections.singletonList(OCCASION_ONE))).build();
+        relationships.setPersons(Arrays.asList(ALICE, bensonAtOccasion));
+
+        assertEquals(Collections.singleton(bensonAtOccasion),
+                relationships.findPersonsWithOccasionName(toSearchKeywords("exan~")));
+        assertTrue(relationships.findPersonsWithOccasionName(toSearchKeywords("Vacation")).isEmpty());
+        assertEquals(1, relationships.countPersonsWithOccasionName(toSearchKeywords("exam")));
+    }
+
+    @Test
+    public void getModulesWithStudent_studentWithSameNameAndEmail_returnsModule() {
+        Module cs2100WithAlice = new ModuleBuilder(CS2100)
+                .withStudents(new UniquePersonList(Collections.singletonList(ALICE))).build();
+        addressBook.addModule(cs2100WithAlice);
+        Person aliceWithOtherPhone = new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).build();
+
+        assertEquals(Collections.singletonList(cs2100WithAlice),
+                addressBook.getModulesWithStudent(aliceWithOtherPhone));
+    }
+
+    @Test
+    public void getModulesWithStudent_moduleUpdatedWithoutStudent_returnsEmptyList() {
+        Module cs2100WithAlice = new ModuleBuilder(CS2100)
+                .withStudents(new UniquePersonList(Collections.singletonList(ALICE))).build();
+        addressBook.addModule(cs2100WithAlice);
+        addressBook.updateModule(cs2100WithAlice, CS2100);
+
+        assertTrue(addressBook.getModulesWithStudent(ALICE).isEmpty());
+    }
+
+    @Test
+    public void getOccasionsWithAttendee_resetData_returnsLinkedOccasion() {
+        OccasionDescriptor withBenson = new OccasionDescriptor();
+        withBenson.setAttendanceList(new UniquePersonList(Collections.singletonList(BENSON)));
+        Occasion occasionWithBenson = Occasion.createEditedOccasion(OCCASION_ONE, withBenson);
+        AddressBook source = new AddressBook();
+        source.addOccasion(occasionWithBenson);
+        addressBook.resetData(source);
+
+        assertEquals(Collections.singletonList(occasionWithBenson), addressBook.getOccasionsWithAttendee(BENSON));
+        assertTrue(addressBook.getOccasionsWithAttendee(ALICE).isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithOccasion_occasionRemovedFromPerson_returnsEmptyList() {
+        Person bensonAtOccasion = new PersonBuilder(BENSON)
+                .withOccasionList(new UniqueOccasionList(Collections.singletonList(OCCASION_ONE))).build();
+        addressBook.addPerson(bensonAtOccasion);
+        addressBook.updatePerson(bensonAtOccasion, new PersonBuilder(BENSON).build());
+
+        assertTrue(addressBook.getPersonsWithOccasion(OCCASION_ONE).isEmpty());
+    }
+
+    private static List<SearchKeyword> toSearchKeywords(String... keywords) {
+        return Arrays.stream(keywords).map(SearchKeyword::new).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,73 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import seedu.address.model.SearchKeyword.MatchType;
+
+public class SearchKeywordTest {
+
+    @Test
+    public void constructor_markers_correctMatchType() {
+        assertEquals(MatchType.EXACT, new SearchKeyword("Alex").getMatchType());
+        assertEquals(MatchType.PREFIX, new SearchKeyword("Ale*").getMatchType());
+        assertEquals(MatchType.FUZZY, new SearchKeyword("Alx~").getMatchType());
+        assertEquals("ale", new SearchKeyword(" Ale* ").getText());
+
+        // a marker on its own is an exact keyword
+        assertEquals(MatchType.EXACT, new SearchKeyword("*").getMatchType());
+        assertEquals("*", new SearchKeyword("*").getText());
+    }
+
+    @Test
+    public void getRank_exactKeyword_matchesWholeWordOnly() {
+        SearchKeyword keyword = new SearchKeyword("ALEX");
+        assertEquals(0, keyword.getRank("alex"));
+        assertEquals(SearchKeyword.NO_MATCH, keyword.getRank("alexander"));
+        assertEquals(SearchKeyword.NO_MATCH, keyword.getRank("ale"));
+    }
+
+    @Test
+    public void getRank_prefixKeyword_matchesWordsWithPrefix() {
+        SearchKeyword keyword = new SearchKeyword("ale*");
+        assertEquals(0, keyword.getRank("ale"));
+        assertEquals(1, keyword.getRank("alex"));
+        assertEquals(1, keyword.getRank("alexander"));
+        assertEquals(SearchKeyword.NO_MATCH, keyword.getRank("bale"));
+    }
+
+    @Test
+    public void getRank_fuzzyKeyword_matchesWordsWithinEditDistance() {
+        SearchKeyword shortKeyword = new SearchKeyword("al~");
+        assertEquals(0, shortKeyword.getMaxEditDistance());
+        assertEquals(0, shortKeyword.getRank("al"));
+        assertEquals(SearchKeyword.NO_MATCH, shortKeyword.getRank("ali"));
+
+        SearchKeyword keyword = new SearchKeyword("alx~");
+        assertEquals(1, keyword.getMaxEditDistance());
+        assertEquals(0, keyword.getRank("alx"));
+        assertEquals(1, keyword.getRank("alex"));
+        assertEquals(1, keyword.getRank("al"));
+        assertEquals(SearchKeyword.NO_MATCH, keyword.getRank("alexa"));
+
+        SearchKeyword longKeyword = new SearchKeyword("alexandr~");
+        assertEquals(2, longKeyword.getMaxEditDistance());
+        assertEquals(1, longKeyword.getRank("alexander"));
+        assertEquals(2, longKeyword.getRank("aleksandr"));
+        assertEquals(SearchKeyword.NO_MATCH, longKeyword.getRank("alexandra's"));
+    }
+
+    @Test
+    public void equals() {
+        SearchKeyword keyword = new SearchKeyword("ale*");
+        assertTrue(keyword.equals(keyword));
+        assertTrue(keyword.equals(new SearchKeyword("ALE*")));
+        assertFalse(keyword.equals(new SearchKeyword("ale~")));
+        assertFalse(keyword.equals(new SearchKeyword("ale")));
+        assertFalse(keyword.equals(null));
+        assertEquals("ale*", keyword.toString());
+    }
+}
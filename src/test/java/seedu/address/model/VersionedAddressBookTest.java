@@ -2,8 +2,11 @@ package seedu.address.model;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static seedu.address.logic.commands.CommandPersonTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.testutil.TypicalModules.CS2100;
 import static seedu.address.testutil.TypicalPersons.AMY;
 import static seedu.address.testutil.TypicalPersons.BOB;
 import static seedu.address.testutil.TypicalPersons.CARL;
@@ -14,7 +17,9 @@ import java.util.List;
 
 import org.junit.Test;
 
+import seedu.address.model.person.Person;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class VersionedAddressBookTest {
 
@@ -207,6 +212,177 @@ public class VersionedAddressBookTest {
         assertThrows(VersionedAddressBook.NoRedoableStateException.class, versionedAddressBook::redo);
     }
 
+    @Test
+    public void undo_removedPersonInMiddleOfList_restoresPersonAtSamePosition() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(
+                new AddressBookBuilder().withPerson(AMY).withPerson(BOB).withPerson(CARL).build());
+        versionedAddressBook.removePerson(BOB);
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        assertEquals(Arrays.asList(AMY, BOB, CARL), versionedAddressBook.getPersonList());
+
+        versionedAddressBook.redo();
+        assertEquals(Arrays.asList(AMY, CARL), versionedAddressBook.getPersonList());
+    }
+
+    @Test
+    public void undo_updatedPerson_restoresOriginalPerson() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(addressBookWithAmy);
+        Person editedAmy = new PersonBuilder(AMY).withAddress(VALID_ADDRESS_BOB).build();
+        versionedAddressBook.updatePerson(AMY, editedAmy);
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        assertSame(AMY, versionedAddressBook.getPersonList().get(0));
+
+        versionedAddressBook.redo();
+        assertSame(editedAmy, versionedAddressBook.getPersonList().get(0));
+    }
+
+    @Test
+    public void undo_uncommittedChanges_discardsUncommittedChanges() {
+        VersionedAddressBook versionedAddressBook = prepareAddressBookList(emptyAddressBook, addressBookWithAmy);
+        versionedAddressBook.addPerson(BOB);
+
+        versionedAddressBook.undo();
+        assertEquals(emptyAddressBook, new AddressBook(versionedAddressBook));
+
+        versionedAddressBook.redo();
+        assertEquals(addressBookWithAmy, new AddressBook(versionedAddressBook));
+    }
+
+    @Test
+    public void undo_insertedPerson_restoresLinks() {
+        AddressBook initialState = new AddressBookBuilder().withPerson(AMY).build();
+        initialState.addModule(CS2100);
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(initialState);
+        versionedAddressBook.insertPerson(AMY, CS2100);
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        assertTrue(versionedAddressBook.getPersonsWithModule(CS2100).isEmpty());
+        assertTrue(versionedAddressBook.getModuleList().get(0).getStudents().asNormalList().isEmpty());
+        assertTrue(versionedAddressBook.getPersonList().get(0).getModuleList().asNormalList().isEmpty());
+
+        versionedAddressBook.redo();
+        assertEquals(1, versionedAddressBook.getPersonsWithModule(CS2100).size());
+        assertTrue(versionedAddressBook.getModuleList().get(0).getStudents().contains(AMY));
+    }
+
+    @Test
+    public void commit_overStateLimit_dropsOldestStates() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(emptyAddressBook, 2, Long.MAX_VALUE);
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.commit();
+        versionedAddressBook.addPerson(BOB);
+        versionedAddressBook.commit();
+        versionedAddressBook.addPerson(CARL);
+        versionedAddressBook.commit();
+
+        assertEquals(2, versionedAddressBook.getHistoryStateCount());
+        assertEquals(1, versionedAddressBook.getEvictedStateCount());
+        versionedAddressBook.undo();
+        versionedAddressBook.undo();
+        assertFalse(versionedAddressBook.canUndo());
+        assertEquals(Collections.singletonList(AMY), versionedAddressBook.getPersonList());
+    }
+
+    @Test
+    public void commit_overByteLimit_dropsOldestStates() {
+        VersionedAddressBook unbounded = new VersionedAddressBook(emptyAddressBook);
+        unbounded.addPerson(AMY);
+        unbounded.commit();
+        long bytesPerState = unbounded.getHistoryEstimatedBytes();
+
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(emptyAddressBook, Integer.MAX_VALUE,
+                bytesPerState * 2);
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.commit();
+        versionedAddressBook.addPerson(BOB);
+        versionedAddressBook.commit();
+        versionedAddressBook.addPerson(CARL);
+        versionedAddressBook.commit();
+
+        assertEquals(2, versionedAddressBook.getHistoryStateCount());
+        assertEquals(bytesPerState * 2, versionedAddressBook.getHistoryEstimatedBytes());
+    }
+
+    @Test
+    public void commit_afterUndo_discardsBytesOfUndoneStates() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(emptyAddressBook);
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.commit();
+        long bytesAfterFirstCommit = versionedAddressBook.getHistoryEstimatedBytes();
+        versionedAddressBook.addPerson(BOB);
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        versionedAddressBook.commit();
+        assertEquals(bytesAfterFirstCommit, versionedAddressBook.getHistoryEstimatedBytes());
+    }
+
+    @Test
+    public void commit_repeatedUpdatesOfSamePerson_recordsNetChangeOnly() {
+        VersionedAddressBook singleUpdate = new VersionedAddressBook(addressBookWithAmy);
+        singleUpdate.updatePerson(AMY, BOB);
+        singleUpdate.commit();
+
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(addressBookWithAmy);
+        versionedAddressBook.updatePerson(AMY, CARL);
+        versionedAddressBook.updatePerson(CARL, BOB);
+        versionedAddressBook.commit();
+        assertEquals(singleUpdate.getHistoryEstimatedBytes(), versionedAddressBook.getHistoryEstimatedBytes());
+
+        versionedAddressBook.undo();
+        assertEquals(addressBookWithAmy, new AddressBook(versionedAddressBook));
+        versionedAddressBook.redo();
+        assertEquals(addressBookWithBob, new AddressBook(versionedAddressBook));
+    }
+
+    @Test
+    public void commit_personAddedThenRemoved_recordsNoChange() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(addressBookWithAmy);
+        versionedAddressBook.addPerson(BOB);
+        versionedAddressBook.updatePerson(AMY, CARL);
+        versionedAddressBook.removePerson(BOB);
+        versionedAddressBook.commit();
+
+        VersionedAddressBook singleUpdate = new VersionedAddressBook(addressBookWithAmy);
+        singleUpdate.updatePerson(AMY, CARL);
+        singleUpdate.commit();
+        assertEquals(singleUpdate.getHistoryEstimatedBytes(), versionedAddressBook.getHistoryEstimatedBytes());
+
+        versionedAddressBook.undo();
+        assertEquals(addressBookWithAmy, new AddressBook(versionedAddressBook));
+        versionedAddressBook.redo();
+        assertEquals(addressBookWithCarl, new AddressBook(versionedAddressBook));
+    }
+
+    @Test
+    public void undo_updatesThenRemovalsOfSeveralPersons_restoresOrder() {
+        AddressBook initialState = new AddressBookBuilder().withPerson(AMY).withPerson(BOB).withPerson(CARL).build();
+        Person editedAmy = new PersonBuilder(AMY).withAddress(VALID_ADDRESS_BOB).build();
+        Person editedCarl = new PersonBuilder(CARL).withAddress(VALID_ADDRESS_BOB).build();
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(initialState);
+        versionedAddressBook.updatePerson(AMY, editedAmy);
+        versionedAddressBook.updatePerson(CARL, editedCarl);
+        versionedAddressBook.removePerson(editedCarl);
+        versionedAddressBook.removePerson(editedAmy);
+        versionedAddressBook.commit();
+        assertEquals(Collections.singletonList(BOB), versionedAddressBook.getPersonList());
+
+        versionedAddressBook.undo();
+        assertEquals(Arrays.asList(AMY, BOB, CARL), versionedAddressBook.getPersonList());
+        versionedAddressBook.redo();
+        assertEquals(Collections.singletonList(BOB), versionedAddressBook.getPersonList());
+    }
+
+    @Test
+    public void constructor_negativeLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new VersionedAddressBook(emptyAddressBook, -1, 0));
+    }
+
     @Test
     public void equals() {
         VersionedAddressBook versionedAddressBook = prepareAddressBookList(addressBookWithAmy, addressBookWithBob);
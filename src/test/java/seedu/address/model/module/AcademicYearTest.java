@@ -1,8 +1,11 @@
 package seedu.address.model.module;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Collections;
+
 import org.junit.Test;
 
 import seedu.address.testutil.Assert;
@@ -42,4 +45,10 @@ public class AcademicYearTest {
         AcademicYear secondYear = new AcademicYear("1819");
         assertTrue(year.equals(secondYear));
     }
+
+    @Test
+    public void getFoldedWords_emptyAndValidYear_returnsWordsOfYear() {
+        assertEquals(Collections.emptyList(), new AcademicYear().getFoldedWords());
+        assertEquals(Collections.singletonList("0910"), new AcademicYear("0910").getFoldedWords());
+    }
 }
@@ -3,6 +3,7 @@ package seedu.address.model.module;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandModuleTestUtil.VALID_ACADEMICYEAR_ST2131;
 import static seedu.address.logic.commands.CommandModuleTestUtil.VALID_MODULETITLE_ST2131;
 import static seedu.address.logic.commands.CommandModuleTestUtil.VALID_TAG_CALCULUS;
 import static seedu.address.testutil.TypicalModules.CS2100;
@@ -52,6 +53,35 @@ public class UniqueModuleListTest {
         assertTrue(uniqueModuleList.contains(editedCS2100));
     }
 
+    @Test
+    public void contains_moduleWithSameIdentityDifferentTitle_returnsTrue() {
+        uniqueModuleList.add(CS2100);
+        Module retitledCS2100 = new ModuleBuilder(CS2100).withModuleTitle(VALID_MODULETITLE_ST2131).build();
+        assertTrue(uniqueModuleList.contains(retitledCS2100));
+    }
+
+    @Test
+    public void contains_moduleWithDifferentAcademicYear_returnsFalse() {
+        uniqueModuleList.add(CS2100);
+        Module laterCS2100 = new ModuleBuilder(CS2100).withAcademicYear(VALID_ACADEMICYEAR_ST2131).build();
+        assertFalse(uniqueModuleList.contains(laterCS2100));
+    }
+
+    @Test
+    public void contains_removedModule_returnsFalse() {
+        uniqueModuleList.add(CS2100);
+        uniqueModuleList.remove(CS2100);
+        assertFalse(uniqueModuleList.contains(CS2100));
+    }
+
+    @Test
+    public void contains_moduleReplacedBySetModule_returnsFalse() {
+        uniqueModuleList.add(CS2100);
+        uniqueModuleList.setModule(CS2100, ST2131);
+        assertFalse(uniqueModuleList.contains(CS2100));
+        assertTrue(uniqueModuleList.contains(ST2131));
+    }
+
     @Test
     public void add_nullModule_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -179,6 +209,14 @@ public class UniqueModuleListTest {
         uniqueModuleList.setModules(listWithDuplicateModules);
     }
 
+    @Test
+    public void setModules_listWithSameIdentityModules_throwsDuplicateModuleException() {
+        Module retitledCS2100 = new ModuleBuilder(CS2100).withModuleTitle(VALID_MODULETITLE_ST2131).build();
+        List<Module> listWithSameIdentityModules = Arrays.asList(CS2100, retitledCS2100);
+        thrown.expect(DuplicateModuleException.class);
+        uniqueModuleList.setModules(listWithSameIdentityModules);
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
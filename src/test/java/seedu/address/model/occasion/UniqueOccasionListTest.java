@@ -3,6 +3,7 @@ package seedu.address.model.occasion;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandOccasionTestUtil.VALID_OCCASIONDATE_TWO;
 import static seedu.address.logic.commands.CommandOccasionTestUtil.VALID_OCCASIONLOCATION_TWO;
 import static seedu.address.logic.commands.CommandOccasionTestUtil.VALID_TAG_SLEEP;
 import static seedu.address.testutil.TypicalOccasions.OCCASION_ONE;
@@ -54,6 +55,28 @@ public class UniqueOccasionListTest {
         assertTrue(uniqueOccasionList.contains(editedOccasionOne));
     }
 
+    @Test
+    public void contains_occasionWithDifferentDate_returnsFalse() {
+        uniqueOccasionList.add(OCCASION_ONE);
+        Occasion movedOccasionOne = new OccasionBuilder(OCCASION_ONE).withOccasionDate(VALID_OCCASIONDATE_TWO).build();
+        assertFalse(uniqueOccasionList.contains(movedOccasionOne));
+    }
+
+    @Test
+    public void contains_removedOccasion_returnsFalse() {
+        uniqueOccasionList.add(OCCASION_ONE);
+        uniqueOccasionList.remove(OCCASION_ONE);
+        assertFalse(uniqueOccasionList.contains(OCCASION_ONE));
+    }
+
+    @Test
+    public void contains_occasionReplacedBySetOccasion_returnsFalse() {
+        uniqueOccasionList.add(OCCASION_ONE);
+        uniqueOccasionList.setOccasion(OCCASION_ONE, OCCASION_TWO);
+        assertFalse(uniqueOccasionList.contains(OCCASION_ONE));
+        assertTrue(uniqueOccasionList.contains(OCCASION_TWO));
+    }
+
     @Test
     public void add_nullOccasion_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -181,6 +204,15 @@ public class UniqueOccasionListTest {
         uniqueOccasionList.setOccasions(listWithDuplicateOccasions);
     }
 
+    @Test
+    public void setOccasions_listWithSameIdentityOccasions_throwsDuplicateOccasionException() {
+        Occasion relocatedOccasionOne = new OccasionBuilder(OCCASION_ONE)
+                .withOccasionLocation(VALID_OCCASIONLOCATION_TWO).build();
+        List<Occasion> listWithSameIdentityOccasions = Arrays.asList(OCCASION_ONE, relocatedOccasionOne);
+        thrown.expect(DuplicateOccasionException.class);
+        uniqueOccasionList.setOccasions(listWithSameIdentityOccasions);
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
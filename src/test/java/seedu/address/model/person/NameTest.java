@@ -1,8 +1,12 @@
 package seedu.address.model.person;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Arrays;
+
 import org.junit.Test;
 
 import seedu.address.testutil.Assert;
@@ -38,4 +42,11 @@ public class NameTest {
         assertTrue(Name.isValidName("Capital Tan")); // with capital letters
         assertTrue(Name.isValidName("David Roger Jackson Ray Jr 2nd")); // long names
     }
+
+    @Test
+    public void getFoldedWords_repeatedCalls_returnsSameFoldedWords() {
+        Name name = new Name("Peter  JACK 2nd");
+        assertEquals(Arrays.asList("peter", "jack", "2nd"), name.getFoldedWords());
+        assertSame(name.getFoldedWords(), name.getFoldedWords());
+    }
 }
@@ -57,6 +57,10 @@ public class PersonModuleCodeContainsKeywordsPredicateTest {
         moduleList.add(new ModuleBuilder().withModuleCode("cs2103t").build());
         predicate = new PersonModuleCodeContainsKeywordsPredicate(Arrays.asList("cs2103", "cs2103t"));
         assertTrue(predicate.test(new PersonBuilder().withModuleList(moduleList).build()));
+
+        // Keyword matches the last module only
+        predicate = new PersonModuleCodeContainsKeywordsPredicate(Collections.singletonList("CS2103T"));
+        assertTrue(predicate.test(new PersonBuilder().withModuleList(moduleList).build()));
     }
 
     @Test
@@ -1,19 +1,24 @@
 package seedu.address.model.person;
 
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandPersonTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandPersonTestUtil.VALID_EMAIL_BOB;
 import static seedu.address.logic.commands.CommandPersonTestUtil.VALID_NAME_BOB;
 import static seedu.address.logic.commands.CommandPersonTestUtil.VALID_PHONE_BOB;
 import static seedu.address.logic.commands.CommandPersonTestUtil.VALID_TAG_HUSBAND;
+import static seedu.address.testutil.TypicalModules.CS2100;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.util.Collections;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.model.module.UniqueModuleList;
 import seedu.address.testutil.PersonBuilder;
 
 public class PersonTest {
@@ -27,6 +32,19 @@ public class PersonTest {
         person.getTags().remove(0);
     }
 
+    @Test
+    public void makeShallowDuplicate_personWithModules_sharesFieldsWithoutLinks() {
+        Person person = new PersonBuilder(ALICE)
+                .withModuleList(new UniqueModuleList(Collections.singletonList(CS2100))).build();
+        Person duplicate = person.makeShallowDuplicate();
+
+        assertTrue(person.equals(duplicate));
+        assertSame(person.getName(), duplicate.getName());
+        assertSame(person.getEmail(), duplicate.getEmail());
+        assertTrue(duplicate.getModuleList().asNormalList().isEmpty());
+        assertTrue(duplicate.getOccasionList().asNormalList().isEmpty());
+    }
+
     @Test
     public void isSamePerson() {
         // same object -> returns true
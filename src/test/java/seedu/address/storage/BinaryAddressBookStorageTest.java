@@ -0,0 +1,154 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalModules.CS2100;
+import static seedu.address.testutil.TypicalOccasions.OCCASION_ONE;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class BinaryAddressBookStorageTest {
+    private static final Path XML_FILE = Paths.get("src", "test", "data", "XmlSerializableAddressBookTest",
+            "typicalPersonsAddressBook.xml");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new BinaryAddressBookStorage(getTempFilePath()).readAddressBook(null);
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(getTempFilePath()).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void read_xmlFile_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        new BinaryAddressBookStorage(XML_FILE).readAddressBook();
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = getTempFilePath();
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(filePath);
+
+        //Save in new file and read back
+        binaryAddressBookStorage.saveAddressBook(original, filePath);
+        ReadOnlyAddressBook readBack = binaryAddressBookStorage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        //Modify data, overwrite exiting file, and read back
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        binaryAddressBookStorage.saveAddressBook(original, filePath);
+        readBack = binaryAddressBookStorage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        //Save and read without specifying file path
+        original.addPerson(IDA);
+        binaryAddressBookStorage.saveAddressBook(original);
+        readBack = binaryAddressBookStorage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_linkedEntries_restoresLinks() throws Exception {
+        AddressBook original = new AddressBook();
+        original.addPerson(ALICE);
+        original.addPerson(BENSON);
+        original.addModule(CS2100);
+        original.addOccasion(OCCASION_ONE);
+        original.insertPerson(ALICE, CS2100);
+        original.insertPerson(original.getPersonList().get(0), OCCASION_ONE);
+        original.insertPerson(BENSON, original.getModuleList().get(0));
+        original.removePerson(original.getPersonList().get(1));
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(getTempFilePath());
+
+        binaryAddressBookStorage.saveAddressBook(original);
+        AddressBook readBack = new AddressBook(binaryAddressBookStorage.readAddressBook().get());
+
+        assertEquals(original, readBack);
+        assertEquals(readBack.getPersonList(), readBack.getPersonsWithModule(CS2100));
+        assertEquals(readBack.getPersonList(), readBack.getPersonsWithOccasion(OCCASION_ONE));
+        assertEquals(readBack.getOccasionList(), readBack.getOccasionsWithAttendee(ALICE));
+        // BENSON is no longer in the address book, so the module keeps a copy of him
+        assertEquals(Arrays.asList(ALICE, BENSON),
+                readBack.getModuleList().get(0).getStudents().asUnmodifiableObservableList());
+        assertEquals(readBack.getModuleList(), readBack.getModulesWithStudent(BENSON));
+    }
+
+    @Test
+    public void read_emptyAddressBook_success() throws Exception {
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(getTempFilePath());
+        binaryAddressBookStorage.saveAddressBook(new AddressBook());
+        assertEquals(Collections.emptyList(), binaryAddressBookStorage.readAddressBook().get().getPersonList());
+    }
+
+    @Test
+    public void read_truncatedFile_throwsDataConversionException() throws Exception {
+        Path filePath = getTempFilePath();
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(filePath);
+        binaryAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+        byte[] saved = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(saved, saved.length - 5));
+
+        thrown.expect(DataConversionException.class);
+        binaryAddressBookStorage.readAddressBook();
+    }
+
+    @Test
+    public void read_unsupportedVersion_throwsDataConversionException() throws Exception {
+        Path filePath = getTempFilePath();
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(filePath);
+        binaryAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+        ByteBuffer saved = ByteBuffer.wrap(Files.readAllBytes(filePath));
+        saved.putInt(Integer.BYTES, BinaryFileStorage.CURRENT_VERSION + 1);
+        Files.write(filePath, saved.array());
+
+        thrown.expect(DataConversionException.class);
+        binaryAddressBookStorage.readAddressBook();
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new BinaryAddressBookStorage(getTempFilePath()).saveAddressBook(null);
+    }
+
+    @Test
+    public void saveAddressBook_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new BinaryAddressBookStorage(getTempFilePath()).saveAddressBook(new AddressBook(), null);
+    }
+
+    private Path getTempFilePath() {
+        return testFolder.getRoot().toPath().resolve("TempAddressBook.bin");
+    }
+}
@@ -0,0 +1,96 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryFileStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void loadAddressBookFromSaveFile_mappedFile_success() throws Exception {
+        Path file = save(getTypicalAddressBook());
+        assertEquals(getTypicalAddressBook(), BinaryFileStorage.loadAddressBookFromSaveFile(file, 0));
+    }
+
+    @Test
+    public void loadAddressBookFromSaveFile_manyPersons_keepsOrder() throws Exception {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(10000000 + i))
+                    .withTags("friends", "group" + i % 7).build());
+        }
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        Path file = save(addressBook);
+
+        assertEquals(addressBook, BinaryFileStorage.loadAddressBookFromSaveFile(file, 0));
+        assertEquals(addressBook, BinaryFileStorage.loadAddressBookFromSaveFile(file, Long.MAX_VALUE));
+    }
+
+    @Test
+    public void loadAddressBookFromSaveFile_nonAsciiValues_success() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(new PersonBuilder(ALICE).withAddress("Stra\u00dfe 5, Z\u00fcrich \u6771\u4eac").build());
+        Path file = save(addressBook);
+
+        assertEquals(addressBook, BinaryFileStorage.loadAddressBookFromSaveFile(file, 0));
+    }
+
+    @Test
+    public void loadAddressBookFromSaveFile_trailingBytes_throwsDataConversionException() throws Exception {
+        Path file = save(getTypicalAddressBook());
+        byte[] saved = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(saved, saved.length + 1));
+
+        thrown.expect(DataConversionException.class);
+        BinaryFileStorage.loadAddressBookFromSaveFile(file);
+    }
+
+    @Test
+    public void loadAddressBookFromSaveFile_duplicatePersons_throwsIllegalValueException() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(Arrays.asList(ALICE, new PersonBuilder(ALICE).withPhone("99999999")
+                .withEmail("pauline@example.com").build()));
+        Path file = save(addressBook);
+        // give the second person the phone number of the first
+        byte[] saved = Files.readAllBytes(file);
+        String contents = new String(saved, StandardCharsets.ISO_8859_1);
+        int phone = contents.lastIndexOf("99999999");
+        System.arraycopy(ALICE.getPhone().value.getBytes(StandardCharsets.ISO_8859_1), 0, saved, phone, 8);
+        Files.write(file, saved);
+
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(XmlSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        BinaryFileStorage.loadAddressBookFromSaveFile(file);
+    }
+
+    private Path save(AddressBook addressBook) throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("addressbook.bin");
+        BinaryFileStorage.saveDataToFile(file, addressBook);
+        return file;
+    }
+}
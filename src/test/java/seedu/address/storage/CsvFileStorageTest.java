@@ -0,0 +1,139 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalModules.CS2100;
+import static seedu.address.testutil.TypicalOccasions.OCCASION_ONE;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.PersonBuilder;
+
+public class CsvFileStorageTest {
+
+    private static final String HEADER = "type,id,name,phone,email,address,moduleCode,moduleTitle,academicYear,"
+            + "semester,occasionName,occasionDate,location,tags,source,target";
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void exportDataToFile_linkedEntries_writesRowsAndLinkTable() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        addressBook.addModule(CS2100);
+        addressBook.addOccasion(OCCASION_ONE);
+        addressBook.insertPerson(ALICE, CS2100);
+        addressBook.insertPerson(addressBook.getPersonList().get(0), OCCASION_ONE);
+
+        List<String> expected = Arrays.asList(HEADER,
+                "person,p0,Alice Pauline,94351253,alice@example.com,\"123, Jurong West Ave 6, #08-111\","
+                        + ",,,,,,,friends,,",
+                "module,m0,,,,," + CS2100.getModuleCode() + "," + CS2100.getModuleTitle() + ","
+                        + CS2100.getAcademicYear() + "," + CS2100.getSemester() + ",,,,"
+                        + CS2100.getTags().iterator().next().tagName + ",,",
+                "occasion,o0,,,,,,,,," + OCCASION_ONE.getOccasionName() + "," + OCCASION_ONE.getOccasionDate() + ","
+                        + OCCASION_ONE.getOccasionLocation() + "," + OCCASION_ONE.getTags().iterator().next().tagName
+                        + ",,",
+                "student,,,,,,,,,,,,,,m0,p0",
+                "attendee,,,,,,,,,,,,,,o0,p0");
+        assertEquals(expected, export(addressBook));
+    }
+
+    @Test
+    public void exportDataToFile_specialCharacters_quotesFields() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(new PersonBuilder(BENSON).withAddress("5 \"Main\" Street").withTags("friends").build());
+
+        assertEquals("person,p0,Benson Meier,98765432,johnd@example.com,\"5 \"\"Main\"\" Street\",,,,,,,,friends,,",
+                export(addressBook).get(1));
+    }
+
+    @Test
+    public void exportDataToFile_missingFolder_throwsIOException() throws Exception {
+        thrown.expect(IOException.class);
+        CsvFileStorage.exportDataToFile(testFolder.getRoot().toPath().resolve("missing").resolve("exported.csv"),
+                new AddressBook());
+    }
+
+    @Test
+    public void importDataFromFile_exportedFile_readsSameEntriesAndLinks() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(new PersonBuilder(ALICE).withAddress("5 \"Main\", Street").build());
+        addressBook.addPerson(BENSON);
+        addressBook.addModule(CS2100);
+        addressBook.addOccasion(OCCASION_ONE);
+        addressBook.insertPerson(addressBook.getPersonList().get(0), CS2100);
+        addressBook.insertPerson(addressBook.getPersonList().get(1), OCCASION_ONE);
+        Path file = testFolder.getRoot().toPath().resolve("exported.csv");
+        CsvFileStorage.exportDataToFile(file, addressBook);
+
+        AddressBook imported = CsvFileStorage.importDataFromFile(file);
+
+        assertEquals(addressBook, imported);
+        assertTrue(imported.getPersonList().get(0).getModuleList().contains(CS2100));
+        assertTrue(imported.getModuleList().get(0).getStudents().contains(ALICE));
+        assertTrue(imported.getPersonList().get(1).getOccasionList().contains(OCCASION_ONE));
+        assertTrue(imported.getOccasionList().get(0).getAttendanceList().contains(BENSON));
+    }
+
+    @Test
+    public void importDataFromFile_someColumnsInOtherOrder_readsEntries() throws Exception {
+        Path file = write("name,type,email,phone,address,tags\n"
+                + "Alice Pauline,person,alice@example.com,94351253,\"123, Jurong West Ave 6, #08-111\",friends\n");
+
+        AddressBook imported = CsvFileStorage.importDataFromFile(file);
+
+        assertEquals(Arrays.asList(ALICE), imported.getPersonList());
+    }
+
+    @Test
+    public void importDataFromFile_invalidPhone_throwsIllegalValueException() throws Exception {
+        Path file = write("type,name,phone,email,address\nperson,Alice Pauline,abc,alice@example.com,Jurong\n");
+
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(String.format(AddressBookRecordReader.MESSAGE_INVALID_RECORD, 1,
+                Phone.MESSAGE_PHONE_CONSTRAINTS));
+        CsvFileStorage.importDataFromFile(file);
+    }
+
+    @Test
+    public void importDataFromFile_unterminatedQuote_throwsDataConversionException() throws Exception {
+        Path file = write("type,name\nperson,\"Alice\n");
+
+        thrown.expect(DataConversionException.class);
+        CsvFileStorage.importDataFromFile(file);
+    }
+
+    private Path write(String contents) throws IOException {
+        Path file = testFolder.getRoot().toPath().resolve("imported.csv");
+        Files.write(file, contents.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private List<String> export(AddressBook addressBook) throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("exported.csv");
+        CsvFileStorage.exportDataToFile(file, addressBook);
+        String contents = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        return Arrays.asList(contents.split("\r\n"));
+    }
+}
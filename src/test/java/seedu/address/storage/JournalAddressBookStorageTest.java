@@ -0,0 +1,259 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalModules.CS2100;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersonsAddressBook;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.xml.bind.JAXBException;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalAddressBookStorageTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournalAddressBookStorage(getTempFilePath("missing.xml")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterFirstSave_appendedToJournal() throws Exception {
+        Path filePath = getTempFilePath("ab.xml");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalPersonsAddressBook();
+        storage.saveAddressBook(original);
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.removePerson(ALICE);
+        original.addModule(CS2100);
+        storage.saveAddressBook(original);
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_noChanges_journalUnchanged() throws Exception {
+        Path filePath = getTempFilePath("ab.xml");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalPersonsAddressBook();
+        storage.saveAddressBook(original);
+        long journalSize = Files.size(JournalAddressBookStorage.getJournalFilePath(filePath));
+
+        storage.saveAddressBook(original);
+        assertEquals(journalSize, Files.size(JournalAddressBookStorage.getJournalFilePath(filePath)));
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_continuesJournal() throws Exception {
+        Path filePath = getTempFilePath("ab.xml");
+        AddressBook original = getTypicalPersonsAddressBook();
+        new JournalAddressBookStorage(filePath).saveAddressBook(original);
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        readBack.addPerson(IDA);
+        storage.saveAddressBook(readBack);
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertEquals(readBack, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_dropsLastRecord() throws Exception {
+        Path filePath = getTempFilePath("ab.xml");
+        Path journalPath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalPersonsAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        AddressBook beforeLastSave = new AddressBook(original);
+        long journalSizeBeforeLastSave = Files.size(journalPath);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+
+        try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.WRITE)) {
+            channel.truncate(Files.size(journalPath) - 5);
+        }
+
+        assertEquals(beforeLastSave, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(journalSizeBeforeLastSave, Files.size(journalPath));
+    }
+
+    @Test
+    public void readAddressBook_corruptedRecord_dropsCorruptedRecord() throws Exception {
+        Path filePath = getTempFilePath("ab.xml");
+        Path journalPath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalPersonsAddressBook();
+        storage.saveAddressBook(original);
+        AddressBook beforeLastSave = new AddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        byte[] journal = Files.readAllBytes(journalPath);
+        journal[journal.length - 2] ^= 1;
+        Files.write(journalPath, journal);
+
+        assertEquals(beforeLastSave, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_recordCannotBeApplied_keepsChangesBeforeRecord() throws Exception {
+        Path filePath = getTempFilePath("ab.xml");
+        Path journalPath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = getTypicalPersonsAddressBook();
+        new JournalAddressBookStorage(filePath).saveAddressBook(original);
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.readAddressBook();
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        AddressBook beforeBadRecord = new AddressBook(original);
+
+        // records with valid checksums, the first of which splices past the end of the person list
+        AddressBookJournal journal = new AddressBookJournal(journalPath);
+        journal.append(toBytes(XmlAdaptedListSplice.ofPersons(1000, 0, Collections.singletonList(IDA))));
+        journal.append(toBytes(XmlAdaptedListSplice.ofPersons(0, 0, Collections.singletonList(IDA))));
+
+        JournalAddressBookStorage readingStorage = new JournalAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(readingStorage.readAddressBook().get());
+        assertEquals(beforeBadRecord, readBack);
+
+        // the next save writes a new snapshot with the changes read, instead of appending after the bad record
+        readBack.addModule(CS2100);
+        readingStorage.saveAddressBook(readBack);
+        assertEquals(readBack, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(readBack, new AddressBook(new XmlAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_snapshotReplacedWithoutJournal_ignoresJournal() throws Exception {
+        Path filePath = getTempFilePath("ab.xml");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalPersonsAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        AddressBook replacement = new AddressBook();
+        replacement.addPerson(IDA);
+        new XmlAddressBookStorage(filePath).saveAddressBook(replacement);
+
+        assertEquals(replacement, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_journalOutgrowsSnapshot_compactsJournal() throws Exception {
+        Path filePath = getTempFilePath("ab.xml");
+        Path journalPath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = new AddressBook();
+        original.addPerson(ALICE);
+        storage.saveAddressBook(original);
+        long emptyJournalSize = Files.size(journalPath);
+
+        Person current = ALICE;
+        while (Files.size(journalPath) <= JournalAddressBookStorage.MIN_COMPACTION_BYTES) {
+            Person edited = new PersonBuilder(current).withAddress(current.getAddress().value + "a").build();
+            original.updatePerson(current, edited);
+            current = edited;
+            storage.saveAddressBook(original);
+        }
+        Person edited = new PersonBuilder(current).withAddress(current.getAddress().value + "a").build();
+        original.updatePerson(current, edited);
+        storage.saveAddressBook(original);
+
+        assertEquals(emptyJournalSize, Files.size(journalPath));
+        assertEquals(original, new AddressBook(new XmlAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_writesFullSnapshot() throws Exception {
+        Path otherPath = getTempFilePath("other.xml");
+        AddressBook original = getTypicalPersonsAddressBook();
+        new JournalAddressBookStorage(getTempFilePath("ab.xml")).saveAddressBook(original, otherPath);
+
+        assertFalse(Files.exists(JournalAddressBookStorage.getJournalFilePath(otherPath)));
+        assertEquals(original, new AddressBook(new XmlAddressBookStorage(otherPath).readAddressBook().get()));
+    }
+
+    @Test
+    public void diff_sameEntries_noChanges() {
+        List<Person> persons = Arrays.asList(ALICE, HOON);
+        assertTrue(JournalAddressBookStorage.diff(persons, Arrays.asList(ALICE, HOON)).isEmpty());
+    }
+
+    @Test
+    public void diff_entryReplaced_singleChange() {
+        Person editedHoon = new PersonBuilder(HOON).build();
+        List<int[]> changes = JournalAddressBookStorage.diff(Arrays.asList(ALICE, HOON, IDA),
+                Arrays.asList(ALICE, editedHoon, IDA));
+        assertEquals(Collections.singletonList(Arrays.asList(1, 1, 1, 2)), toLists(changes));
+    }
+
+    @Test
+    public void diff_entriesReordered_replacesReorderedEntries() {
+        List<int[]> changes = JournalAddressBookStorage.diff(Arrays.asList(ALICE, HOON, IDA),
+                Arrays.asList(ALICE, IDA, HOON));
+        assertEquals(Collections.singletonList(Arrays.asList(1, 2, 1, 3)), toLists(changes));
+    }
+
+    @Test
+    public void diff_entriesAddedAndRemoved_changesInOrder() {
+        List<int[]> changes = JournalAddressBookStorage.diff(Arrays.asList(ALICE, HOON), Arrays.asList(HOON, IDA));
+        assertEquals(Arrays.asList(Arrays.asList(0, 1, 0, 0), Arrays.asList(1, 0, 1, 2)), toLists(changes));
+
+        changes = JournalAddressBookStorage.diff(Collections.emptyList(), Arrays.asList(ALICE, HOON));
+        assertEquals(Collections.singletonList(Arrays.asList(0, 0, 0, 2)), toLists(changes));
+    }
+
+    private static List<List<Integer>> toLists(List<int[]> changes) {
+        List<List<Integer>> lists = new ArrayList<>();
+        for (int[] change : changes) {
+            lists.add(Arrays.asList(change[0], change[1], change[2], change[3]));
+        }
+        return lists;
+    }
+
+    private static byte[] toBytes(XmlAdaptedListSplice splice) throws JAXBException {
+        XmlJournalRecord record = new XmlJournalRecord();
+        record.addSplice(splice);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        XmlUtil.getContext(XmlJournalRecord.class).createMarshaller().marshal(record, out);
+        return out.toByteArray();
+    }
+
+    private Path getTempFilePath(String fileName) throws IOException {
+        return testFolder.getRoot().toPath().resolve(fileName);
+    }
+}
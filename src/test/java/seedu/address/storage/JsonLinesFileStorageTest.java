@@ -0,0 +1,111 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalModules.CS2100;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class JsonLinesFileStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void exportDataToFile_linkedEntries_writesOneObjectPerLine() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(new PersonBuilder(ALICE).withAddress("5 \"Main\" Street").build());
+        addressBook.addModule(CS2100);
+        addressBook.insertPerson(addressBook.getPersonList().get(0), CS2100);
+        Path file = testFolder.getRoot().toPath().resolve("exported.ndjson");
+
+        JsonLinesFileStorage.exportDataToFile(file, addressBook);
+
+        List<String> expected = Arrays.asList(
+                "{\"type\":\"person\",\"id\":\"p0\",\"name\":\"Alice Pauline\",\"phone\":\"94351253\","
+                        + "\"email\":\"alice@example.com\",\"address\":\"5 \\\"Main\\\" Street\","
+                        + "\"tags\":[\"friends\"]}",
+                "{\"type\":\"module\",\"id\":\"m0\",\"moduleCode\":\"" + CS2100.getModuleCode() + "\","
+                        + "\"moduleTitle\":\"" + CS2100.getModuleTitle() + "\","
+                        + "\"academicYear\":\"" + CS2100.getAcademicYear() + "\","
+                        + "\"semester\":\"" + CS2100.getSemester() + "\","
+                        + "\"tags\":[\"" + CS2100.getTags().iterator().next().tagName + "\"]}",
+                "{\"type\":\"student\",\"source\":\"m0\",\"target\":\"p0\"}");
+        assertEquals(expected, Files.readAllLines(file, StandardCharsets.UTF_8));
+        // every line, including the last one, ends with a line feed
+        byte[] contents = Files.readAllBytes(file);
+        assertEquals('\n', contents[contents.length - 1]);
+    }
+
+    @Test
+    public void exportDataToFile_emptyAddressBook_writesEmptyFile() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("exported.ndjson");
+        JsonLinesFileStorage.exportDataToFile(file, new AddressBook());
+        assertEquals(0, Files.size(file));
+    }
+
+    @Test
+    public void exportDataToFile_missingFolder_throwsIOException() throws Exception {
+        thrown.expect(IOException.class);
+        JsonLinesFileStorage.exportDataToFile(testFolder.getRoot().toPath().resolve("missing")
+                .resolve("exported.ndjson"), new AddressBook());
+    }
+
+    @Test
+    public void importDataFromFile_exportedFile_readsSameEntriesAndLinks() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        addressBook.addModule(CS2100);
+        addressBook.insertPerson(ALICE, CS2100);
+        Path file = testFolder.getRoot().toPath().resolve("exported.ndjson");
+        JsonLinesFileStorage.exportDataToFile(file, addressBook);
+
+        AddressBook imported = JsonLinesFileStorage.importDataFromFile(file);
+
+        assertEquals(addressBook, imported);
+        assertTrue(imported.getPersonList().get(0).getModuleList().contains(CS2100));
+        assertTrue(imported.getModuleList().get(0).getStudents().contains(ALICE));
+    }
+
+    @Test
+    public void importDataFromFile_unknownReference_throwsIllegalValueException() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("imported.ndjson");
+        Files.write(file, ("{\"type\":\"module\",\"id\":\"m0\",\"moduleCode\":\"CS2100\",\"moduleTitle\":\"\","
+                + "\"academicYear\":\"\",\"semester\":\"\"}\n"
+                + "{\"type\":\"student\",\"source\":\"m0\",\"target\":\"p0\"}\n")
+                .getBytes(StandardCharsets.UTF_8));
+
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(String.format(AddressBookRecordReader.MESSAGE_INVALID_RECORD, 2,
+                String.format(XmlLinkResolver.MESSAGE_UNKNOWN_REFERENCE, "p0")));
+        JsonLinesFileStorage.importDataFromFile(file);
+    }
+
+    @Test
+    public void importDataFromFile_notJson_throwsDataConversionException() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("imported.ndjson");
+        Files.write(file, "type,name\n".getBytes(StandardCharsets.UTF_8));
+
+        thrown.expect(DataConversionException.class);
+        JsonLinesFileStorage.importDataFromFile(file);
+    }
+}
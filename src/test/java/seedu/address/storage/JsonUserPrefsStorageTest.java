@@ -79,6 +79,14 @@ public class JsonUserPrefsStorageTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void readUserPrefs_negativeUndoLimits_defaultValuesUsed() throws DataConversionException {
+        UserPrefs expected = getTypicalUserPrefs();
+        UserPrefs actual = readUserPrefs("NegativeUndoLimitsUserPref.json").get();
+
+        assertEquals(expected, actual);
+    }
+
     private UserPrefs getTypicalUserPrefs() {
         UserPrefs userPrefs = new UserPrefs();
         userPrefs.setGuiSettings(1000, 500, 300, 100);
@@ -1,21 +1,31 @@
 package seedu.address.storage;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalPersonsAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.concurrent.CountDownLatch;
 
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.ExpectedException;
 import org.junit.rules.TemporaryFolder;
 
 import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.commons.events.storage.AddressBookSavePendingEvent;
+import seedu.address.commons.events.storage.AddressBookSavedEvent;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
+import seedu.address.commons.events.storage.ExportCompletedEvent;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
@@ -27,6 +37,8 @@ public class StorageManagerTest {
     public TemporaryFolder testFolder = new TemporaryFolder();
     @Rule
     public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
 
     private StorageManager storageManager;
 
@@ -84,6 +96,119 @@ public class StorageManagerTest {
     }
 
 
+    @Test
+    public void handleAddressBookChangedEvent_withSaveDelay_savesLatestChangesOnce() throws Exception {
+        XmlAddressBookStorageCountingStub addressBookStorage = new XmlAddressBookStorageCountingStub(
+                getTempFilePath("ab"));
+        Storage storage = new StorageManager(addressBookStorage, new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                60000);
+        AddressBook addressBook = new AddressBook();
+        storage.handleAddressBookChangedEvent(new AddressBookChangedEvent(addressBook));
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof AddressBookSavePendingEvent);
+        addressBook.addPerson(ALICE);
+        storage.handleAddressBookChangedEvent(new AddressBookChangedEvent(addressBook));
+        addressBook.addPerson(BENSON);
+        storage.handleAddressBookChangedEvent(new AddressBookChangedEvent(addressBook));
+        assertEquals(1, eventsCollectorRule.eventsCollector.getSize());
+        assertEquals(0, addressBookStorage.saveCount);
+
+        storage.flushAddressBook();
+        assertEquals(1, addressBookStorage.saveCount);
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof AddressBookSavedEvent);
+
+        // nothing left to save
+        storage.flushAddressBook();
+        assertEquals(1, addressBookStorage.saveCount);
+    }
+
+    @Test
+    public void handleAddressBookChangedEvent_withSaveDelayExceptionThrown_eventRaised() {
+        Storage storage = new StorageManager(new XmlAddressBookStorageExceptionThrowingStub(Paths.get("dummy")),
+                new JsonUserPrefsStorage(Paths.get("dummy")), 60000);
+        storage.handleAddressBookChangedEvent(new AddressBookChangedEvent(new AddressBook()));
+        storage.flushAddressBook();
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
+    }
+
+    @Test
+    public void constructor_negativeSaveDelay_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new StorageManager(new XmlAddressBookStorage(Paths.get("dummy")), new JsonUserPrefsStorage(Paths.get("dummy")),
+                -1);
+    }
+
+    @Test
+    public void exportAddressBook_laterChanges_exportsAddressBookAsItWas() throws Exception {
+        Path file = getTempFilePath("exported.xml");
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        AddressBook expected = new AddressBook(addressBook);
+
+        storageManager.exportAddressBook(addressBook, file, XmlFileStorage::exportDataToFile);
+        addressBook.addPerson(BENSON);
+        storageManager.flushExports();
+
+        assertEquals(expected, XmlFileStorage.loadAddressBookFromSaveFile(file));
+        ExportCompletedEvent event = (ExportCompletedEvent) eventsCollectorRule.eventsCollector.getMostRecent();
+        assertEquals(file, event.file);
+        assertTrue(event.isSuccessful());
+    }
+
+    @Test
+    public void exportAddressBook_exceptionThrown_failedEventRaised() {
+        storageManager.exportAddressBook(new AddressBook(), getTempFilePath("exported.xml"), (file, addressBook,
+                progress) -> {
+            throw new IOException("dummy exception");
+        });
+        storageManager.flushExports();
+
+        ExportCompletedEvent event = (ExportCompletedEvent) eventsCollectorRule.eventsCollector.getMostRecent();
+        assertFalse(event.isCancelled);
+        assertEquals("dummy exception", event.exception.getMessage());
+    }
+
+    @Test
+    public void cancelExports_unfinishedExport_cancelledAndFileDeleted() throws Exception {
+        Path file = getTempFilePath("exported.txt");
+        CountDownLatch started = new CountDownLatch(1);
+        storageManager.exportAddressBook(new AddressBook(), file, (exportedFile, addressBook, progress) ->
+                FileUtil.writeDirectly(exportedFile, out -> {
+                    progress.entryWritten();
+                    started.countDown();
+                    // never finishes on its own
+                    while (true) {
+                        out.write(0);
+                        progress.entryWritten();
+                    }
+                }));
+        started.await();
+
+        storageManager.cancelExports();
+
+        assertFalse(Files.exists(file));
+        ExportCompletedEvent event = (ExportCompletedEvent) eventsCollectorRule.eventsCollector.getMostRecent();
+        assertTrue(event.isCancelled);
+    }
+
+    /**
+     * A Stub class that counts how many times the address book is saved.
+     */
+    class XmlAddressBookStorageCountingStub extends XmlAddressBookStorage {
+
+        private int saveCount;
+
+        public XmlAddressBookStorageCountingStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            saveCount++;
+            super.saveAddressBook(addressBook, filePath);
+        }
+    }
+
     /**
      * A Stub class to throw an exception when the save method is called
      */
@@ -0,0 +1,83 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalModules.CS2100;
+import static seedu.address.testutil.TypicalOccasions.OCCASION_ONE;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.AddressBook;
+
+public class TxtFileStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void exportDataToFile_linkedEntries_writesEntriesAndLinksByName() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        addressBook.addModule(CS2100);
+        addressBook.addOccasion(OCCASION_ONE);
+        addressBook.insertPerson(ALICE, CS2100);
+        addressBook.insertPerson(addressBook.getPersonList().get(0), OCCASION_ONE);
+        Path file = testFolder.getRoot().toPath().resolve("exported.txt");
+
+        TxtFileStorage.exportDataToFile(file, addressBook);
+
+        List<String> expected = Arrays.asList("addressbook",
+                "persons",
+                "     name: Alice Pauline",
+                "     phone: 94351253",
+                "     email: alice@example.com",
+                "     address: 123, Jurong West Ave 6, #08-111",
+                "     tagged: friends",
+                "     module: " + CS2100.getModuleCode(),
+                "     occasion: " + OCCASION_ONE.getOccasionName(),
+                "",
+                "modules",
+                "     moduleCode: " + CS2100.getModuleCode(),
+                "     moduleTitle: " + CS2100.getModuleTitle(),
+                "     academicYear: " + CS2100.getAcademicYear(),
+                "     semester: " + CS2100.getSemester(),
+                "     student: Alice Pauline",
+                "     tagged: " + CS2100.getTags().iterator().next().tagName,
+                "",
+                "occasions",
+                "     occasionName: " + OCCASION_ONE.getOccasionName(),
+                "     occasionDateTime: " + OCCASION_ONE.getOccasionDate(),
+                "     location: " + OCCASION_ONE.getOccasionLocation(),
+                "     attendee: Alice Pauline",
+                "     tagged: " + OCCASION_ONE.getTags().iterator().next().tagName,
+                "");
+        assertEquals(expected, Files.readAllLines(file, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void exportDataToFile_emptyAddressBook_writesHeadingOnly() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("exported.txt");
+        TxtFileStorage.exportDataToFile(file, new AddressBook());
+        assertEquals(Arrays.asList("addressbook"), Files.readAllLines(file, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void exportDataToFile_missingFolder_throwsIOException() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("missing").resolve("exported.txt");
+        thrown.expect(IOException.class);
+        TxtFileStorage.exportDataToFile(file, new AddressBook());
+    }
+}
@@ -17,6 +17,7 @@ import org.junit.rules.ExpectedException;
 import org.junit.rules.TemporaryFolder;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
@@ -99,6 +100,22 @@ public class XmlAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_existingFile_previousAddressBookReadableFromBackup() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempAddressBook.xml");
+        AddressBook original = getTypicalPersonsAddressBook();
+        XmlAddressBookStorage xmlAddressBookStorage = new XmlAddressBookStorage(filePath);
+        xmlAddressBookStorage.saveAddressBook(original);
+
+        AddressBook modified = new AddressBook(original);
+        modified.addPerson(HOON);
+        xmlAddressBookStorage.saveAddressBook(modified);
+
+        assertEquals(modified, new AddressBook(xmlAddressBookStorage.readAddressBook().get()));
+        assertEquals(original,
+                new AddressBook(xmlAddressBookStorage.readAddressBook(FileUtil.getBackupPath(filePath)).get()));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -0,0 +1,152 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalModules.CS2100;
+import static seedu.address.testutil.TypicalOccasions.OCCASION_ONE;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.TypicalModules;
+import seedu.address.testutil.TypicalOccasions;
+import seedu.address.testutil.TypicalPersons;
+
+public class XmlFileStorageTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "XmlFileStorageTest");
+    private static final Path SERIALIZABLE_TEST_DATA_FOLDER = Paths.get("src", "test", "data",
+            "XmlSerializableAddressBookTest");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void loadAddressBookFromSaveFile_typicalPersonsFile_success() throws Exception {
+        assertEquals(TypicalPersons.getTypicalPersonsAddressBook(),
+                XmlFileStorage.loadAddressBookFromSaveFile(
+                        SERIALIZABLE_TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.xml")));
+    }
+
+    @Test
+    public void loadAddressBookFromSaveFile_typicalModulesFile_success() throws Exception {
+        assertEquals(TypicalModules.getTypicalModulesAddressBook(),
+                XmlFileStorage.loadAddressBookFromSaveFile(
+                        SERIALIZABLE_TEST_DATA_FOLDER.resolve("typicalModulesAddressBook.xml")));
+    }
+
+    @Test
+    public void loadAddressBookFromSaveFile_typicalOccasionsFile_success() throws Exception {
+        assertEquals(TypicalOccasions.getTypicalOccasionsAddressBook(),
+                XmlFileStorage.loadAddressBookFromSaveFile(
+                        SERIALIZABLE_TEST_DATA_FOLDER.resolve("typicalOccasionsAddressBook.xml")));
+    }
+
+    @Test
+    public void loadAddressBookFromSaveFile_typicalFiles_sameAsUnmarshalledAddressBook() throws Exception {
+        assertSameAsUnmarshalled(SERIALIZABLE_TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.xml"));
+        assertSameAsUnmarshalled(SERIALIZABLE_TEST_DATA_FOLDER.resolve("typicalModulesAddressBook.xml"));
+        assertSameAsUnmarshalled(SERIALIZABLE_TEST_DATA_FOLDER.resolve("typicalOccasionsAddressBook.xml"));
+    }
+
+    @Test
+    public void loadAddressBookFromSaveFile_unknownElementWithoutWhitespace_skipsUnknownElement() throws Exception {
+        AddressBook expected = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
+        assertEquals(expected, XmlFileStorage.loadAddressBookFromSaveFile(
+                TEST_DATA_FOLDER.resolve("compactWithUnknownElementAddressBook.xml")));
+    }
+
+    @Test
+    public void loadAddressBookFromSaveFile_duplicatePersons_throwsIllegalValueException() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(XmlSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        XmlFileStorage.loadAddressBookFromSaveFile(
+                SERIALIZABLE_TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.xml"));
+    }
+
+    @Test
+    public void loadAddressBookFromSaveFile_duplicateModules_throwsIllegalValueException() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(XmlSerializableAddressBook.MESSAGE_DUPLICATE_MODULE);
+        XmlFileStorage.loadAddressBookFromSaveFile(
+                SERIALIZABLE_TEST_DATA_FOLDER.resolve("duplicateModuleAddressBook.xml"));
+    }
+
+    @Test
+    public void loadAddressBookFromSaveFile_invalidPerson_throwsIllegalValueException() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        XmlFileStorage.loadAddressBookFromSaveFile(
+                SERIALIZABLE_TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.xml"));
+    }
+
+    @Test
+    public void loadAddressBookFromSaveFile_wrongRootElement_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        XmlFileStorage.loadAddressBookFromSaveFile(TEST_DATA_FOLDER.resolve("wrongRootAddressBook.xml"));
+    }
+
+    @Test
+    public void loadAddressBookFromSaveFile_missingFile_throwsFileNotFoundException() throws Exception {
+        thrown.expect(FileNotFoundException.class);
+        XmlFileStorage.loadAddressBookFromSaveFile(TEST_DATA_FOLDER.resolve("missing.xml"));
+    }
+
+    @Test
+    public void exportDataToFile_typicalAddressBook_readBackSame() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("exported.xml");
+        AddressBook original = getTypicalAddressBook();
+        XmlFileStorage.exportDataToFile(file, original);
+
+        assertEquals(original, XmlFileStorage.loadAddressBookFromSaveFile(file));
+        assertSameAsUnmarshalled(file);
+    }
+
+    @Test
+    public void exportDataToFile_linkedEntries_restoresLinks() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("exported.xml");
+        AddressBook original = new AddressBook();
+        original.addPerson(ALICE);
+        original.addModule(CS2100);
+        original.addOccasion(OCCASION_ONE);
+        original.insertPerson(ALICE, CS2100);
+        original.insertPerson(original.getPersonList().get(0), OCCASION_ONE);
+        XmlFileStorage.exportDataToFile(file, original);
+
+        AddressBook readBack = XmlFileStorage.loadAddressBookFromSaveFile(file);
+        assertEquals(original, readBack);
+        assertEquals(readBack.getModuleList(), readBack.getModulesWithStudent(ALICE));
+        assertEquals(readBack.getOccasionList(), readBack.getOccasionsWithAttendee(ALICE));
+    }
+
+    @Test
+    public void exportDataToFile_missingFolder_throwsIOException() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("missing").resolve("exported.xml");
+        thrown.expect(IOException.class);
+        XmlFileStorage.exportDataToFile(file, getTypicalAddressBook());
+    }
+
+    /**
+     * Asserts that streaming {@code file} gives the same address book as unmarshalling all of it at once.
+     */
+    private void assertSameAsUnmarshalled(Path file) throws Exception {
+        AddressBook expected = XmlUtil.getDataFromFile(file, XmlSerializableAddressBook.class).toModelType();
+        assertEquals(expected, XmlFileStorage.loadAddressBookFromSaveFile(file));
+    }
+}
@@ -0,0 +1,144 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalModules.CS2100;
+import static seedu.address.testutil.TypicalOccasions.OCCASION_ONE;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+public class XmlSerializableAddressBookLinkTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "XmlSerializableAddressBookTest");
+    private static final Path NESTED_LINKS_FILE = TEST_DATA_FOLDER.resolve("nestedLinksAddressBook.xml");
+    private static final Path UNKNOWN_REFERENCE_FILE = TEST_DATA_FOLDER.resolve("unknownReferenceAddressBook.xml");
+    private static final Path UNSUPPORTED_VERSION_FILE =
+            TEST_DATA_FOLDER.resolve("unsupportedVersionAddressBook.xml");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void constructor_linkedEntries_savesReferencesInsteadOfCopies() throws Exception {
+        Path file = save(getLinkedAddressBook());
+        String saved = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+
+        assertTrue(saved.contains("version=\"" + XmlSerializableAddressBook.CURRENT_VERSION + "\""));
+        assertTrue(saved.contains("<studentRef>p0</studentRef>"));
+        assertTrue(saved.contains("<attendeeRef>p0</attendeeRef>"));
+        assertTrue(saved.contains("<moduleRef>m0</moduleRef>"));
+        assertTrue(saved.contains("<occasionRef>o0</occasionRef>"));
+        assertFalse(saved.contains("<students>"));
+        assertFalse(saved.contains("<attendanceList>"));
+        assertFalse(saved.contains("<moduleList>"));
+    }
+
+    @Test
+    public void toModelType_savedLinkedEntries_restoresLinks() throws Exception {
+        AddressBook original = getLinkedAddressBook();
+        AddressBook fromFile = XmlUtil.getDataFromFile(save(original), XmlSerializableAddressBook.class)
+                .toModelType();
+
+        assertEquals(original, fromFile);
+        assertLinked(fromFile);
+    }
+
+    @Test
+    public void loadAddressBookFromSaveFile_savedLinkedEntries_restoresLinks() throws Exception {
+        AddressBook original = getLinkedAddressBook();
+        AddressBook fromFile = XmlFileStorage.loadAddressBookFromSaveFile(save(original));
+
+        assertEquals(original, fromFile);
+        assertLinked(fromFile);
+    }
+
+    @Test
+    public void constructor_linkToPersonNotInAddressBook_savesCopy() throws Exception {
+        AddressBook addressBook = getLinkedAddressBook();
+        addressBook.addPerson(BENSON);
+        addressBook.insertPerson(BENSON, addressBook.getModuleList().get(0));
+        addressBook.removePerson(BENSON);
+
+        AddressBook fromFile = XmlUtil.getDataFromFile(save(addressBook), XmlSerializableAddressBook.class)
+                .toModelType();
+
+        assertEquals(2, fromFile.getModuleList().get(0).getStudents().asUnmodifiableObservableList().size());
+        assertEquals(1, fromFile.getModulesWithStudent(BENSON).size());
+    }
+
+    @Test
+    public void toModelType_nestedLinksFile_restoresLinks() throws Exception {
+        AddressBook fromFile = XmlUtil.getDataFromFile(NESTED_LINKS_FILE, XmlSerializableAddressBook.class)
+                .toModelType();
+
+        assertEquals(Collections.singletonList(fromFile.getModuleList().get(0)),
+                fromFile.getModulesWithStudent(ALICE));
+        assertEquals(Collections.singletonList(fromFile.getPersonList().get(0)),
+                fromFile.getPersonsWithModule(CS2100));
+    }
+
+    @Test
+    public void toModelType_unknownReference_throwsIllegalValueException() throws Exception {
+        XmlSerializableAddressBook dataFromFile = XmlUtil.getDataFromFile(UNKNOWN_REFERENCE_FILE,
+                XmlSerializableAddressBook.class);
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(String.format(XmlLinkResolver.MESSAGE_UNKNOWN_REFERENCE, "p1"));
+        dataFromFile.toModelType();
+    }
+
+    @Test
+    public void toModelType_unsupportedVersion_throwsIllegalValueException() throws Exception {
+        XmlSerializableAddressBook dataFromFile = XmlUtil.getDataFromFile(UNSUPPORTED_VERSION_FILE,
+                XmlSerializableAddressBook.class);
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(String.format(XmlSerializableAddressBook.MESSAGE_UNSUPPORTED_VERSION, 99));
+        dataFromFile.toModelType();
+    }
+
+    /**
+     * Returns an address book holding {@code ALICE}, who takes {@code CS2100} and attends {@code OCCASION_ONE}.
+     */
+    private static AddressBook getLinkedAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        addressBook.addModule(CS2100);
+        addressBook.addOccasion(OCCASION_ONE);
+        addressBook.insertPerson(ALICE, CS2100);
+        addressBook.insertPerson(addressBook.getPersonList().get(0), OCCASION_ONE);
+        return addressBook;
+    }
+
+    private static void assertLinked(AddressBook addressBook) {
+        Person alice = addressBook.getPersonList().get(0);
+        assertEquals(Collections.singletonList(alice), addressBook.getPersonsWithModule(CS2100));
+        assertEquals(Collections.singletonList(alice), addressBook.getPersonsWithOccasion(OCCASION_ONE));
+        assertEquals(addressBook.getModuleList(), addressBook.getModulesWithStudent(ALICE));
+        assertEquals(addressBook.getOccasionList(), addressBook.getOccasionsWithAttendee(ALICE));
+    }
+
+    private Path save(AddressBook addressBook) throws Exception {
+        Path file = testFolder.newFile("addressbook.xml").toPath();
+        XmlUtil.saveDataToFile(file, new XmlSerializableAddressBook(addressBook));
+        return file;
+    }
+}
@@ -2,9 +2,17 @@ package seedu.address.ui;
 
 import static org.junit.Assert.assertEquals;
 import static seedu.address.testutil.EventsUtil.postNow;
+import static seedu.address.ui.StatusBarFooter.EXPORT_STATUS_CANCELLED;
+import static seedu.address.ui.StatusBarFooter.EXPORT_STATUS_DONE;
+import static seedu.address.ui.StatusBarFooter.EXPORT_STATUS_FAILED;
+import static seedu.address.ui.StatusBarFooter.EXPORT_STATUS_PROGRESS;
+import static seedu.address.ui.StatusBarFooter.SAVE_STATUS_FAILED;
+import static seedu.address.ui.StatusBarFooter.SAVE_STATUS_PENDING;
+import static seedu.address.ui.StatusBarFooter.SAVE_STATUS_SAVED;
 import static seedu.address.ui.StatusBarFooter.SYNC_STATUS_INITIAL;
 import static seedu.address.ui.StatusBarFooter.SYNC_STATUS_UPDATED;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Clock;
@@ -19,6 +27,11 @@ import org.junit.Test;
 
 import guitests.guihandles.StatusBarFooterHandle;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.commons.events.storage.AddressBookSavePendingEvent;
+import seedu.address.commons.events.storage.AddressBookSavedEvent;
+import seedu.address.commons.events.storage.DataSavingExceptionEvent;
+import seedu.address.commons.events.storage.ExportCompletedEvent;
+import seedu.address.commons.events.storage.ExportProgressEvent;
 import seedu.address.model.AddressBook;
 
 public class StatusBarFooterTest extends GuiUnitTest {
@@ -64,6 +77,34 @@ public class StatusBarFooterTest extends GuiUnitTest {
                 String.format(SYNC_STATUS_UPDATED, new Date(injectedClock.millis()).toString()));
     }
 
+    @Test
+    public void display_saveStatus() {
+        postNow(new AddressBookSavePendingEvent());
+        assertEquals(SAVE_STATUS_PENDING, statusBarFooterHandle.getSaveStatus());
+
+        postNow(new DataSavingExceptionEvent(new IOException("disk full")));
+        assertEquals(String.format(SAVE_STATUS_FAILED, "disk full"), statusBarFooterHandle.getSaveStatus());
+
+        postNow(new AddressBookSavedEvent());
+        assertEquals(SAVE_STATUS_SAVED, statusBarFooterHandle.getSaveStatus());
+    }
+
+    @Test
+    public void display_exportStatus() {
+        Path file = Paths.get("exported.xml");
+        postNow(new ExportProgressEvent(file, 1, 4));
+        assertEquals(String.format(EXPORT_STATUS_PROGRESS, file, 25), statusBarFooterHandle.getExportStatus());
+
+        postNow(new ExportCompletedEvent(file, false, null));
+        assertEquals(String.format(EXPORT_STATUS_DONE, file), statusBarFooterHandle.getExportStatus());
+
+        postNow(new ExportCompletedEvent(file, false, new IOException("disk full")));
+        assertEquals(String.format(EXPORT_STATUS_FAILED, file, "disk full"), statusBarFooterHandle.getExportStatus());
+
+        postNow(new ExportCompletedEvent(file, true, null));
+        assertEquals(String.format(EXPORT_STATUS_CANCELLED, file), statusBarFooterHandle.getExportStatus());
+    }
+
     /**
      * Asserts that the save location matches that of {@code expectedSaveLocation}, and the
      * sync status matches that of {@code expectedSyncStatus}.